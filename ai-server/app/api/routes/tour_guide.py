@@ -1,5 +1,9 @@
 """Tour Guide Chat Route"""
+import json
+from typing import Iterator
+
 from fastapi import APIRouter, Body
+from fastapi.responses import StreamingResponse
 
 from app.schemas.tour_guide import TourGuideChatRequest, TourGuideChatResponse
 from app.services.tour_guide import TourGuideService
@@ -23,3 +27,40 @@ async def chat(
         tour_context=safe_request.tour_context,
         history=safe_request.history,
     )
+
+
+@router.post("/chat/stream")
+def chat_stream(
+    request: TourGuideChatRequest | None = Body(default=None),
+) -> StreamingResponse:
+    """
+    Tour Guide AI Chat (Server-Sent Events)
+
+    - `data: {"delta": "..."}` per generated text chunk
+    - `event: done` with `data: {"text": "<full answer>", "model", "promptTokens", "completionTokens"}` at the end
+    """
+    service = TourGuideService()
+    safe_request = request or TourGuideChatRequest()
+
+    def events() -> Iterator[str]:
+        parts: list[str] = []
+        for delta in service.chat_stream(
+            tour_context=safe_request.tour_context,
+            history=safe_request.history,
+        ):
+            parts.append(delta)
+            yield f"data: {json.dumps({'delta': delta}, ensure_ascii=False)}\n\n"
+        text = "".join(parts).strip()
+        done = {
+            "text": text,
+            "model": service.last_model,
+            "promptTokens": service.last_prompt_tokens,
+            "completionTokens": service.last_completion_tokens,
+        }
+        yield f"event: done\ndata: {json.dumps(done, ensure_ascii=False)}\n\n"
+
+    return StreamingResponse(
+        events(),
+        media_type="text/event-stream",
+        headers={"Cache-Control": "no-cache", "X-Accel-Buffering": "no"},
+    )
@@ -26,6 +26,9 @@ class Settings(BaseSettings):
 
     # PostgreSQL (for Pgvector RAG - shared with Spring Boot)
     database_url: str = ""
+    # ANN index mode, must match Spring Boot app.rag.vector-index (full | halfvec | binary)
+    rag_vector_index: str = "full"
+    rag_rerank_factor: int = 4
 
     @property
     def is_openai_configured(self) -> bool:
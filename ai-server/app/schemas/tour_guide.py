@@ -29,3 +29,12 @@ class TourGuideChatResponse(BaseModel):
     """Tour Guide Chat Response"""
 
     text: str = Field(..., description="AI Generated Response")
+    model: str | None = Field(default=None, description="Model used for the answer")
+    prompt_tokens: int | None = Field(
+        default=None, alias="promptTokens", description="Prompt token usage"
+    )
+    completion_tokens: int | None = Field(
+        default=None, alias="completionTokens", description="Completion token usage"
+    )
+
+    model_config = {"populate_by_name": True}
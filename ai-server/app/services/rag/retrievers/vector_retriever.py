@@ -16,6 +16,8 @@ KNOWLEDGE_KEYWORDS = [
     "문화", "건축", "이름", "만든", "지었다", "세운", "알려", "소개",
 ]
 
+# Must match the space Spring Boot used to embed tour_knowledge_embeddings
+# (app.embedding.provider=openai, app.embedding.dimensions=1536); other providers are not comparable.
 OPENAI_EMBEDDING_URL = "https://api.openai.com/v1/embeddings"
 EMBEDDING_MODEL = "text-embedding-3-small"
 EMBEDDING_DIM = 1536
@@ -52,6 +54,41 @@ def _embed_text(text: str) -> list[float] | None:
         return None
 
 
+# Candidate ordering that matches the ANN index created by Spring Boot's PgvectorInit
+_CANDIDATE_ORDER_BY = {
+    "halfvec": "embedding::halfvec(1536) <=> %s::vector::halfvec(1536)",
+    "binary": "binary_quantize(embedding)::bit(1536) <~> binary_quantize(%s::vector)",
+}
+
+
+def _search_query(index_mode: str, vector_str: str, limit: int, rerank_factor: int) -> tuple[str, tuple]:
+    """Build the similarity query. Quantized modes over-fetch from the index and re-rank on the full vector."""
+    order_by = _CANDIDATE_ORDER_BY.get((index_mode or "full").strip().lower())
+    if order_by is None:
+        return (
+            """
+            SELECT content FROM tour_knowledge_embeddings
+            WHERE embedding IS NOT NULL
+            ORDER BY embedding <=> %s::vector
+            LIMIT %s
+            """,
+            (vector_str, limit),
+        )
+    return (
+        f"""
+        SELECT content FROM (
+            SELECT content, embedding FROM tour_knowledge_embeddings
+            WHERE embedding IS NOT NULL
+            ORDER BY {order_by}
+            LIMIT %s
+        ) candidates
+        ORDER BY embedding <=> %s::vector
+        LIMIT %s
+        """,
+        (vector_str, limit * max(1, rerank_factor), vector_str, limit),
+    )
+
+
 class VectorRetriever(BaseRetriever):
     """
     Pgvector similarity search for tour knowledge.
@@ -85,19 +122,12 @@ class VectorRetriever(BaseRetriever):
 
         vector_str = "[" + ",".join(str(x) for x in embedding) + "]"
         limit = 5
+        sql, params = _search_query(settings.rag_vector_index, vector_str, limit, settings.rag_rerank_factor)
 
         try:
             with psycopg.connect(settings.database_url) as conn:
                 with conn.cursor() as cur:
-                    cur.execute(
-                        """
-                        SELECT content FROM tour_knowledge_embeddings
-                        WHERE embedding IS NOT NULL
-                        ORDER BY embedding <=> %s::vector
-                        LIMIT %s
-                        """,
-                        (vector_str, limit),
-                    )
+                    cur.execute(sql, params)
                     rows = cur.fetchall()
             if not rows:
                 return None
@@ -1,5 +1,7 @@
 """Tour Guide AI Service"""
 import logging
+from typing import Iterator
+
 from openai import OpenAI
 
 from app.config import get_settings
@@ -79,6 +81,10 @@ class TourGuideService:
 
     def __init__(self) -> None:
         self._settings = get_settings()
+        # chat_stream() 종료 후 route가 done 이벤트에 실어 보내는 사용량 (요청마다 새 인스턴스)
+        self.last_model: str | None = None
+        self.last_prompt_tokens: int | None = None
+        self.last_completion_tokens: int | None = None
 
     def chat(self, tour_context: str, history: list[ChatMessage]) -> TourGuideChatResponse:
         """
@@ -89,58 +95,105 @@ class TourGuideService:
             return TourGuideChatResponse(text=DISABLED_MESSAGE)
 
         try:
-            # RAG: Collect additional context for the question (weather, tour information, etc.).
-            enricher = RAGContextEnricher()
-            last_user_msg = ""
-            if history:
-                for h in reversed(history):
-                    if h.role == "user" and h.content:
-                        last_user_msg = h.content
-                        break
-            if not last_user_msg and tour_context:
-                last_user_msg = tour_context
-            rag_context = enricher.enrich(
-                query=last_user_msg,
-                tour_context=tour_context or "",
-                history=history or [],
-            )
-
-            system_content = f"{SYSTEM_PROMPT}\n\n[투어 컨텍스트]\n{tour_context or ''}"
-            if rag_context:
-                system_content += f"\n\n[추가 컨텍스트 - 반드시 활용할 것]\n{rag_context}"
-
             client = OpenAI(api_key=self._settings.openai_api_key)
-            messages = [
-                {
-                    "role": "system",
-                    "content": system_content,
-                },
-            ]
-            for h in history or []:
-                role = "user" if h.role == "user" else "assistant"
-                messages.append({"role": role, "content": h.content or ""})
-
-            # 마지막 사용자 질문이 OpenAI 호출의 끝 메시지로 확실히 전달되도록 보장
-            # (히스토리 정렬/가공 이슈가 있더라도 현재 질문을 놓치지 않기 위함)
-            if last_user_msg:
-                last_msg = messages[-1] if messages else None
-                if (
-                    not last_msg
-                    or last_msg.get("role") != "user"
-                    or (last_msg.get("content") or "").strip() != last_user_msg.strip()
-                ):
-                    messages.append({"role": "user", "content": last_user_msg})
-
             completion = client.chat.completions.create(
                 model=self._settings.openai_model,
-                messages=messages,
+                messages=self._build_messages(tour_context, history),
                 max_tokens=500,
                 temperature=0.6,
             )
 
             text = (completion.choices[0].message.content or "").strip()
-            return TourGuideChatResponse(text=text or EMPTY_MESSAGE)
+            usage = completion.usage
+            return TourGuideChatResponse(
+                text=text or EMPTY_MESSAGE,
+                model=completion.model,
+                prompt_tokens=usage.prompt_tokens if usage else None,
+                completion_tokens=usage.completion_tokens if usage else None,
+            )
 
         except Exception as e:
             logger.exception("OpenAI API error: %s", e)
             return TourGuideChatResponse(text=ERROR_MESSAGE)
+
+    def chat_stream(self, tour_context: str, history: list[ChatMessage]) -> Iterator[str]:
+        """
+        Same as chat(), but yields the answer as text deltas while OpenAI generates it.
+        On failure the fallback message is yielded as the (last) delta.
+        """
+        if not self._settings.is_openai_configured:
+            yield DISABLED_MESSAGE
+            return
+
+        emitted = False
+        try:
+            client = OpenAI(api_key=self._settings.openai_api_key)
+            stream = client.chat.completions.create(
+                model=self._settings.openai_model,
+                messages=self._build_messages(tour_context, history),
+                max_tokens=500,
+                temperature=0.6,
+                stream=True,
+                stream_options={"include_usage": True},
+            )
+            for chunk in stream:
+                self.last_model = chunk.model or self.last_model
+                if chunk.usage:
+                    self.last_prompt_tokens = chunk.usage.prompt_tokens
+                    self.last_completion_tokens = chunk.usage.completion_tokens
+                if not chunk.choices:
+                    continue
+                delta = chunk.choices[0].delta.content
+                if delta:
+                    emitted = True
+                    yield delta
+            if not emitted:
+                yield EMPTY_MESSAGE
+
+        except Exception as e:
+            logger.exception("OpenAI API stream error: %s", e)
+            yield ("\n" if emitted else "") + ERROR_MESSAGE
+
+    def _build_messages(self, tour_context: str, history: list[ChatMessage]) -> list[dict]:
+        """System prompt (with RAG context) + conversation messages for OpenAI."""
+        # RAG: Collect additional context for the question (weather, tour information, etc.).
+        enricher = RAGContextEnricher()
+        last_user_msg = ""
+        if history:
+            for h in reversed(history):
+                if h.role == "user" and h.content:
+                    last_user_msg = h.content
+                    break
+        if not last_user_msg and tour_context:
+            last_user_msg = tour_context
+        rag_context = enricher.enrich(
+            query=last_user_msg,
+            tour_context=tour_context or "",
+            history=history or [],
+        )
+
+        system_content = f"{SYSTEM_PROMPT}\n\n[투어 컨텍스트]\n{tour_context or ''}"
+        if rag_context:
+            system_content += f"\n\n[추가 컨텍스트 - 반드시 활용할 것]\n{rag_context}"
+
+        messages = [
+            {
+                "role": "system",
+                "content": system_content,
+            },
+        ]
+        for h in history or []:
+            role = "user" if h.role == "user" else "assistant"
+            messages.append({"role": role, "content": h.content or ""})
+
+        # 마지막 사용자 질문이 OpenAI 호출의 끝 메시지로 확실히 전달되도록 보장
+        # (히스토리 정렬/가공 이슈가 있더라도 현재 질문을 놓치지 않기 위함)
+        if last_user_msg:
+            last_msg = messages[-1] if messages else None
+            if (
+                not last_msg
+                or last_msg.get("role") != "user"
+                or (last_msg.get("content") or "").strip() != last_user_msg.strip()
+            ):
+                messages.append({"role": "user", "content": last_user_msg})
+        return messages
@@ -177,6 +177,8 @@ export type GuideAssetRequest = {
 };
 
 export type GuideLineRequest = {
+  /** 기존 라인 id (새 라인이면 생략). 보내야 진행 중인 채팅 세션 위치가 유지된다 */
+  id?: number;
   text: string;
   assets: GuideAssetRequest[];
 };
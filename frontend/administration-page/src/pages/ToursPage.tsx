@@ -991,6 +991,7 @@ function GuideEditor({
           lines:
             (s.lines?.length ?? 0) > 0
               ? (s.lines ?? []).map((l) => ({
+                  id: l.id,
                   text: l.text,
                   assets: (l.assets ?? []).map((a) => ({
                     url: a.url,
@@ -1157,6 +1158,7 @@ function GuideEditor({
         nextAction,
         missionStepId: nextAction === 'MISSION_CHOICE' ? step.missionStepId : null,
         lines: validLines.map((l) => ({
+          id: l.id,
           text: l.text.trim(),
           assets: l.assets.filter((a) => a.url.trim()),
         })),
@@ -0,0 +1,17 @@
+-- 스크립트 턴 지연 재생 전환 (1/2: 읽기 경로)
+-- chat_sessions.cursor_step_index 가 spot_script_lines 재생 순서를 직접 가리키므로
+-- 기존에 chat_turns 로 복사해 두던 SCRIPT 턴은 더 이상 읽지 않는다 (히스토리 조회에서 건너뜀).
+-- 커서 인덱스 의미(재생한 스크립트 라인 수)는 그대로라 세션 진행 상태는 유지된다.
+-- SCRIPT 턴 행은 이 단계에서 지우지 않는다. 새 버전이 안정화된 뒤 V005로 보관 후 정리한다.
+
+-- 복사된 스크립트의 언어를 세션 언어로 기록 (이후 같은 언어 스크립트로 이어서 재생)
+UPDATE chat_sessions cs
+SET language = src.language
+FROM (
+    SELECT DISTINCT ON (t.session_id) t.session_id, st.language
+    FROM chat_turns t
+             JOIN spot_content_steps st ON st.id = t.step_id
+    WHERE t.source = 'SCRIPT'
+    ORDER BY t.session_id, t.id
+) src
+WHERE cs.id = src.session_id;
@@ -0,0 +1,32 @@
+-- 스크립트 턴 지연 재생 전환 (2/2: 정리)
+-- V004 와 지연 재생 버전이 배포되어 안정화된 뒤에 적용한다 (이전 버전으로 롤백할 일이 없을 때).
+-- 삭제 전에 SCRIPT 턴과 첨부를 *_script_archive 테이블로 옮겨 두므로 아래 복구 쿼리로 되돌릴 수 있다.
+--
+-- 복구:
+--   INSERT INTO chat_turns SELECT * FROM chat_turns_script_archive ON CONFLICT DO NOTHING;
+--   INSERT INTO chat_turn_assets SELECT * FROM chat_turn_assets_script_archive ON CONFLICT DO NOTHING;
+-- 보관 테이블은 더 필요 없다고 확인되면 DROP TABLE 로 지운다.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS chat_turns_script_archive AS
+SELECT * FROM chat_turns WHERE false;
+
+CREATE TABLE IF NOT EXISTS chat_turn_assets_script_archive AS
+SELECT * FROM chat_turn_assets WHERE false;
+
+INSERT INTO chat_turn_assets_script_archive
+SELECT a.* FROM chat_turn_assets a
+WHERE a.turn_id IN (SELECT id FROM chat_turns WHERE source = 'SCRIPT');
+
+INSERT INTO chat_turns_script_archive
+SELECT t.* FROM chat_turns t
+WHERE t.source = 'SCRIPT';
+
+DELETE FROM chat_turn_assets
+WHERE turn_id IN (SELECT id FROM chat_turns WHERE source = 'SCRIPT');
+
+DELETE FROM chat_turns
+WHERE source = 'SCRIPT';
+
+COMMIT;
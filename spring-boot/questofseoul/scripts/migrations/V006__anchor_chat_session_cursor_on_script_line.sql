@@ -0,0 +1,31 @@
+-- 채팅 세션 커서를 스크립트 라인 id 기준으로 고정
+-- cursor_step_index(재생한 라인 수)만으로는 관리자가 가이드 라인을 추가/삭제하면 위치가 밀리므로,
+-- 마지막으로 재생한 라인(spot_script_lines.id)을 함께 기록하고 커서는 그 라인 다음으로 계산한다.
+-- 기존 세션은 현재 스크립트 재생 순서(GUIDE 스텝 step_index → 라인 seq, id)에서 cursor_step_index 번째 라인으로 채운다.
+-- (가이드를 이미 수정한 스팟은 현재 순서 기준 위치로 고정된다)
+
+BEGIN;
+
+ALTER TABLE chat_sessions ADD COLUMN IF NOT EXISTS cursor_script_line_id BIGINT;
+
+-- 커서가 스크립트 길이보다 크면(완료 후 라인 삭제) 마지막 라인으로 채운다
+UPDATE chat_sessions cs
+SET cursor_script_line_id = played.line_id
+FROM (
+    SELECT DISTINCT ON (s.id) s.id AS session_id, l.line_id
+    FROM chat_sessions s
+             JOIN LATERAL (
+        SELECT sl.id AS line_id, row_number() OVER (ORDER BY st.step_index, sl.seq, sl.id) AS position
+        FROM spot_content_steps st
+                 JOIN spot_script_lines sl ON sl.step_id = st.id
+        WHERE st.spot_id = s.spot_id
+          AND st.kind = 'GUIDE'
+          AND st.language = s.language
+        ) l ON l.position <= s.cursor_step_index
+    WHERE s.cursor_step_index > 0
+      AND s.cursor_script_line_id IS NULL
+    ORDER BY s.id, l.position DESC
+) played
+WHERE cs.id = played.session_id;
+
+COMMIT;
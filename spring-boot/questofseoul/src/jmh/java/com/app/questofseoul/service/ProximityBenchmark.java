@@ -0,0 +1,97 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.entity.TourSpot;
+import com.app.questofseoul.domain.enums.ProgressStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 근접 체크 경로: 거리 계산, 투어 그리드 조립, 좌표 → 반경 포함 스팟 조회, 가이드 후보 정렬.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProximityBenchmark {
+
+    private static final int QUERY_POINTS = 1024;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int spotCount;
+
+    private List<TourSpot> spots;
+    private TourSpotSpatialIndex.TourSpotGrid grid;
+    private double[][] points;
+    private List<List<TourSpotSpatialIndex.SpotHit>> hitsByPoint;
+    private Map<Long, ProgressStatus> progressStatusBySpotId;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        spots = SyntheticTours.spots(SyntheticTours.tour(1L), spotCount);
+        grid = TourSpotSpatialIndex.build(spots);
+        points = SyntheticTours.queryPoints(spots, QUERY_POINTS);
+        hitsByPoint = new ArrayList<>(QUERY_POINTS);
+        for (double[] point : points) {
+            hitsByPoint.add(grid.findContaining(point[0], point[1]));
+        }
+        // 라우트 앞쪽 1/3 완료, 그다음 하나 스킵
+        progressStatusBySpotId = new HashMap<>();
+        List<Long> routeSpotIds = grid.routeSpotIds();
+        int completed = routeSpotIds.size() / 3;
+        for (int i = 0; i < completed; i++) {
+            progressStatusBySpotId.put(routeSpotIds.get(i), ProgressStatus.COMPLETED);
+        }
+        if (completed < routeSpotIds.size()) {
+            progressStatusBySpotId.put(routeSpotIds.get(completed), ProgressStatus.SKIPPED);
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (QUERY_POINTS - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public double haversineM() {
+        double[] point = points[next()];
+        return TourSpotSpatialIndex.haversineM(point[0], point[1], SyntheticTours.BASE_LAT, SyntheticTours.BASE_LNG);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public TourSpotSpatialIndex.TourSpotGrid buildGrid() {
+        return TourSpotSpatialIndex.build(spots);
+    }
+
+    @Benchmark
+    public List<TourSpotSpatialIndex.SpotHit> findContaining() {
+        double[] point = points[next()];
+        return grid.findContaining(point[0], point[1]);
+    }
+
+    @Benchmark
+    public List<TourSpotSpatialIndex.SpotHit> rankGuideCandidates() {
+        return ProximityService.rankGuideCandidates(hitsByPoint.get(next()), grid.routeSpotIds(), progressStatusBySpotId);
+    }
+
+    /** 요청 한 번의 인메모리 부분 (조회 + 정렬) */
+    @Benchmark
+    public List<TourSpotSpatialIndex.SpotHit> findAndRank() {
+        double[] point = points[next()];
+        return ProximityService.rankGuideCandidates(grid.findContaining(point[0], point[1]),
+                grid.routeSpotIds(), progressStatusBySpotId);
+    }
+}
@@ -0,0 +1,127 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.enums.StepNextAction;
+import com.app.questofseoul.dto.tour.ProximityResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 스크립트 턴 재생 경로: 스텝 경계 판정, 다음 턴 요청(scriptLineId → 인덱스 → 액션), 히스토리 재생(전체 라인 액션).
+ * 스크립트는 스텝당 4라인, 3스텝마다 MISSION_CHOICE 스텝(연결 미션 유무 교대)으로 구성한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScriptPlaybackBenchmark {
+
+    private static final int LINES_PER_STEP = 4;
+    private static final int REQUESTS = 1024;
+    private static final Long SESSION_ID = 1L;
+    private static final Long SPOT_ID = 1L;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int lineCount;
+
+    private GuideScript script;
+    private ScriptTurnActionResolver resolver;
+    private Supplier<Set<Long>> attemptedStepIds;
+    private int[] requestedIndexes;
+    private Long[] requestedTurnIds;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        script = script(lineCount);
+        // 시도 이력은 요청 전에 로드된 것으로 보고 저장소 없이 고정 집합을 넘긴다
+        resolver = new ScriptTurnActionResolver(null);
+        Set<Long> attempted = script.missionSteps().isEmpty()
+                ? Set.of() : Set.of(script.missionSteps().get(0).stepId());
+        attemptedStepIds = () -> attempted;
+
+        Random random = new Random(SyntheticTours.SEED);
+        requestedIndexes = new int[REQUESTS];
+        requestedTurnIds = new Long[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            requestedIndexes[i] = random.nextInt(lineCount);
+            requestedTurnIds[i] = script.line(requestedIndexes[i]).scriptLineId();
+        }
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (REQUESTS - 1);
+        return cursor;
+    }
+
+    @Benchmark
+    public boolean isStepBoundary() {
+        return script.isStepBoundary(requestedIndexes[next()]);
+    }
+
+    /** 다음 턴 요청 한 번: scriptLineId 조회 후 액션 계산 */
+    @Benchmark
+    public ProximityResponse.ActionDto resolveRequestedTurn() {
+        int index = script.indexOf(requestedTurnIds[next()]);
+        return resolver.resolve(SESSION_ID, SPOT_ID, script, index, attemptedStepIds);
+    }
+
+    /** 채팅 히스토리 재생: 스크립트 끝까지 라인별 액션 계산 */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void replayHistory(Blackhole blackhole) {
+        for (int i = 0; i < script.size(); i++) {
+            blackhole.consume(resolver.resolve(SESSION_ID, SPOT_ID, script, i, attemptedStepIds));
+            blackhole.consume(script.isStepBoundary(i));
+        }
+    }
+
+    /** {@link GuideScriptCache}와 같은 규칙({@link GuideScriptCache#compileAction})으로 라인 액션을 채운 합성 스크립트 */
+    static GuideScript script(int lineCount) {
+        List<GuideScript.MissionStep> missionSteps = new ArrayList<>();
+        for (int stepIndex = 2; stepIndex * LINES_PER_STEP < lineCount; stepIndex += 3) {
+            missionSteps.add(new GuideScript.MissionStep(900L + stepIndex, missionIdOf(stepIndex)));
+        }
+
+        List<GuideScript.Step> steps = new ArrayList<>();
+        List<GuideScript.Line> lines = new ArrayList<>(lineCount);
+        long firstScriptLineId = 1000;
+        for (int stepIndex = 0; lines.size() < lineCount; stepIndex++) {
+            long stepId = stepIndex + 1L;
+            Long missionId = missionIdOf(stepIndex);
+            StepNextAction nextAction = stepIndex % 3 == 2 ? StepNextAction.MISSION_CHOICE : StepNextAction.NEXT;
+            int stepLines = Math.min(LINES_PER_STEP, lineCount - lines.size());
+            List<GuideScript.Line> stepLineList = new ArrayList<>(stepLines);
+            for (int seq = 0; seq < stepLines; seq++) {
+                int index = lines.size() + seq;
+                boolean stepBoundary = seq == stepLines - 1;
+                Long nextScriptLineId = index + 1 < lineCount ? firstScriptLineId + index + 1 : null;
+                stepLineList.add(new GuideScript.Line(firstScriptLineId + index, stepId, "line " + index,
+                        nextAction, missionId, List.of(),
+                        GuideScriptCache.compileAction(missionSteps, stepBoundary, nextAction, missionId, nextScriptLineId)));
+            }
+            lines.addAll(stepLineList);
+            steps.add(new GuideScript.Step(stepId, stepIndex, "Step " + stepIndex, nextAction, missionId,
+                    List.copyOf(stepLineList)));
+        }
+        return new GuideScript(SPOT_ID, "ko", 1L, List.copyOf(steps), List.copyOf(lines), List.copyOf(missionSteps));
+    }
+
+    /** MISSION_CHOICE 스텝 중 절반만 미션이 연결된다 (나머지는 시도 이력으로 결정) */
+    private static Long missionIdOf(int stepIndex) {
+        return stepIndex % 3 == 2 && stepIndex % 2 == 0 ? 500L + stepIndex : null;
+    }
+}
@@ -0,0 +1,70 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.entity.Tour;
+import com.app.questofseoul.domain.entity.TourSpot;
+import com.app.questofseoul.domain.enums.SpotType;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 투어. 같은 seed면 항상 같은 스팟 배치를 만든다.
+ * 스팟 수와 무관하게 경복궁 인근 약 2km x 2km 범위에 흩뿌리므로 스팟이 많을수록 반경이 겹치는 후보도 많아진다.
+ */
+final class SyntheticTours {
+
+    static final long SEED = 20240601L;
+    static final double BASE_LAT = 37.5759;
+    static final double BASE_LNG = 126.9768;
+    static final double SPAN_DEG = 0.018;
+
+    private static final SpotType[] TYPE_CYCLE = {
+            SpotType.MAIN, SpotType.SUB, SpotType.MAIN, SpotType.PHOTO, SpotType.SUB, SpotType.TREASURE
+    };
+
+    private SyntheticTours() {
+    }
+
+    static Tour tour(long tourId) {
+        return withId(Tour.create("bench-" + tourId, "Benchmark Tour " + tourId, "synthetic", null, null), tourId);
+    }
+
+    /** orderIndex 순 스팟 목록 (id = orderIndex + 1, 타입은 MAIN/SUB/PHOTO/TREASURE 순환) */
+    static List<TourSpot> spots(Tour tour, int count) {
+        Random random = new Random(SEED);
+        List<TourSpot> spots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TourSpot spot = TourSpot.create(tour, TYPE_CYCLE[i % TYPE_CYCLE.length], "Spot " + i,
+                    BASE_LAT + random.nextDouble() * SPAN_DEG, BASE_LNG + random.nextDouble() * SPAN_DEG, i);
+            spot.setRadiusM(30 + random.nextInt(50));
+            spots.add(withId(spot, (long) i + 1));
+        }
+        return spots;
+    }
+
+    /** 스팟 좌표 근처(대부분 반경 안)의 질의 좌표 */
+    static double[][] queryPoints(List<TourSpot> spots, int count) {
+        Random random = new Random(SEED + 1);
+        double[][] points = new double[count][2];
+        for (int i = 0; i < count; i++) {
+            TourSpot spot = spots.get(random.nextInt(spots.size()));
+            points[i][0] = spot.getLatitude() + (random.nextDouble() - 0.5) * 0.0006;
+            points[i][1] = spot.getLongitude() + (random.nextDouble() - 0.5) * 0.0006;
+        }
+        return points;
+    }
+
+    /** JPA가 채우는 id를 직접 설정 */
+    static <T> T withId(T entity, Long id) {
+        try {
+            Field field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+            return entity;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
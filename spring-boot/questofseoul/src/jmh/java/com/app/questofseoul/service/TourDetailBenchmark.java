@@ -0,0 +1,132 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.entity.SpotContentStep;
+import com.app.questofseoul.domain.entity.Tour;
+import com.app.questofseoul.domain.entity.TourRun;
+import com.app.questofseoul.domain.entity.TourSpot;
+import com.app.questofseoul.domain.entity.UserTourAccess;
+import com.app.questofseoul.domain.enums.ProgressStatus;
+import com.app.questofseoul.domain.enums.RunStatus;
+import com.app.questofseoul.domain.enums.SpotType;
+import com.app.questofseoul.domain.enums.StepKind;
+import com.app.questofseoul.domain.enums.TourAccessStatus;
+import com.app.questofseoul.dto.tour.TourDetailResponse;
+import com.app.questofseoul.repository.SpotAssetRepository;
+import com.app.questofseoul.repository.SpotContentStepRepository;
+import com.app.questofseoul.repository.TourAssetRepository;
+import com.app.questofseoul.repository.TourRepository;
+import com.app.questofseoul.repository.TourRunRepository;
+import com.app.questofseoul.repository.TourSpotRepository;
+import com.app.questofseoul.repository.TourTagRepository;
+import com.app.questofseoul.repository.UserSpotProgressRepository;
+import com.app.questofseoul.repository.UserTourAccessRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 투어 디테일 DTO 조립: 읽기 모델 조립(관리자 변경 후 첫 요청)과 캐시된 모델 위에 사용자 접근/진행 run을 덧씌우는 요청 경로.
+ * 저장소는 미리 만든 합성 엔티티를 돌려주는 목이므로 DB 왕복 없이 조립 비용만 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TourDetailBenchmark {
+
+    private static final Long TOUR_ID = 1L;
+    private static final Long RUN_ID = 7L;
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final int MISSIONS_PER_MAIN_SPOT = 2;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int spotCount;
+
+    private TourDetailReadModel readModel;
+    private TourDetailService tourDetailService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Tour tour = SyntheticTours.tour(TOUR_ID);
+        List<TourSpot> spots = SyntheticTours.spots(tour, spotCount);
+
+        List<SpotContentStep> missionSteps = new ArrayList<>();
+        List<Long> completedSpotIds = new ArrayList<>();
+        long stepId = 1;
+        for (TourSpot spot : spots) {
+            if (spot.getType() != SpotType.MAIN) continue;
+            for (int i = 0; i < MISSIONS_PER_MAIN_SPOT; i++) {
+                missionSteps.add(SyntheticTours.withId(SpotContentStep.create(spot, StepKind.MISSION, i), stepId++));
+            }
+            if (completedSpotIds.size() < spots.size() / 4) completedSpotIds.add(spot.getId());
+        }
+
+        TourRepository tourRepository = mock(TourRepository.class);
+        TourSpotRepository tourSpotRepository = mock(TourSpotRepository.class);
+        SpotContentStepRepository spotContentStepRepository = mock(SpotContentStepRepository.class);
+        when(tourRepository.findById(TOUR_ID)).thenReturn(Optional.of(tour));
+        when(tourSpotRepository.findByTourIdOrderByOrderIndexAsc(TOUR_ID)).thenReturn(spots);
+        when(spotContentStepRepository.countMissionsByTourId(TOUR_ID, StepKind.MISSION))
+                .thenReturn((long) missionSteps.size());
+        when(spotContentStepRepository.findBySpotIdsAndKindAndLanguageOrderByStepIndexAsc(
+                anyCollection(), eq(StepKind.MISSION), eq("ko"))).thenReturn(missionSteps);
+        readModel = new TourDetailReadModel(tourRepository, tourSpotRepository, mock(TourTagRepository.class),
+                spotContentStepRepository, mock(SpotAssetRepository.class), mock(TourAssetRepository.class));
+
+        UserTourAccessRepository userTourAccessRepository = mock(UserTourAccessRepository.class);
+        TourRunRepository tourRunRepository = mock(TourRunRepository.class);
+        UserSpotProgressRepository userSpotProgressRepository = mock(UserSpotProgressRepository.class);
+        UserTourAccess access = mock(UserTourAccess.class);
+        when(access.getStatus()).thenReturn(TourAccessStatus.UNLOCKED);
+        TourRun run = mock(TourRun.class);
+        when(run.getId()).thenReturn(RUN_ID);
+        when(run.getStatus()).thenReturn(RunStatus.IN_PROGRESS);
+        when(run.getStartedAt()).thenReturn(LocalDateTime.of(2024, 6, 1, 10, 0));
+        when(userTourAccessRepository.findByUserIdAndTourId(USER_ID, TOUR_ID)).thenReturn(Optional.of(access));
+        when(tourRunRepository.findByUserIdAndTourIdAndStatus(USER_ID, TOUR_ID, RunStatus.IN_PROGRESS))
+                .thenReturn(Optional.of(run));
+        when(userSpotProgressRepository.findCompletedSpotIdsByTourRunId(anyLong(), any(ProgressStatus.class)))
+                .thenReturn(List.copyOf(completedSpotIds));
+
+        tourDetailService = new TourDetailService(userTourAccessRepository, tourRunRepository,
+                userSpotProgressRepository, readModel, null, new ServiceMetrics(new SimpleMeterRegistry()));
+        readModel.get(TOUR_ID);
+    }
+
+    /** 캐시 miss: 스팟/미션 스텝으로 읽기 모델(카운트, 지도 스팟, 메인 미션 경로) 조립 */
+    @Benchmark
+    public TourDetailReadModel.View buildReadModel() {
+        return readModel.build(TOUR_ID);
+    }
+
+    /** 캐시 hit: 접근 권한 + 진행 중 run을 덧씌운 응답 DTO 조립 */
+    @Benchmark
+    public TourDetailResponse getTourDetail() {
+        return tourDetailService.getTourDetail(TOUR_ID, USER_ID);
+    }
+
+    @Benchmark
+    public TourDetailResponse getTourDetailAnonymous() {
+        return tourDetailService.getTourDetail(TOUR_ID, null);
+    }
+}
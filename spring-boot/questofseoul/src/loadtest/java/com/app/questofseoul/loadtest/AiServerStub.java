@@ -0,0 +1,79 @@
+package com.app.questofseoul.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ai-server 대역 (/tour-guide/chat, /tour-guide/chat/stream).
+ * OpenAI 호출 없이 고정 지연 후 정해진 답변과 토큰 사용량을 돌려준다.
+ */
+final class AiServerStub implements AutoCloseable {
+
+    private static final String ANSWER = "이곳은 조선 시대 왕실의 중요한 공간이었어요. 주변 건물의 처마 장식도 함께 살펴보세요.";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private AiServerStub(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    static AiServerStub start(Duration latency) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        server.setExecutor(executor);
+        server.createContext("/tour-guide/chat/stream", exchange -> respond(exchange, latency, "text/event-stream", """
+                data: {"delta": "%s"}
+
+                event: done
+                data: {"text": "%s", "model": "stub", "promptTokens": 800, "completionTokens": 40}
+
+                """.formatted(ANSWER, ANSWER)));
+        server.createContext("/tour-guide/chat", exchange -> respond(exchange, latency, "application/json", """
+                {"text": "%s", "model": "stub", "promptTokens": 800, "completionTokens": 40}
+                """.formatted(ANSWER)));
+        server.start();
+        return new AiServerStub(server, executor);
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static void respond(HttpExchange exchange, Duration latency, String contentType, String body)
+            throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            sleep(latency);
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    private static void sleep(Duration latency) {
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.app.questofseoul.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트별 응답 시간/상태/SQL 문 수 기록. 샘플을 모두 보관해 종료 시 정확한 백분위를 계산한다.
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Samples> samplesByEndpoint = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long nanos, int status, int sqlStatements) {
+        samplesByEndpoint.computeIfAbsent(endpoint, k -> new Samples()).add(nanos, status, sqlStatements);
+    }
+
+    /** 엔드포인트 이름 순 요약. throughput은 전체 실행 시간 기준 */
+    List<EndpointSummary> summarize(double elapsedSeconds) {
+        List<EndpointSummary> summaries = new ArrayList<>();
+        samplesByEndpoint.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> summaries.add(e.getValue().summarize(e.getKey(), elapsedSeconds)));
+        return summaries;
+    }
+
+    record EndpointSummary(
+            String endpoint,
+            int requests,
+            int errors,
+            double throughputPerSec,
+            double p50Ms,
+            double p90Ms,
+            double p95Ms,
+            double p99Ms,
+            double maxMs,
+            double avgSqlStatements
+    ) {}
+
+    private static final class Samples {
+
+        private long[] nanos = new long[1024];
+        private int size;
+        private int errors;
+        private long sqlStatements;
+
+        synchronized void add(long value, int status, int statements) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = value;
+            if (status >= 400 || status < 0) errors++;
+            sqlStatements += Math.max(statements, 0);
+        }
+
+        synchronized EndpointSummary summarize(String endpoint, double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            return new EndpointSummary(
+                    endpoint,
+                    size,
+                    errors,
+                    elapsedSeconds > 0 ? size / elapsedSeconds : 0,
+                    percentileMs(sorted, 0.50),
+                    percentileMs(sorted, 0.90),
+                    percentileMs(sorted, 0.95),
+                    percentileMs(sorted, 0.99),
+                    size > 0 ? sorted[size - 1] / 1e6 : 0,
+                    size > 0 ? (double) sqlStatements / size : 0);
+        }
+
+        /** nearest-rank 백분위 */
+        private static double percentileMs(long[] sorted, double percentile) {
+            if (sorted.length == 0) return 0;
+            int rank = (int) Math.ceil(percentile * sorted.length);
+            return sorted[Math.max(rank - 1, 0)] / 1e6;
+        }
+    }
+}
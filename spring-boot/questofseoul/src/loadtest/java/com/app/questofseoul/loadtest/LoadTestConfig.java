@@ -0,0 +1,64 @@
+package com.app.questofseoul.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정. 시스템 프로퍼티 loadtest.* 로 덮어쓴다 (gradle: -Ploadtest.walkers=2000).
+ *
+ * @param tours          합성 투어 수
+ * @param spotsPerTour   투어당 스팟 수 (MAIN/SUB/TREASURE/PHOTO 혼합)
+ * @param walkers        동시에 걷는 방문객(TourRun) 수
+ * @param concurrency    요청을 보내는 클라이언트 스레드 수
+ * @param gpsStepM       GPS 핑 사이 이동 거리
+ * @param gpsNoiseM      GPS 오차 표준편차
+ * @param thinkTime      요청 사이 대기 시간
+ * @param questionRate   가이드 재생 후 AI에게 질문하는 비율 (0~1)
+ * @param correctRate    미션 정답 제출 비율 (0~1)
+ * @param aiLatency      AI 서버 스텁 응답 지연
+ * @param seed           데이터/경로 생성 seed
+ * @param reportDir      결과(summary.json) 저장 위치
+ * @param keepData       true면 종료 시 합성 데이터(loadtest-{timestamp}- 투어/사용자)를 지우지 않는다
+ */
+record LoadTestConfig(
+        int tours,
+        int spotsPerTour,
+        int walkers,
+        int concurrency,
+        double gpsStepM,
+        double gpsNoiseM,
+        Duration thinkTime,
+        double questionRate,
+        double correctRate,
+        Duration aiLatency,
+        long seed,
+        Path reportDir,
+        boolean keepData
+) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                intProperty("loadtest.tours", 10),
+                intProperty("loadtest.spots-per-tour", 24),
+                intProperty("loadtest.walkers", 500),
+                intProperty("loadtest.concurrency", 64),
+                doubleProperty("loadtest.gps-step-m", 15),
+                doubleProperty("loadtest.gps-noise-m", 4),
+                Duration.ofMillis(intProperty("loadtest.think-time-ms", 0)),
+                doubleProperty("loadtest.question-rate", 0.1),
+                doubleProperty("loadtest.correct-rate", 0.7),
+                Duration.ofMillis(intProperty("loadtest.ai-latency-ms", 300)),
+                Long.parseLong(System.getProperty("loadtest.seed", "20240601")),
+                Path.of(System.getProperty("loadtest.report-dir", "build/results/loadtest")),
+                Boolean.parseBoolean(System.getProperty("loadtest.keep-data", "false"))
+        );
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        return Integer.parseInt(System.getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        return Double.parseDouble(System.getProperty(key, String.valueOf(defaultValue)));
+    }
+}
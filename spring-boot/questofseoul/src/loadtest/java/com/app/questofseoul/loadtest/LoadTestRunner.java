@@ -0,0 +1,98 @@
+package com.app.questofseoul.loadtest;
+
+import com.app.questofseoul.QuestofseoulApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 진입점 (./gradlew loadTest).
+ * AI 서버 스텁을 띄우고 loadtest 프로파일로 애플리케이션을 같은 JVM에서 기동한 뒤,
+ * 합성 데이터를 만들고 방문객 시뮬레이션을 돌려 엔드포인트별 처리량/지연 백분위를 출력하고 summary.json에 남긴다.
+ * 합성 데이터는 끝나면(실패해도) 지운다 (loadtest.keep-data=true면 유지).
+ */
+public final class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        log.info("Load test config: {}", config);
+
+        try (AiServerStub aiServer = AiServerStub.start(config.aiLatency());
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(QuestofseoulApplication.class)
+                     .run("--spring.profiles.active=loadtest", "--app.ai-server.base-url=" + aiServer.baseUrl())) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+
+            SyntheticSeoulDataset seeder = new SyntheticSeoulDataset(config, context);
+            SyntheticSeoulDataset.Dataset dataset = seeder.generate();
+            try {
+                LatencyRecorder recorder = new LatencyRecorder();
+                long started = System.nanoTime();
+                new WalkerSimulation(config, "http://localhost:" + port, recorder).run(dataset.walkers());
+                double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+                List<LatencyRecorder.EndpointSummary> summaries = recorder.summarize(elapsedSeconds);
+                print(summaries, elapsedSeconds);
+                Path report = write(config, summaries, elapsedSeconds);
+                log.info("Load test report written to {}", report.toAbsolutePath());
+            } finally {
+                if (config.keepData()) {
+                    log.info("Keeping load test data ({}*)", dataset.prefix());
+                } else {
+                    seeder.delete(dataset);
+                }
+            }
+        }
+    }
+
+    private static void print(List<LatencyRecorder.EndpointSummary> summaries, double elapsedSeconds) {
+        StringBuilder table = new StringBuilder(String.format("%nLoad test finished in %.1fs%n", elapsedSeconds));
+        table.append(String.format("%-48s %8s %6s %9s %8s %8s %8s %8s %8s %6s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms", "sql"));
+        for (LatencyRecorder.EndpointSummary s : summaries) {
+            table.append(String.format("%-48s %8d %6d %9.1f %8.1f %8.1f %8.1f %8.1f %8.1f %6.1f%n",
+                    s.endpoint(), s.requests(), s.errors(), s.throughputPerSec(),
+                    s.p50Ms(), s.p90Ms(), s.p95Ms(), s.p99Ms(), s.maxMs(), s.avgSqlStatements()));
+        }
+        log.info(table.toString());
+    }
+
+    private static Path write(LoadTestConfig config, List<LatencyRecorder.EndpointSummary> summaries,
+                              double elapsedSeconds) throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("tours", config.tours());
+        settings.put("spotsPerTour", config.spotsPerTour());
+        settings.put("walkers", config.walkers());
+        settings.put("concurrency", config.concurrency());
+        settings.put("gpsStepM", config.gpsStepM());
+        settings.put("gpsNoiseM", config.gpsNoiseM());
+        settings.put("thinkTimeMs", config.thinkTime().toMillis());
+        settings.put("questionRate", config.questionRate());
+        settings.put("correctRate", config.correctRate());
+        settings.put("aiLatencyMs", config.aiLatency().toMillis());
+        settings.put("seed", config.seed());
+        report.put("config", settings);
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("endpoints", summaries);
+
+        Files.createDirectories(config.reportDir());
+        Path file = config.reportDir().resolve("summary.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        return file;
+    }
+}
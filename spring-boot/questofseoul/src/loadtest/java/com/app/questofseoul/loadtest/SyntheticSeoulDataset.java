@@ -0,0 +1,266 @@
+package com.app.questofseoul.loadtest;
+
+import com.app.questofseoul.domain.entity.Mission;
+import com.app.questofseoul.domain.entity.SpotContentStep;
+import com.app.questofseoul.domain.entity.SpotScriptLine;
+import com.app.questofseoul.domain.entity.Tour;
+import com.app.questofseoul.domain.entity.TourRun;
+import com.app.questofseoul.domain.entity.TourSpot;
+import com.app.questofseoul.domain.entity.User;
+import com.app.questofseoul.domain.entity.UserTourAccess;
+import com.app.questofseoul.domain.enums.MissionType;
+import com.app.questofseoul.domain.enums.SpotType;
+import com.app.questofseoul.domain.enums.StepKind;
+import com.app.questofseoul.domain.enums.StepNextAction;
+import com.app.questofseoul.domain.enums.UserRole;
+import com.app.questofseoul.repository.MissionRepository;
+import com.app.questofseoul.repository.SpotContentStepRepository;
+import com.app.questofseoul.repository.SpotScriptLineRepository;
+import com.app.questofseoul.repository.TourRepository;
+import com.app.questofseoul.repository.TourRunRepository;
+import com.app.questofseoul.repository.TourSpotRepository;
+import com.app.questofseoul.repository.UserRepository;
+import com.app.questofseoul.repository.UserTourAccessRepository;
+import com.app.questofseoul.security.JwtTokenProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 서울 주요 명소 주변의 합성 투어/스팟/가이드 스크립트/미션과 방문객(User + 접근권 + TourRun)을 생성한다.
+ * 스팟은 출발 명소에서 60~140m 간격으로 방향을 조금씩 틀며 이어지는 도보 경로로 배치하고,
+ * MAIN/SUB 스팟에는 GUIDE 스텝(스텝당 3라인)을, MAIN 스팟에는 MISSION_CHOICE로 연결된 QUIZ 미션을 붙인다.
+ * 실행마다 external_key/google_sub가 loadtest-{timestamp}- 로 시작하는 새 투어/사용자를 만들고, {@link #delete}로 그 행만 지운다.
+ * 실행 중에는 합성 투어도 투어 목록(TourListCache)에 보이므로 전용 DB(questofseoul_loadtest)에서 돌린다.
+ */
+final class SyntheticSeoulDataset {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticSeoulDataset.class);
+
+    private static final int GUIDE_STEPS_PER_SPOT = 2;
+    private static final int LINES_PER_STEP = 3;
+    private static final int RUN_BATCH_SIZE = 200;
+    private static final double METERS_PER_DEGREE_LAT = 111_320;
+    private static final SpotType[] TYPE_CYCLE = {
+            SpotType.MAIN, SpotType.SUB, SpotType.TREASURE, SpotType.MAIN, SpotType.PHOTO, SpotType.SUB
+    };
+    private static final String[] QUIZ_CHOICES = {"A", "B", "C", "D"};
+
+    /** 투어 출발점 (명소, 위도, 경도) */
+    private static final Object[][] LANDMARKS = {
+            {"경복궁", 37.5796, 126.9770},
+            {"창덕궁", 37.5794, 126.9910},
+            {"덕수궁", 37.5658, 126.9751},
+            {"북촌 한옥마을", 37.5826, 126.9849},
+            {"인사동", 37.5740, 126.9856},
+            {"명동", 37.5636, 126.9827},
+            {"남산서울타워", 37.5512, 126.9882},
+            {"동대문디자인플라자", 37.5665, 127.0092},
+            {"이태원", 37.5345, 126.9946},
+            {"홍대", 37.5563, 126.9236},
+    };
+
+    private final LoadTestConfig config;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TourRepository tourRepository;
+    private final TourSpotRepository tourSpotRepository;
+    private final SpotContentStepRepository spotContentStepRepository;
+    private final SpotScriptLineRepository spotScriptLineRepository;
+    private final MissionRepository missionRepository;
+    private final UserRepository userRepository;
+    private final UserTourAccessRepository userTourAccessRepository;
+    private final TourRunRepository tourRunRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    SyntheticSeoulDataset(LoadTestConfig config, ApplicationContext context) {
+        this.config = config;
+        this.transactionTemplate = context.getBean(TransactionTemplate.class);
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.tourRepository = context.getBean(TourRepository.class);
+        this.tourSpotRepository = context.getBean(TourSpotRepository.class);
+        this.spotContentStepRepository = context.getBean(SpotContentStepRepository.class);
+        this.spotScriptLineRepository = context.getBean(SpotScriptLineRepository.class);
+        this.missionRepository = context.getBean(MissionRepository.class);
+        this.userRepository = context.getBean(UserRepository.class);
+        this.userTourAccessRepository = context.getBean(UserTourAccessRepository.class);
+        this.tourRunRepository = context.getBean(TourRunRepository.class);
+        this.jwtTokenProvider = context.getBean(JwtTokenProvider.class);
+    }
+
+    Dataset generate() {
+        Random random = new Random(config.seed());
+        String prefix = "loadtest-" + System.currentTimeMillis() + "-";
+
+        List<TourPlan> tours = new ArrayList<>(config.tours());
+        for (int i = 0; i < config.tours(); i++) {
+            int tourIndex = i;
+            tours.add(transactionTemplate.execute(status -> createTour(prefix, tourIndex, random)));
+        }
+        log.info("Seeded {} tours x {} spots", tours.size(), config.spotsPerTour());
+
+        List<WalkerPlan> walkers = new ArrayList<>(config.walkers());
+        for (int from = 0; from < config.walkers(); from += RUN_BATCH_SIZE) {
+            int start = from;
+            int end = Math.min(from + RUN_BATCH_SIZE, config.walkers());
+            walkers.addAll(transactionTemplate.execute(status -> createWalkers(prefix, tours, start, end)));
+        }
+        log.info("Seeded {} tour runs", walkers.size());
+        return new Dataset(prefix, tours, walkers);
+    }
+
+    /** 이번 실행이 만든 투어/사용자와 그에 딸린 진행 기록·채팅·컨텐츠를 FK 역순으로 삭제 */
+    void delete(Dataset dataset) {
+        String tours = "SELECT id FROM tours WHERE external_key LIKE ?";
+        String users = "SELECT id FROM users WHERE google_sub LIKE ?";
+        String runs = "SELECT id FROM tour_runs WHERE tour_id IN (" + tours + ") OR user_id IN (" + users + ")";
+        String sessions = "SELECT id FROM chat_sessions WHERE tour_run_id IN (" + runs + ")";
+        String spots = "SELECT id FROM tour_spots WHERE tour_id IN (" + tours + ")";
+        String steps = "SELECT id FROM spot_content_steps WHERE spot_id IN (" + spots + ")";
+        String like = dataset.prefix() + "%";
+
+        int deleted = transactionTemplate.execute(status -> {
+            int rows = 0;
+            rows += jdbcTemplate.update("DELETE FROM ai_call_logs WHERE session_id IN (" + sessions + ")", like, like);
+            rows += jdbcTemplate.update("DELETE FROM chat_turn_assets WHERE turn_id IN "
+                    + "(SELECT id FROM chat_turns WHERE session_id IN (" + sessions + "))", like, like);
+            rows += jdbcTemplate.update("DELETE FROM chat_turns WHERE session_id IN (" + sessions + ")", like, like);
+            rows += jdbcTemplate.update("DELETE FROM chat_sessions WHERE tour_run_id IN (" + runs + ")", like, like);
+            for (String table : List.of("user_mission_attempts", "user_spot_progress", "user_treasure_status")) {
+                rows += jdbcTemplate.update("DELETE FROM " + table + " WHERE tour_run_id IN (" + runs + ")", like, like);
+            }
+            rows += jdbcTemplate.update("DELETE FROM user_photo_submissions WHERE user_id IN (" + users + ")", like);
+            rows += jdbcTemplate.update("DELETE FROM tour_runs WHERE id IN (" + runs + ")", like, like);
+            rows += jdbcTemplate.update("DELETE FROM user_tour_access WHERE tour_id IN (" + tours + ") OR user_id IN ("
+                    + users + ")", like, like);
+            rows += jdbcTemplate.update("DELETE FROM users WHERE google_sub LIKE ?", like);
+
+            List<Long> missionIds = jdbcTemplate.queryForList(
+                    "SELECT DISTINCT mission_id FROM spot_content_steps WHERE mission_id IS NOT NULL AND id IN ("
+                            + steps + ")", Long.class, like);
+            rows += jdbcTemplate.update("DELETE FROM ai_answer_cache WHERE tour_id IN (" + tours + ")", like);
+            rows += jdbcTemplate.update("DELETE FROM tour_knowledge_embeddings WHERE tour_id IN (" + tours + ")", like);
+            jdbcTemplate.update("UPDATE tours SET start_spot_id = NULL WHERE external_key LIKE ?", like);
+            rows += jdbcTemplate.update("DELETE FROM spot_script_lines WHERE step_id IN (" + steps + ")", like);
+            rows += jdbcTemplate.update("DELETE FROM spot_content_steps WHERE id IN (" + steps + ")", like);
+            for (Long missionId : missionIds) {
+                rows += jdbcTemplate.update("DELETE FROM missions WHERE id = ?", missionId);
+            }
+            rows += jdbcTemplate.update("DELETE FROM tour_spots WHERE tour_id IN (" + tours + ")", like);
+            rows += jdbcTemplate.update("DELETE FROM tours WHERE external_key LIKE ?", like);
+            return rows;
+        });
+        log.info("Deleted {} load test rows ({}*)", deleted, dataset.prefix());
+    }
+
+    private TourPlan createTour(String prefix, int tourIndex, Random random) {
+        Object[] landmark = LANDMARKS[tourIndex % LANDMARKS.length];
+        String name = landmark[0] + " 합성 투어 " + (tourIndex + 1);
+        Tour tour = Tour.create(prefix + tourIndex, "Synthetic Tour " + (tourIndex + 1),
+                "Load test tour", Map.of("estimated_duration_min", 90), null);
+        tour.setTitle(name);
+        tour = tourRepository.save(tour);
+
+        double lat = (double) landmark[1];
+        double lng = (double) landmark[2];
+        double heading = random.nextDouble() * 2 * Math.PI;
+        List<RouteSpot> route = new ArrayList<>(config.spotsPerTour());
+        Map<Long, MissionAnswer> answers = new HashMap<>();
+        for (int i = 0; i < config.spotsPerTour(); i++) {
+            if (i > 0) {
+                double distanceM = 60 + random.nextDouble() * 80;
+                heading += (random.nextDouble() - 0.5) * Math.toRadians(80);
+                lat += distanceM * Math.cos(heading) / METERS_PER_DEGREE_LAT;
+                lng += distanceM * Math.sin(heading) / (METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(lat)));
+            }
+            SpotType type = TYPE_CYCLE[i % TYPE_CYCLE.length];
+            TourSpot spot = TourSpot.create(tour, type, name + " 스팟 " + (i + 1), lat, lng, i);
+            spot.setRadiusM(type == SpotType.MAIN ? 50 : 35);
+            spot = tourSpotRepository.save(spot);
+            if (i == 0) {
+                tour.setStartSpot(spot);
+            }
+
+            if (type == SpotType.MAIN || type == SpotType.SUB) {
+                createGuide(spot, type == SpotType.MAIN, random, answers);
+            }
+            route.add(new RouteSpot(spot.getId(), type, lat, lng, spot.getRadiusM()));
+        }
+        return new TourPlan(tour.getId(), List.copyOf(route), Map.copyOf(answers));
+    }
+
+    /** GUIDE 스텝 + 스크립트 라인. withMission이면 마지막 스텝을 QUIZ 미션 스텝과 MISSION_CHOICE로 연결 */
+    private void createGuide(TourSpot spot, boolean withMission, Random random, Map<Long, MissionAnswer> answers) {
+        Mission mission = null;
+        if (withMission) {
+            String answer = QUIZ_CHOICES[random.nextInt(QUIZ_CHOICES.length)];
+            mission = Mission.create(MissionType.QUIZ, spot.getTitle() + "에 대한 퀴즈");
+            List<Map<String, Object>> choices = new ArrayList<>();
+            for (String choice : QUIZ_CHOICES) {
+                choices.add(Map.of("id", choice, "text", "보기 " + choice));
+            }
+            mission.setOptionsJson(Map.of("choices", choices));
+            mission.setAnswerJson(Map.of("answer", answer));
+            mission = missionRepository.save(mission);
+
+            SpotContentStep missionStep = SpotContentStep.create(spot, StepKind.MISSION, GUIDE_STEPS_PER_SPOT);
+            missionStep.setMission(mission);
+            missionStep.setTitle("Mission");
+            missionStep = spotContentStepRepository.save(missionStep);
+            answers.put(missionStep.getId(), new MissionAnswer(MissionType.QUIZ, answer));
+        }
+
+        for (int stepIndex = 0; stepIndex < GUIDE_STEPS_PER_SPOT; stepIndex++) {
+            boolean last = stepIndex == GUIDE_STEPS_PER_SPOT - 1;
+            SpotContentStep step = SpotContentStep.create(spot, StepKind.GUIDE, stepIndex);
+            step.setTitle(spot.getTitle());
+            if (last && mission != null) {
+                step.setNextAction(StepNextAction.MISSION_CHOICE);
+                step.setMission(mission);
+            } else {
+                step.setNextAction(StepNextAction.NEXT);
+            }
+            step = spotContentStepRepository.save(step);
+            for (int seq = 0; seq < LINES_PER_STEP; seq++) {
+                spotScriptLineRepository.save(SpotScriptLine.create(step, seq,
+                        spot.getTitle() + " 안내 " + (stepIndex + 1) + "-" + (seq + 1)
+                                + ": 이 건물은 왕실의 의례와 일상이 함께 이루어지던 곳이에요."));
+            }
+        }
+    }
+
+    private List<WalkerPlan> createWalkers(String prefix, List<TourPlan> tours, int start, int end) {
+        List<WalkerPlan> walkers = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            TourPlan plan = tours.get(i % tours.size());
+            Tour tour = tourRepository.getReferenceById(plan.tourId());
+            User user = userRepository.save(User.create(prefix + i, prefix + i + "@loadtest.local", "walker-" + i));
+            UserTourAccess access = UserTourAccess.create(user, tour);
+            access.unlock();
+            userTourAccessRepository.save(access);
+            TourRun run = tourRunRepository.save(TourRun.create(user, tour));
+            walkers.add(new WalkerPlan(run.getId(), jwtTokenProvider.generateAccessToken(user.getId(), UserRole.USER),
+                    plan));
+        }
+        return walkers;
+    }
+
+    record Dataset(String prefix, List<TourPlan> tours, List<WalkerPlan> walkers) {}
+
+    /** 투어 경로(orderIndex 순)와 미션 스텝별 정답 */
+    record TourPlan(Long tourId, List<RouteSpot> route, Map<Long, MissionAnswer> answers) {}
+
+    record RouteSpot(Long spotId, SpotType type, double lat, double lng, int radiusM) {}
+
+    record MissionAnswer(MissionType type, String answer) {}
+
+    record WalkerPlan(Long runId, String accessToken, TourPlan tour) {}
+}
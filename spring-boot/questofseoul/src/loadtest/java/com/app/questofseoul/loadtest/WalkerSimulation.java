@@ -0,0 +1,192 @@
+package com.app.questofseoul.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 방문객 시뮬레이션. 방문객마다 투어 경로를 따라 gpsStepM 간격(+GPS 오차)으로 근접 체크를 보내고,
+ * 가이드가 시작되면 스크립트 턴을 nextApi를 따라 끝까지 넘기며 MISSION_CHOICE에서 퀴즈를 제출한다.
+ * 일부(questionRate)는 가이드 후 AI에게 질문한다.
+ */
+final class WalkerSimulation {
+
+    static final String PROXIMITY = "POST /tour-runs/{runId}/proximity";
+    static final String SCRIPT_TURN = "GET /chat-sessions/{id}/script-lines/{scriptLineId}";
+    static final String MISSION_SUBMIT = "POST /tour-runs/{runId}/missions/{stepId}/submit";
+    static final String CHAT_MESSAGE = "POST /chat-sessions/{id}/messages";
+
+    private static final Logger log = LoggerFactory.getLogger(WalkerSimulation.class);
+    private static final double METERS_PER_DEGREE_LAT = 111_320;
+    private static final int MAX_TURNS_PER_SPOT = 50;
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final LatencyRecorder recorder;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger finished = new AtomicInteger();
+
+    WalkerSimulation(LoadTestConfig config, String baseUrl, LatencyRecorder recorder) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.recorder = recorder;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    void run(List<SyntheticSeoulDataset.WalkerPlan> walkers) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(config.concurrency());
+        for (int i = 0; i < walkers.size(); i++) {
+            SyntheticSeoulDataset.WalkerPlan walker = walkers.get(i);
+            Random random = new Random(config.seed() + i);
+            pool.execute(() -> {
+                try {
+                    walk(walker, random);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    log.warn("Walker for run {} stopped: {}", walker.runId(), e.getMessage());
+                }
+                int done = finished.incrementAndGet();
+                if (done % 100 == 0) log.info("{}/{} walkers finished", done, walkers.size());
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+
+    private void walk(SyntheticSeoulDataset.WalkerPlan walker, Random random) throws InterruptedException {
+        List<SyntheticSeoulDataset.RouteSpot> route = walker.tour().route();
+        Set<Long> guidedSessions = new HashSet<>();
+        // 첫 스팟 반경 밖(약 100m)에서 출발
+        double lat = route.get(0).lat() + 100 / METERS_PER_DEGREE_LAT;
+        double lng = route.get(0).lng();
+
+        for (SyntheticSeoulDataset.RouteSpot spot : route) {
+            double distanceM = distanceM(lat, lng, spot.lat(), spot.lng());
+            int steps = Math.max(1, (int) Math.ceil(distanceM / config.gpsStepM()));
+            for (int k = 1; k <= steps; k++) {
+                double fraction = (double) k / steps;
+                double pingLat = lat + (spot.lat() - lat) * fraction + noiseDeg(random);
+                double pingLng = lng + (spot.lng() - lng) * fraction + noiseDeg(random);
+                JsonNode response = checkProximity(walker, pingLat, pingLng);
+                if (response != null && response.hasNonNull("sessionId") && response.hasNonNull("message")
+                        && guidedSessions.add(response.get("sessionId").asLong())) {
+                    playGuide(walker, response.get("sessionId").asLong(), response.get("message"), random);
+                }
+                think();
+            }
+            lat = spot.lat();
+            lng = spot.lng();
+        }
+    }
+
+    /** 가이드 재생: nextApi를 따라 턴을 넘기고 MISSION_CHOICE면 미션 제출 */
+    private void playGuide(SyntheticSeoulDataset.WalkerPlan walker, long sessionId, JsonNode turn, Random random)
+            throws InterruptedException {
+        JsonNode action = turn.path("action");
+        for (int i = 0; i < MAX_TURNS_PER_SPOT && !action.isMissingNode() && !action.isNull(); i++) {
+            if ("MISSION_CHOICE".equals(action.path("type").asText()) && action.hasNonNull("stepId")) {
+                submitMission(walker, action.get("stepId").asLong(), random);
+            }
+            String nextApi = action.path("nextApi").asText(null);
+            if (nextApi == null || nextApi.isBlank()) break;
+            think();
+            JsonNode next = send(SCRIPT_TURN, authorized(walker, URI.create(baseUrl + nextApi)).GET().build());
+            if (next == null) break;
+            action = next.path("action");
+        }
+        if (random.nextDouble() < config.questionRate()) {
+            think();
+            send(CHAT_MESSAGE, authorized(walker, URI.create(baseUrl + "/api/v1/chat-sessions/" + sessionId + "/messages"))
+                    .POST(json(Map.of("text", "이 건물은 언제 지어졌나요?")))
+                    .build());
+        }
+    }
+
+    private JsonNode checkProximity(SyntheticSeoulDataset.WalkerPlan walker, double lat, double lng)
+            throws InterruptedException {
+        URI uri = URI.create(baseUrl + "/api/v1/tour-runs/" + walker.runId() + "/proximity");
+        return send(PROXIMITY, authorized(walker, uri).POST(json(Map.of("lat", lat, "lng", lng))).build());
+    }
+
+    private void submitMission(SyntheticSeoulDataset.WalkerPlan walker, long stepId, Random random)
+            throws InterruptedException {
+        SyntheticSeoulDataset.MissionAnswer answer = walker.tour().answers().get(stepId);
+        if (answer == null) return;
+        String selected = random.nextDouble() < config.correctRate() ? answer.answer() : "X";
+        URI uri = URI.create(baseUrl + "/api/v1/tour-runs/" + walker.runId() + "/missions/" + stepId + "/submit");
+        send(MISSION_SUBMIT, authorized(walker, uri)
+                .POST(json(Map.of("missionType", answer.type().name(), "selectedOptionId", selected)))
+                .build());
+    }
+
+    /** 요청 1회 기록. 2xx 본문이 있으면 JSON으로, 204/오류면 null */
+    private JsonNode send(String endpoint, HttpRequest request) throws InterruptedException {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            long elapsed = System.nanoTime() - started;
+            int sqlCount = response.headers().firstValue("X-SQL-Count").map(Integer::parseInt).orElse(-1);
+            recorder.record(endpoint, elapsed, response.statusCode(), sqlCount);
+            if (response.statusCode() / 100 != 2 || response.body().isEmpty()) {
+                return null;
+            }
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - started, -1, -1);
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder authorized(SyntheticSeoulDataset.WalkerPlan walker, URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + walker.accessToken())
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher json(Map<String, Object> body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void think() throws InterruptedException {
+        if (!config.thinkTime().isZero()) {
+            Thread.sleep(config.thinkTime().toMillis());
+        }
+    }
+
+    private double noiseDeg(Random random) {
+        return random.nextGaussian() * config.gpsNoiseM() / METERS_PER_DEGREE_LAT;
+    }
+
+    private static double distanceM(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = (lat2 - lat1) * METERS_PER_DEGREE_LAT;
+        double dLng = (lng2 - lng1) * METERS_PER_DEGREE_LAT * Math.cos(Math.toRadians(lat1));
+        return Math.sqrt(dLat * dLat + dLng * dLng);
+    }
+}
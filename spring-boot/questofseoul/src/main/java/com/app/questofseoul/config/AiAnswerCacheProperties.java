@@ -0,0 +1,24 @@
+package com.app.questofseoul.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * AI 가이드 답변 시맨틱 캐시 설정.
+ * similarityThreshold: 캐시 적중으로 볼 최소 코사인 유사도, ttl: 저장된 답변 유효 기간,
+ * executorThreads: 질문 임베딩/조회/저장을 서블릿·HttpClient 스레드 밖에서 처리하는 스레드 수
+ */
+@ConfigurationProperties(prefix = "app.ai-answer-cache")
+public record AiAnswerCacheProperties(
+    boolean enabled,
+    Double similarityThreshold,
+    Duration ttl,
+    Integer executorThreads
+) {
+    public AiAnswerCacheProperties {
+        similarityThreshold = similarityThreshold != null ? similarityThreshold : 0.92;
+        ttl = ttl != null ? ttl : Duration.ofDays(7);
+        executorThreads = executorThreads != null && executorThreads > 0 ? executorThreads : 4;
+    }
+}
@@ -1,9 +1,42 @@
 package com.app.questofseoul.config;
 
+import jakarta.annotation.PreDestroy;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
-@EnableConfigurationProperties(AiServerProperties.class)
+@EnableConfigurationProperties({AiServerProperties.class, AiAnswerCacheProperties.class, EmbeddingCacheProperties.class})
 public class AiServerConfig {
+
+    // Executor 빈으로 노출하면 Spring Boot 기본 applicationTaskExecutor 자동 구성이 꺼지므로 내부에서만 관리한다.
+    private ExecutorService httpExecutor;
+
+    /** ai-server 공용 HttpClient (keep-alive 커넥션 풀을 요청 간 재사용) */
+    @Bean
+    public HttpClient aiServerHttpClient(AiServerProperties properties) {
+        AtomicInteger seq = new AtomicInteger();
+        httpExecutor = Executors.newFixedThreadPool(properties.executorThreads(), r -> {
+            Thread t = new Thread(r, "ai-server-http-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        return HttpClient.newBuilder()
+            .connectTimeout(properties.connectTimeout())
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(httpExecutor)
+            .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (httpExecutor != null) {
+            httpExecutor.shutdown();
+        }
+    }
 }
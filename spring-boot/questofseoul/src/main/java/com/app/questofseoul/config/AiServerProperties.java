@@ -2,13 +2,27 @@ package com.app.questofseoul.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
+/**
+ * ai-server 연결 설정.
+ * connectTimeout: TCP 연결 타임아웃, requestTimeout: 응답 헤더 수신까지의 요청 타임아웃(LLM 생성 시간 포함),
+ * executorThreads: 공유 HttpClient 비동기 처리 스레드 수, contextTokenBudget: 프롬프트 투어 컨텍스트 토큰 예산(추정치)
+ */
 @ConfigurationProperties(prefix = "app.ai-server")
 public record AiServerProperties(
     String baseUrl,
-    boolean enabled
+    boolean enabled,
+    Duration connectTimeout,
+    Duration requestTimeout,
+    Integer executorThreads,
+    Integer contextTokenBudget
 ) {
-    public AiServerProperties(String baseUrl, boolean enabled) {
-        this.baseUrl = baseUrl != null ? baseUrl : "";
-        this.enabled = enabled;
+    public AiServerProperties {
+        baseUrl = baseUrl != null ? baseUrl : "";
+        connectTimeout = connectTimeout != null ? connectTimeout : Duration.ofSeconds(5);
+        requestTimeout = requestTimeout != null ? requestTimeout : Duration.ofSeconds(60);
+        executorThreads = executorThreads != null && executorThreads > 0 ? executorThreads : 8;
+        contextTokenBudget = contextTokenBudget != null && contextTokenBudget > 0 ? contextTokenBudget : 1500;
     }
 }
@@ -0,0 +1,22 @@
+package com.app.questofseoul.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 질의 임베딩 캐시 설정.
+ * maxEntries: 메모리 LRU 최대 항목 수(항목당 약 6KB), ttl: 항목 유효 기간, persistent: embedding_cache 테이블에도 저장해 재기동 후 재사용
+ */
+@ConfigurationProperties(prefix = "app.embedding-cache")
+public record EmbeddingCacheProperties(
+    boolean enabled,
+    Integer maxEntries,
+    Duration ttl,
+    boolean persistent
+) {
+    public EmbeddingCacheProperties {
+        maxEntries = maxEntries != null && maxEntries > 0 ? maxEntries : 2000;
+        ttl = ttl != null ? ttl : Duration.ofDays(1);
+    }
+}
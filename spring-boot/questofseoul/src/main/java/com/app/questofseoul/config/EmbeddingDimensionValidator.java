@@ -0,0 +1,56 @@
+package com.app.questofseoul.config;
+
+import com.app.questofseoul.service.EmbeddingProvider;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 시 app.embedding.dimensions(EmbeddingProvider.dimensions())와 실제 vector 컬럼 차원을 비교한다.
+ * 엔티티의 columnDefinition(vector(1536))은 설정을 따라가지 않으므로, 어긋나면 첫 insert/검색에서 실패하기 전에
+ * (웹 서버가 뜨기 전) 기동을 중단한다. 아직 없는 테이블은 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmbeddingDimensionValidator implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddingDimensionValidator.class);
+
+    /** (테이블, 컬럼) */
+    static final List<String[]> VECTOR_COLUMNS = List.of(
+            new String[]{"tour_knowledge_embeddings", "embedding"},
+            new String[]{"ai_answer_cache", "question_embedding"},
+            new String[]{"embedding_cache", "embedding"}
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmbeddingProvider embeddingProvider;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        int expected = embeddingProvider.dimensions();
+        for (String[] column : VECTOR_COLUMNS) {
+            // pgvector는 vector(n)의 n을 atttypmod에 저장한다
+            List<Integer> typmods = jdbcTemplate.queryForList("""
+                    SELECT a.atttypmod FROM pg_attribute a
+                    WHERE a.attrelid = to_regclass(?) AND a.attname = ? AND NOT a.attisdropped
+                    """, Integer.class, column[0], column[1]);
+            if (typmods.isEmpty() || typmods.get(0) == null || typmods.get(0) <= 0) {
+                continue;
+            }
+            int actual = typmods.get(0);
+            if (actual != expected) {
+                throw new IllegalStateException(String.format(
+                        "Embedding dimension mismatch: %s.%s is vector(%d) but provider %s produces %d dimensions "
+                                + "(app.embedding.dimensions). Migrate the column or change the setting.",
+                        column[0], column[1], actual, embeddingProvider.name(), expected));
+            }
+        }
+        log.info("Embedding columns match provider {} ({} dimensions)", embeddingProvider.name(), expected);
+    }
+}
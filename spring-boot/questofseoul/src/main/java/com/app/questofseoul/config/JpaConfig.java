@@ -1,5 +1,7 @@
 package com.app.questofseoul.config;
 
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
@@ -7,4 +9,10 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @EnableJpaRepositories(basePackages = "com.app.questofseoul.repository")
 public class JpaConfig {
     // PostGIS dialect is configured in application.properties
+
+    /** 요청별 SQL 문 수/DB 시간 집계 (SqlStatementFilter) */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementListenerCustomizer() {
+        return properties -> properties.put("hibernate.session.events.auto", SqlStatementListener.class.getName());
+    }
 }
@@ -4,6 +4,7 @@ import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
@@ -14,6 +15,9 @@ public class PgvectorInit {
     private static final Logger log = LoggerFactory.getLogger(PgvectorInit.class);
     private final JdbcTemplate jdbcTemplate;
 
+    @Value("${app.rag.vector-index:full}")
+    private String vectorIndex;
+
     @PostConstruct
     public void init() {
         try {
@@ -22,14 +26,22 @@ public class PgvectorInit {
         } catch (Exception e) {
             log.warn("Could not create vector extension: {}", e.getMessage());
         }
+        VectorIndexMode mode = VectorIndexMode.from(vectorIndex);
         try {
-            jdbcTemplate.execute("""
-                CREATE INDEX IF NOT EXISTS idx_tour_knowledge_embeddings_vector
-                ON tour_knowledge_embeddings USING hnsw (embedding vector_cosine_ops)
-                """);
-            log.info("Pgvector HNSW index ready");
+            jdbcTemplate.execute(mode.createIndexSql());
+            log.info("Pgvector HNSW index ready ({})", mode);
         } catch (Exception e) {
-            log.debug("HNSW index (table may not exist yet): {}", e.getMessage());
+            log.debug("HNSW index for {} (table may not exist yet, or pgvector < 0.7): {}", mode, e.getMessage());
+            return;
+        }
+        // 다른 모드의 인덱스는 메모리만 차지하므로 정리한다
+        for (VectorIndexMode other : VectorIndexMode.values()) {
+            if (other == mode) continue;
+            try {
+                jdbcTemplate.execute("DROP INDEX IF EXISTS " + other.indexName());
+            } catch (Exception e) {
+                log.debug("Could not drop {}: {}", other.indexName(), e.getMessage());
+            }
         }
     }
 }
@@ -6,12 +6,17 @@ import com.app.questofseoul.security.JwtAuthenticationFilter;
 import com.app.questofseoul.security.OAuth2PrincipalFilter;
 import com.app.questofseoul.security.OAuth2SuccessHandler;
 import lombok.RequiredArgsConstructor;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
@@ -21,6 +26,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import org.springframework.beans.factory.annotation.Value;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.List;
 
@@ -29,9 +36,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String METRICS_TOKEN_HEADER = "X-Metrics-Token";
+
     @Value("${app.frontend-url:http://localhost:5173}")
     private String frontendUrl;
 
+    @Value("${app.metrics.scrape-token:}")
+    private String metricsScrapeToken;
+
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomOidcUserService customOidcUserService;
     private final OAuth2PrincipalFilter oAuth2PrincipalFilter;
@@ -45,6 +57,8 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .authorizeHttpRequests(auth -> auth
+                // 비동기(CompletableFuture/SSE) 응답의 ASYNC 디스패치는 최초 REQUEST 디스패치에서 이미 인가되었다.
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/oauth2/**", "/login/**").permitAll()
                 .requestMatchers("/api/v1/auth/login", "/api/v1/auth/register", "/api/v1/auth/refresh", "/api/v1/auth/logout").permitAll()
                 .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/v1/tours/**").permitAll()
@@ -53,6 +67,8 @@ public class SecurityConfig {
                 .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/v1/spots/*/guide").authenticated()
                 .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/v1/spots/**").permitAll()
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/prometheus").access(metricsScrapeAccess())
                 .requestMatchers("/api/v1/tour-runs/**", "/api/v1/collections/**").authenticated()
                 .requestMatchers("/api/v1/chat-sessions/**").authenticated()
                 .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
@@ -65,6 +81,11 @@ public class SecurityConfig {
                         response.sendError(HttpServletResponse.SC_UNAUTHORIZED),
                     new AntPathRequestMatcher("/api/**")
                 )
+                .defaultAuthenticationEntryPointFor(
+                    (request, response, authException) ->
+                        response.sendError(HttpServletResponse.SC_UNAUTHORIZED),
+                    new AntPathRequestMatcher("/actuator/**")
+                )
                 .defaultAccessDeniedHandlerFor(
                     (request, response, accessDeniedException) ->
                         response.sendError(HttpServletResponse.SC_FORBIDDEN),
@@ -90,6 +111,23 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * /actuator/prometheus: ADMIN 또는 X-Metrics-Token 헤더가 app.metrics.scrape-token과 일치하는 스크레이퍼만 허용.
+     * 토큰이 비어 있으면 ADMIN만 허용한다.
+     */
+    private AuthorizationManager<RequestAuthorizationContext> metricsScrapeAccess() {
+        AuthorizationManager<RequestAuthorizationContext> admin = AuthorityAuthorizationManager.hasRole("ADMIN");
+        byte[] expected = metricsScrapeToken.getBytes(StandardCharsets.UTF_8);
+        return (authentication, context) -> {
+            String token = context.getRequest().getHeader(METRICS_TOKEN_HEADER);
+            if (expected.length > 0 && token != null
+                    && MessageDigest.isEqual(expected, token.getBytes(StandardCharsets.UTF_8))) {
+                return new AuthorizationDecision(true);
+            }
+            return admin.check(authentication, context);
+        };
+    }
+
     private SimpleUrlAuthenticationFailureHandler oauth2FailureHandler() {
         return new SimpleUrlAuthenticationFailureHandler(frontendUrl + "/login?error=oauth_failed");
     }
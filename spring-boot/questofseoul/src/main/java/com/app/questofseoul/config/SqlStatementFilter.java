@@ -0,0 +1,106 @@
+package com.app.questofseoul.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 SQL 문 수/DB 시간 집계 (N+1 탐지).
+ * 엔드포인트(uri 패턴)별로 http.server.sql.statements, http.server.sql.time 메트릭을 남기고,
+ * 문 수가 임계값을 넘으면 경고 로그를 남긴다. response-headers=true(dev)면 X-SQL-Count/X-SQL-Time-Ms 헤더도 붙인다.
+ * 비동기 응답(AI 채팅)은 컨트롤러가 반환될 때까지의 쿼리만 집계된다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementFilter.class);
+
+    static final String COUNT_HEADER = "X-SQL-Count";
+    static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int warnThreshold;
+    private final boolean responseHeaders;
+
+    public SqlStatementFilter(MeterRegistry meterRegistry,
+                              @Value("${app.sql-stats.enabled:true}") boolean enabled,
+                              @Value("${app.sql-stats.warn-threshold:30}") int warnThreshold,
+                              @Value("${app.sql-stats.response-headers:false}") boolean responseHeaders) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.warnThreshold = warnThreshold;
+        this.responseHeaders = responseHeaders;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try (SqlStatementStats.Scope scope = SqlStatementStats.start()) {
+            HttpServletResponse target = responseHeaders ? new HeaderWritingResponse(response, scope) : response;
+            try {
+                filterChain.doFilter(request, target);
+            } finally {
+                report(request, scope);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementStats.Scope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod().toUpperCase(Locale.ROOT);
+        DistributionSummary.builder("http.server.sql.statements")
+            .tags("method", method, "uri", uri)
+            .register(meterRegistry)
+            .record(scope.count());
+        Timer.builder("http.server.sql.time")
+            .tags("method", method, "uri", uri)
+            .register(meterRegistry)
+            .record(scope.nanos(), TimeUnit.NANOSECONDS);
+        if (scope.count() > warnThreshold) {
+            log.warn("{} {} executed {} SQL statements ({} ms, threshold {}) - possible N+1",
+                method, uri, scope.count(), Math.round(scope.millis()), warnThreshold);
+        }
+    }
+
+    /** 응답이 커밋되기 직전에 그때까지의 집계를 헤더로 쓴다 */
+    private static class HeaderWritingResponse extends OnCommittedResponseWrapper {
+
+        private final SqlStatementStats.Scope scope;
+
+        HeaderWritingResponse(HttpServletResponse response, SqlStatementStats.Scope scope) {
+            super(response);
+            this.scope = scope;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            setHeader(COUNT_HEADER, Integer.toString(scope.count()));
+            setHeader(TIME_HEADER, Long.toString(Math.round(scope.millis())));
+        }
+    }
+}
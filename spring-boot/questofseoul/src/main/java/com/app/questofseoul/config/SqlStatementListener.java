@@ -0,0 +1,33 @@
+package com.app.questofseoul.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션 이벤트로 JDBC 문 실행(단건/배치)마다 실행 시간을 {@link SqlStatementStats}에 기록한다.
+ * hibernate.session.events.auto로 세션마다 생성되며, 세션은 한 스레드에서만 쓰이므로 상태를 필드에 둔다.
+ * JdbcTemplate으로 직접 실행하는 쿼리(벡터 검색, 캐시 테이블)는 집계되지 않는다.
+ */
+public class SqlStatementListener implements SessionEventListener {
+
+    private long startNanos;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementStats.record(System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementStats.record(System.nanoTime() - startNanos);
+    }
+}
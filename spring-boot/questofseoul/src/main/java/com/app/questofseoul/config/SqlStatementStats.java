@@ -0,0 +1,62 @@
+package com.app.questofseoul.config;
+
+/**
+ * 현재 스레드(요청)에서 실행된 SQL 문 수와 DB 시간 누적.
+ * {@link SqlStatementListener}가 Hibernate 문 실행마다 기록하고, {@link SqlStatementFilter}가 요청 단위로 범위를 연다.
+ * 테스트에서는 {@code try (var scope = SqlStatementStats.start()) { ... scope.count() }}로 쿼리 수를 고정할 수 있다.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementStats() {
+    }
+
+    /** 새 집계 범위 시작. 닫으면 바깥 범위로 돌아간다 (바깥 범위에도 누적된다). */
+    public static Scope start() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void record(long elapsedNanos) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.count++;
+            scope.nanos += elapsedNanos;
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private int count;
+        private long nanos;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public long nanos() {
+            return nanos;
+        }
+
+        public double millis() {
+            return nanos / 1_000_000.0;
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent != null) {
+                    CURRENT.set(parent);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.app.questofseoul.config;
+
+import java.util.Locale;
+
+/**
+ * tour_knowledge_embeddings ANN 인덱스 저장 방식 (app.rag.vector-index).
+ * FULL: vector(1536) 그대로 HNSW, HALFVEC: float16 표현식 인덱스, BINARY: binary_quantize 비트 인덱스.
+ * HALFVEC/BINARY는 인덱스로 후보를 넉넉히 뽑은 뒤 원본 vector로 재정렬한다 (pgvector 0.7+ 필요).
+ */
+public enum VectorIndexMode {
+    FULL("idx_tour_knowledge_embeddings_vector",
+        "USING hnsw (embedding vector_cosine_ops)"),
+    HALFVEC("idx_tour_knowledge_embeddings_halfvec",
+        "USING hnsw ((embedding::halfvec(1536)) halfvec_cosine_ops)"),
+    BINARY("idx_tour_knowledge_embeddings_binary",
+        "USING hnsw ((binary_quantize(embedding)::bit(1536)) bit_hamming_ops)");
+
+    private final String indexName;
+    private final String indexDefinition;
+
+    VectorIndexMode(String indexName, String indexDefinition) {
+        this.indexName = indexName;
+        this.indexDefinition = indexDefinition;
+    }
+
+    public String indexName() {
+        return indexName;
+    }
+
+    public String createIndexSql() {
+        return "CREATE INDEX IF NOT EXISTS " + indexName + " ON tour_knowledge_embeddings " + indexDefinition;
+    }
+
+    /** 인덱스를 타는 후보 정렬식 (파라미터 하나: 질의 vector) */
+    public String candidateOrderBy() {
+        return switch (this) {
+            case FULL -> "embedding <=> ?";
+            case HALFVEC -> "embedding::halfvec(1536) <=> ?::halfvec(1536)";
+            case BINARY -> "binary_quantize(embedding)::bit(1536) <~> binary_quantize(?)";
+        };
+    }
+
+    public static VectorIndexMode from(String value) {
+        if (value == null || value.isBlank()) return FULL;
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -10,11 +10,18 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/v1")
 @RequiredArgsConstructor
@@ -23,6 +30,7 @@ public class ChatController {
 
     private final ChatSessionService chatSessionService;
     private final com.app.questofseoul.service.AuthService authService;
+    private final SseEventSender sseEventSender;
 
     @Operation(summary = "채팅 히스토리")
     @SecurityRequirement(name = "bearerAuth")
@@ -32,23 +40,60 @@ public class ChatController {
         return ResponseEntity.ok(chatSessionService.getChatTurns(userId, sessionId));
     }
 
-    @Operation(summary = "다음 스크립트 턴 조회", description = "nextApi로 전달된 turnId 기준 단일 스크립트 턴 반환")
+    @Operation(summary = "다음 스크립트 턴 조회", description = "nextApi로 전달된 scriptLineId 기준 단일 스크립트 턴 반환")
     @SecurityRequirement(name = "bearerAuth")
-    @GetMapping("/chat-sessions/{sessionId}/turns/{nextTurnId}")
+    @GetMapping("/chat-sessions/{sessionId}/script-lines/{scriptLineId}")
     public ResponseEntity<ProximityResponse.ChatTurnDto> getNextScriptTurn(
             @PathVariable Long sessionId,
-            @PathVariable Long nextTurnId) {
+            @PathVariable Long scriptLineId) {
         UUID userId = authService.getCurrentUserId();
-        return ResponseEntity.ok(chatSessionService.getNextScriptTurn(userId, sessionId, nextTurnId));
+        return ResponseEntity.ok(chatSessionService.getNextScriptTurn(userId, sessionId, scriptLineId));
+    }
+
+    @Operation(summary = "다음 스크립트 턴 조회 (구 경로)", deprecated = true,
+            description = "기존 클라이언트 호환. 예전 SCRIPT 턴 ID(chat_turns.id) 또는 turnId/lastTurnId로 받은 scriptLineId")
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/chat-sessions/{sessionId}/turns/{turnId}")
+    public ResponseEntity<ProximityResponse.ChatTurnDto> getLegacyScriptTurn(
+            @PathVariable Long sessionId,
+            @PathVariable Long turnId) {
+        UUID userId = authService.getCurrentUserId();
+        return ResponseEntity.ok(chatSessionService.getLegacyScriptTurn(userId, sessionId, turnId));
     }
 
     @Operation(summary = "채팅 메시지 전송", description = "유저 질문 전송 후 AI 응답 반환")
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping("/chat-sessions/{sessionId}/messages")
-    public ResponseEntity<SendMessageResponse> sendMessage(
+    public CompletableFuture<ResponseEntity<SendMessageResponse>> sendMessage(
+            @PathVariable Long sessionId,
+            @Valid @RequestBody ChatMessageRequest request) {
+        UUID userId = authService.getCurrentUserId();
+        return chatSessionService.sendMessage(userId, sessionId, request.text())
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "채팅 메시지 전송 (스트리밍)",
+            description = "유저 질문 전송 후 AI 응답을 SSE로 전달. delta 이벤트(텍스트 조각) 반복 후 done 이벤트(SendMessageResponse), 실패 시 error 이벤트")
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping(value = "/chat-sessions/{sessionId}/messages/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMessage(
             @PathVariable Long sessionId,
             @Valid @RequestBody ChatMessageRequest request) {
         UUID userId = authService.getCurrentUserId();
-        return ResponseEntity.ok(chatSessionService.sendMessage(userId, sessionId, request.text()));
+        SseEmitter emitter = new SseEmitter();
+        // 전송은 SseEventSender 스레드에서 한다 (HttpClient 스레드가 클라이언트 소켓에 쓰지 않도록)
+        SseEventSender.Relay relay = sseEventSender.open(emitter);
+        chatSessionService.streamMessage(userId, sessionId, request.text(),
+                        delta -> relay.send("delta", Map.of("text", delta)))
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                        log.error("Chat stream failed: sessionId={}", sessionId, cause);
+                        relay.complete("error", Map.of("message", "AI 응답 저장 중 오류가 발생했습니다."));
+                    } else {
+                        relay.complete("done", response);
+                    }
+                });
+        return emitter;
     }
 }
@@ -0,0 +1,136 @@
+package com.app.questofseoul.controller;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SseEmitter 전송 대행. 이벤트는 요청별 제한 큐에 넣고 전송 전용 스레드 풀에서 요청마다 순서대로 보낸다.
+ * 이벤트를 만드는 쪽(ai-server HttpClient 스레드, 답변 캐시 스레드)은 클라이언트 소켓에 직접 쓰지 않는다.
+ * 느린 클라이언트로 큐가 가득 차면 이후 delta는 버린다 (done 이벤트에 전체 답변이 담긴다).
+ */
+@Slf4j
+@Component
+public class SseEventSender {
+
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+
+    public SseEventSender(@Value("${app.chat.sse-send-threads:4}") int threads,
+                          @Value("${app.chat.sse-queue-capacity:256}") int queueCapacity) {
+        AtomicInteger seq = new AtomicInteger();
+        int poolSize = Math.max(1, threads);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        // 요청별 큐가 제한되어 있고 요청당 drain 작업은 최대 1개이므로 작업 큐는 무제한으로 둔다
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread t = new Thread(r, "sse-send-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    public Relay open(SseEmitter emitter) {
+        return new Relay(emitter);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /** 요청 1건의 이벤트 큐. send/complete는 어느 스레드에서 호출해도 되고 전송은 sse-send 스레드에서 한다. */
+    public final class Relay {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile SseEmitter.SseEventBuilder terminal;
+        private volatile boolean disconnected;
+        private volatile boolean overflowed;
+
+        private Relay(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        public void send(String name, Object data) {
+            if (disconnected || terminal != null) {
+                return;
+            }
+            if (!queue.offer(event(name, data)) && !overflowed) {
+                overflowed = true;
+                log.debug("SSE queue full, dropping further {} events", name);
+            }
+            schedule();
+        }
+
+        /** 마지막 이벤트를 보낸 뒤 emitter를 완료한다 (먼저 들어온 이벤트는 모두 보낸 다음) */
+        public void complete(String name, Object data) {
+            terminal = event(name, data);
+            schedule();
+        }
+
+        private void schedule() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                log.debug("SSE send skipped: sender is shut down");
+            }
+        }
+
+        private void drain() {
+            do {
+                SseEmitter.SseEventBuilder event;
+                while ((event = queue.poll()) != null) {
+                    write(event);
+                }
+                SseEmitter.SseEventBuilder last = terminal;
+                if (last != null && finished.compareAndSet(false, true)) {
+                    write(last);
+                    emitter.complete();
+                }
+                draining.set(false);
+            } while (hasPending() && draining.compareAndSet(false, true));
+        }
+
+        private boolean hasPending() {
+            return !queue.isEmpty() || (terminal != null && !finished.get());
+        }
+
+        /** 클라이언트 연결이 끊긴 경우 전송 실패는 무시한다 (답변 저장은 계속 진행) */
+        private void write(SseEmitter.SseEventBuilder event) {
+            if (disconnected) {
+                return;
+            }
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                disconnected = true;
+                queue.clear();
+                log.debug("SSE send skipped: {}", e.getMessage());
+            }
+        }
+
+        private SseEmitter.SseEventBuilder event(String name, Object data) {
+            return SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+}
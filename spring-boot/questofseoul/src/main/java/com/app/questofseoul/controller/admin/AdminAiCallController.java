@@ -0,0 +1,31 @@
+package com.app.questofseoul.controller.admin;
+
+import com.app.questofseoul.dto.admin.AiCallStatsResponse;
+import com.app.questofseoul.service.AiCallLogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/ai-calls")
+@RequiredArgsConstructor
+@Tag(name = "관리자 - AI 호출", description = "AI 가이드 호출 지연/오류/토큰 통계")
+public class AdminAiCallController {
+
+    private final AiCallLogService aiCallLogService;
+
+    @Operation(summary = "AI 호출 통계",
+            description = "최근 days일간 투어/일자별 p50/p95/p99 지연 시간, 오류율, 토큰 사용량 (tourId 지정 시 해당 투어만)")
+    @SecurityRequirement(name = "sessionAuth")
+    @GetMapping("/stats")
+    public ResponseEntity<List<AiCallStatsResponse>> stats(
+            @RequestParam(required = false) Long tourId,
+            @RequestParam(defaultValue = "7") int days) {
+        return ResponseEntity.ok(aiCallLogService.stats(tourId, Math.min(Math.max(days, 1), 90)));
+    }
+}
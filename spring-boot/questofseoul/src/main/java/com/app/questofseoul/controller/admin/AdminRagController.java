@@ -1,5 +1,8 @@
 package com.app.questofseoul.controller.admin;
 
+import com.app.questofseoul.dto.admin.RagSearchResult;
+import com.app.questofseoul.dto.admin.RagSyncJobResponse;
+import com.app.questofseoul.service.RagSyncJobService;
 import com.app.questofseoul.service.TourKnowledgeSyncService;
 import com.app.questofseoul.service.VectorSearchService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,23 +22,37 @@ import java.util.Map;
 public class AdminRagController {
 
     private final TourKnowledgeSyncService syncService;
+    private final RagSyncJobService syncJobService;
     private final VectorSearchService vectorSearchService;
 
-    @Operation(summary = "투어 지식 벡터 동기화")
+    @Operation(summary = "투어 지식 벡터 동기화",
+            description = "tourId 지정 시 해당 투어를 즉시 증분 동기화하고, 미지정 시 전체 동기화 작업을 백그라운드로 시작한다 (202 + 작업 상태)")
     @SecurityRequirement(name = "sessionAuth")
     @PostMapping("/sync")
-    public ResponseEntity<Map<String, Object>> sync(
+    public ResponseEntity<?> sync(
             @RequestParam(required = false) Long tourId) {
-        int count = tourId != null ? syncService.syncTour(tourId) : syncService.syncAll();
-        return ResponseEntity.ok(Map.of("embeddingsCount", count));
+        if (tourId != null) {
+            return ResponseEntity.ok(Map.of("embeddingsCount", syncService.syncTour(tourId)));
+        }
+        return ResponseEntity.accepted().body(syncJobService.start());
+    }
+
+    @Operation(summary = "전체 동기화 작업 상태 조회")
+    @SecurityRequirement(name = "sessionAuth")
+    @GetMapping("/sync/jobs/{jobId}")
+    public ResponseEntity<RagSyncJobResponse> getSyncJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(syncJobService.get(jobId));
     }
 
     @Operation(summary = "벡터 유사도 검색 테스트")
     @SecurityRequirement(name = "sessionAuth")
     @GetMapping("/search")
-    public ResponseEntity<List<String>> search(
+    public ResponseEntity<List<RagSearchResult>> search(
             @RequestParam String q,
+            @RequestParam(required = false) Long tourId,
+            @RequestParam(required = false) Long spotId,
+            @RequestParam(required = false) String sourceType,
             @RequestParam(defaultValue = "5") int limit) {
-        return ResponseEntity.ok(vectorSearchService.search(q, Math.min(limit, 20)));
+        return ResponseEntity.ok(vectorSearchService.search(q, tourId, spotId, sourceType, Math.min(limit, 20)));
     }
 }
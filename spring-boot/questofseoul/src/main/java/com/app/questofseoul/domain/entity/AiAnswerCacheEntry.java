@@ -0,0 +1,55 @@
+package com.app.questofseoul.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Array;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 가이드 답변 시맨틱 캐시. (tour, spot, language) 범위에서 질문 임베딩이 충분히 가까우면 저장된 답변을 재사용한다.
+ * 조회/저장은 {@code AiAnswerCache}가 JdbcTemplate으로 직접 수행하며, 엔티티는 스키마 정의용이다.
+ */
+@Entity
+@Table(name = "ai_answer_cache", indexes = {
+    @Index(name = "idx_aac_scope", columnList = "tour_id, spot_id, language, created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AiAnswerCacheEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tour_id", nullable = false)
+    private Long tourId;
+
+    @Column(name = "spot_id", nullable = false)
+    private Long spotId;
+
+    @Column(name = "language", nullable = false, length = 8)
+    private String language;
+
+    @Column(name = "question", nullable = false, columnDefinition = "TEXT")
+    private String question;
+
+    @Column(name = "answer", nullable = false, columnDefinition = "TEXT")
+    private String answer;
+
+    @Column(name = "question_embedding", nullable = false, columnDefinition = "vector(1536)")
+    @JdbcTypeCode(SqlTypes.VECTOR)
+    @Array(length = 1536)
+    private float[] questionEmbedding;
+
+    /** 질문을 임베딩한 공간 (EmbeddingService.namespace()). 다른 공간의 벡터와는 비교하지 않는다 */
+    @Column(name = "embedding_model", length = 64)
+    private String embeddingModel;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
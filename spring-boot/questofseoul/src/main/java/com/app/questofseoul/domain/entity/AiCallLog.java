@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
 import java.util.Map;
 
 @Entity
-@Table(name = "ai_call_logs")
+@Table(name = "ai_call_logs", indexes = @Index(name = "idx_ai_call_logs_created_at", columnList = "created_at"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class AiCallLog {
@@ -36,6 +36,10 @@ public class ChatSession {
     @Column(name = "cursor_step_index", nullable = false)
     private Integer cursorStepIndex = 0;
 
+    /** 마지막으로 재생한 스크립트 라인 (spot_script_lines.id). 가이드가 수정되면 커서는 이 라인 기준으로 다시 계산한다 */
+    @Column(name = "cursor_script_line_id")
+    private Long cursorScriptLineId;
+
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
 
@@ -72,7 +76,15 @@ public class ChatSession {
         return cursorStepIndex != null ? cursorStepIndex : 0;
     }
 
-    public void moveCursorTo(int index) {
+    /** index개 라인을 재생한 위치로 커서를 옮긴다 (lastScriptLineId: 그중 마지막 라인) */
+    public void moveCursorTo(int index, Long lastScriptLineId) {
         this.cursorStepIndex = Math.max(0, index);
+        this.cursorScriptLineId = lastScriptLineId;
+    }
+
+    public void changeLanguage(String language) {
+        if (language != null && !language.isBlank()) {
+            this.language = language;
+        }
     }
 }
@@ -74,14 +74,10 @@ public class ChatTurn {
         return t;
     }
 
-    public static ChatTurn createScript(ChatSession session, SpotContentStep step, SpotScriptLine scriptLine) {
-        ChatTurn t = new ChatTurn();
-        t.session = session;
-        t.source = ChatSource.SCRIPT;
-        t.role = ChatRole.GUIDE;
-        t.text = scriptLine != null ? scriptLine.getText() : null;
-        t.step = step;
-        t.scriptLine = scriptLine;
+    public static ChatTurn create(ChatSession session, ChatSource source, ChatRole role, String text,
+                                  Map<String, Object> contextJson) {
+        ChatTurn t = create(session, source, role, text);
+        t.contextJson = contextJson;
         return t;
     }
 }
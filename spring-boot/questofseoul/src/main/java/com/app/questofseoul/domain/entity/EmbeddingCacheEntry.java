@@ -0,0 +1,34 @@
+package com.app.questofseoul.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Array;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * 질의 임베딩 영속 캐시 (app.embedding-cache.persistent=true일 때 사용).
+ * cache_key는 (모델, 정규화된 텍스트)의 SHA-256이며, 조회/저장은 {@code EmbeddingCache}가 JdbcTemplate으로 수행한다.
+ */
+@Entity
+@Table(name = "embedding_cache")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmbeddingCacheEntry {
+
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    @Column(name = "embedding", nullable = false, columnDefinition = "vector(1536)")
+    @JdbcTypeCode(SqlTypes.VECTOR)
+    @Array(length = 1536)
+    private float[] embedding;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
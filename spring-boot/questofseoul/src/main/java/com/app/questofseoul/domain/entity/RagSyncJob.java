@@ -0,0 +1,103 @@
+package com.app.questofseoul.domain.entity;
+
+import com.app.questofseoul.domain.enums.RagSyncJobStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 투어 지식 동기화 작업. 투어 id 오름차순으로 청크 단위 처리하며,
+ * 청크가 끝날 때마다 lastTourId(체크포인트)와 진행 카운트를 저장해 재시작 시 이어서 처리한다.
+ * 여러 인스턴스가 같은 작업을 동시에 돌리지 않도록 owner/heartbeatAt 임대를 잡은 인스턴스만 처리한다.
+ */
+@Entity
+@Table(name = "rag_sync_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RagSyncJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private RagSyncJobStatus status = RagSyncJobStatus.RUNNING;
+
+    @Column(name = "total_tours", nullable = false)
+    private Integer totalTours = 0;
+
+    @Column(name = "processed_tours", nullable = false)
+    private Integer processedTours = 0;
+
+    @Column(name = "failed_tours", nullable = false)
+    private Integer failedTours = 0;
+
+    @Column(name = "embeddings_count", nullable = false)
+    private Integer embeddingsCount = 0;
+
+    /** 처리가 끝난 마지막 투어 id (이 id 이하의 투어는 재시작 시 건너뜀) */
+    @Column(name = "last_tour_id")
+    private Long lastTourId;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    /** 작업을 처리 중인 인스턴스 (pid@host). 처리 중 주기적으로 heartbeatAt을 갱신하며, 오래되면 다른 인스턴스가 가져간다 */
+    @Column(name = "owner", length = 128)
+    private String owner;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        LocalDateTime now = LocalDateTime.now();
+        createdAt = now;
+        updatedAt = now;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public static RagSyncJob create(int totalTours) {
+        RagSyncJob job = new RagSyncJob();
+        job.totalTours = totalTours;
+        return job;
+    }
+
+    public void checkpoint(Long lastTourId, int processed, int failed, int embeddings, String error) {
+        this.lastTourId = lastTourId;
+        this.processedTours += processed;
+        this.failedTours += failed;
+        this.embeddingsCount += embeddings;
+        if (error != null) {
+            this.lastError = error.length() > 1000 ? error.substring(0, 1000) : error;
+        }
+    }
+
+    public void complete() {
+        this.status = RagSyncJobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String error) {
+        this.status = RagSyncJobStatus.FAILED;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
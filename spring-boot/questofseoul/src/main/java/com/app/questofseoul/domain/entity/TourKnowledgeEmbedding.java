@@ -45,6 +45,10 @@ public class TourKnowledgeEmbedding {
     @Column(name = "title", length = 512)
     private String title;
 
+    /** (임베딩 공간, content)의 SHA-256 (증분 동기화 시 변경 여부 판단, 제공자/차원이 바뀌어도 재임베딩) */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "embedding", nullable = false, columnDefinition = "vector(1536)")
     @JdbcTypeCode(SqlTypes.VECTOR)
     @Array(length = 1536)
@@ -69,7 +73,7 @@ public class TourKnowledgeEmbedding {
     }
 
     public static TourKnowledgeEmbedding create(String sourceType, Long sourceId, Long tourId, Long spotId,
-                                                String content, String title, float[] embedding) {
+                                                String content, String title, String contentHash, float[] embedding) {
         TourKnowledgeEmbedding e = new TourKnowledgeEmbedding();
         e.sourceType = sourceType;
         e.sourceId = sourceId;
@@ -77,7 +81,16 @@ public class TourKnowledgeEmbedding {
         e.spotId = spotId;
         e.content = content;
         e.title = title;
+        e.contentHash = contentHash;
         e.embedding = embedding;
         return e;
     }
+
+    public void refresh(Long spotId, String content, String title, String contentHash, float[] embedding) {
+        this.spotId = spotId;
+        this.content = content;
+        this.title = title;
+        this.contentHash = contentHash;
+        this.embedding = embedding;
+    }
 }
@@ -0,0 +1,8 @@
+package com.app.questofseoul.domain.enums;
+
+/** rag_sync_jobs.status */
+public enum RagSyncJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
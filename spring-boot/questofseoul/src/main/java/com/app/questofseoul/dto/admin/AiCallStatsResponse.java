@@ -0,0 +1,17 @@
+package com.app.questofseoul.dto.admin;
+
+/**
+ * 투어/일자별 AI 호출 통계 (지연 시간 ms 분위수, 오류율, 토큰 사용량)
+ */
+public record AiCallStatsResponse(
+    Long tourId,
+    String day,
+    long calls,
+    long errors,
+    double errorRate,
+    double p50LatencyMs,
+    double p95LatencyMs,
+    double p99LatencyMs,
+    long tokenIn,
+    long tokenOut
+) {}
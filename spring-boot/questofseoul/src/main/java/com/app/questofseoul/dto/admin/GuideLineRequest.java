@@ -6,9 +6,11 @@ import jakarta.validation.constraints.NotNull;
 import java.util.List;
 
 /**
- * 가이드 한 문장 (텍스트 + 첨부 미디어)
+ * 가이드 한 문장 (텍스트 + 첨부 미디어).
+ * id: 수정할 기존 라인 id (조회 응답의 id, 새 라인이면 null). 라인 id가 유지돼야 진행 중인 채팅 세션 위치가 밀리지 않는다.
  */
 public record GuideLineRequest(
+    Long id,
     @NotBlank String text,
     @NotNull List<GuideAssetRequest> assets
 ) {
@@ -0,0 +1,15 @@
+package com.app.questofseoul.dto.admin;
+
+/**
+ * 투어 지식 벡터 검색 결과 (distance: 코사인 거리, 작을수록 유사)
+ */
+public record RagSearchResult(
+    Long id,
+    String sourceType,
+    Long sourceId,
+    Long tourId,
+    Long spotId,
+    String title,
+    String content,
+    double distance
+) {}
@@ -0,0 +1,34 @@
+package com.app.questofseoul.dto.admin;
+
+import com.app.questofseoul.domain.entity.RagSyncJob;
+
+/**
+ * 투어 지식 동기화 작업 상태 응답
+ */
+public record RagSyncJobResponse(
+    Long jobId,
+    String status,
+    int total,
+    int processed,
+    int failed,
+    int embeddingsCount,
+    Long lastTourId,
+    String lastError,
+    String createdAt,
+    String finishedAt
+) {
+    public static RagSyncJobResponse from(RagSyncJob job) {
+        return new RagSyncJobResponse(
+            job.getId(),
+            job.getStatus().name(),
+            job.getTotalTours(),
+            job.getProcessedTours(),
+            job.getFailedTours(),
+            job.getEmbeddingsCount(),
+            job.getLastTourId(),
+            job.getLastError(),
+            job.getCreatedAt() != null ? job.getCreatedAt().toString() : null,
+            job.getFinishedAt() != null ? job.getFinishedAt().toString() : null
+        );
+    }
+}
@@ -6,5 +6,8 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 public record ChatSessionStatusResponse(
     Long sessionId,
     String status,
+    Long lastScriptLineId,
+    // lastScriptLineId와 같은 값. 기존 클라이언트 호환용 (deprecated)
+    @Deprecated
     Long lastTurnId
 ) {}
@@ -9,8 +9,13 @@ public record ChatTurnsResponse(
     Boolean hasNextScript,
     List<ChatTurnItem> turns
 ) {
+    /**
+     * USER/LLM 턴은 turnId(chat_turns.id), SCRIPT 턴은 scriptLineId(spot_script_lines.id)로 식별한다.
+     * SCRIPT 턴의 turnId는 기존 클라이언트 호환용으로 scriptLineId와 같은 값을 채운다 (deprecated, 턴 종류 간 중복 가능).
+     */
     public record ChatTurnItem(
         Long turnId,
+        Long scriptLineId,
         String role,
         String source,
         String text,
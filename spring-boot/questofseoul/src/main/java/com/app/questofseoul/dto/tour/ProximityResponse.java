@@ -1,5 +1,8 @@
 package com.app.questofseoul.dto.tour;
 
+import com.app.questofseoul.domain.enums.ChatRole;
+import com.app.questofseoul.domain.enums.ChatSource;
+
 import java.util.List;
 
 public record ProximityResponse(
@@ -14,7 +17,16 @@ public record ProximityResponse(
             this(refType, refId, placeName, null);
         }
     }
-    public record ChatTurnDto(Long turnId, String role, String source, String text, List<AssetDto> assets, Integer delayMs, ActionDto action) {}
+    /** 식별자 규칙은 {@link ChatTurnsResponse.ChatTurnItem}과 같다 (SCRIPT 턴의 turnId = scriptLineId, deprecated) */
+    public record ChatTurnDto(Long turnId, Long scriptLineId, String role, String source, String text, List<AssetDto> assets, Integer delayMs, ActionDto action) {
+
+        /** 가이드 스크립트 턴 (GUIDE/SCRIPT) */
+        public static ChatTurnDto script(Long scriptLineId, String text, List<AssetDto> assets, Integer delayMs,
+                                         ActionDto action) {
+            return new ChatTurnDto(scriptLineId, scriptLineId, ChatRole.GUIDE.name(), ChatSource.SCRIPT.name(), text, assets,
+                    delayMs, action);
+        }
+    }
     public record AssetDto(Long id, String type, String url, Object meta) {}
     public record ActionDto(String type, String nextApi, String label, Long stepId) {}
 
@@ -0,0 +1,8 @@
+package com.app.questofseoul.event;
+
+/**
+ * 관리자 화면에서 스팟의 가이드 스텝/스크립트 라인이 변경되었음을 알리는 이벤트.
+ * 트랜잭션 커밋 이후 리스너가 스팟 단위 컴파일 스크립트 캐시를 폐기하는 용도로 사용한다.
+ */
+public record GuideContentChangedEvent(Long spotId) {
+}
@@ -0,0 +1,8 @@
+package com.app.questofseoul.event;
+
+/**
+ * 관리자 화면에서 투어 기본 정보(제목/설명/info/good-to-know)나 투어·스팟 이미지가 변경되었음을 알리는 이벤트.
+ * 트랜잭션 커밋 이후 리스너가 투어 단위 읽기 모델 캐시를 폐기하는 용도로 사용한다.
+ */
+public record TourContentChangedEvent(Long tourId) {
+}
@@ -0,0 +1,8 @@
+package com.app.questofseoul.event;
+
+/**
+ * 관리자 화면에서 투어 스팟(좌표/반경/타입/활성 여부 등)이 변경되었음을 알리는 이벤트.
+ * 트랜잭션 커밋 이후 리스너가 투어 단위 캐시/인덱스를 폐기하는 용도로 사용한다.
+ */
+public record TourSpotsChangedEvent(Long tourId) {
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ChatTurnRepository extends JpaRepository<ChatTurn, Long> {
 
@@ -15,6 +16,8 @@ public interface ChatTurnRepository extends JpaRepository<ChatTurn, Long> {
 
     long countBySession_Id(Long sessionId);
 
+    Optional<ChatTurn> findByIdAndSession_Id(Long id, Long sessionId);
+
     @Modifying(flushAutomatically = true)
     @Query("UPDATE ChatTurn t SET t.scriptLine = null WHERE t.scriptLine.id IN :scriptLineIds")
     int clearScriptLineReferences(@Param("scriptLineIds") Collection<Long> scriptLineIds);
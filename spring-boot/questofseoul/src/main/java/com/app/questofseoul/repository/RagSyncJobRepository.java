@@ -0,0 +1,42 @@
+package com.app.questofseoul.repository;
+
+import com.app.questofseoul.domain.entity.RagSyncJob;
+import com.app.questofseoul.domain.enums.RagSyncJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RagSyncJobRepository extends JpaRepository<RagSyncJob, Long> {
+
+    List<RagSyncJob> findByStatusOrderByIdAsc(RagSyncJobStatus status);
+
+    /** RUNNING 작업의 임대를 잡거나 갱신한다. 비어 있거나, 내 것이거나, heartbeat가 staleBefore보다 오래됐을 때만 1 */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE RagSyncJob j SET j.owner = :owner, j.heartbeatAt = :now
+        WHERE j.id = :id AND j.status = :status
+          AND (j.owner IS NULL OR j.owner = :owner OR j.heartbeatAt < :staleBefore)
+        """)
+    int claim(@Param("id") Long id, @Param("status") RagSyncJobStatus status, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 내가 잡은 임대만 갱신한다 (다른 인스턴스가 가져갔으면 0). 갱신한 행은 트랜잭션이 끝날 때까지 잠기므로
+     * 같은 트랜잭션의 체크포인트/완료 기록은 임대를 가진 상태에서만 쓰인다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE RagSyncJob j SET j.heartbeatAt = :now
+        WHERE j.id = :id AND j.status = :status AND j.owner = :owner
+        """)
+    int renew(@Param("id") Long id, @Param("status") RagSyncJobStatus status, @Param("owner") String owner,
+              @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RagSyncJob j SET j.owner = null, j.heartbeatAt = null WHERE j.id = :id AND j.owner = :owner")
+    int release(@Param("id") Long id, @Param("owner") String owner);
+}
@@ -2,10 +2,22 @@ package com.app.questofseoul.repository;
 
 import com.app.questofseoul.domain.entity.ScriptLineAsset;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ScriptLineAssetRepository extends JpaRepository<ScriptLineAsset, Long> {
 
     List<ScriptLineAsset> findByScriptLine_IdOrderBySortOrderAsc(Long scriptLineId);
+
+    @Query("""
+            SELECT a
+            FROM ScriptLineAsset a
+            JOIN FETCH a.asset
+            WHERE a.scriptLine.id IN :scriptLineIds
+            ORDER BY a.sortOrder ASC, a.id ASC
+            """)
+    List<ScriptLineAsset> findWithAssetByScriptLineIds(@Param("scriptLineIds") Collection<Long> scriptLineIds);
 }
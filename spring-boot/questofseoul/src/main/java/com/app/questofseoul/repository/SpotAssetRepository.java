@@ -3,7 +3,10 @@ package com.app.questofseoul.repository;
 import com.app.questofseoul.domain.entity.SpotAsset;
 import com.app.questofseoul.domain.enums.SpotAssetUsage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +17,13 @@ public interface SpotAssetRepository extends JpaRepository<SpotAsset, Long> {
     List<SpotAsset> findBySpot_IdOrderBySortOrderAsc(Long spotId);
 
     Optional<SpotAsset> findFirstBySpot_IdAndUsageOrderBySortOrderAsc(Long spotId, SpotAssetUsage usage);
+
+    @Query("""
+            SELECT a
+            FROM SpotAsset a
+            JOIN FETCH a.asset
+            WHERE a.spot.id IN :spotIds
+            ORDER BY a.sortOrder ASC, a.id ASC
+            """)
+    List<SpotAsset> findWithAssetBySpotIds(@Param("spotIds") Collection<Long> spotIds);
 }
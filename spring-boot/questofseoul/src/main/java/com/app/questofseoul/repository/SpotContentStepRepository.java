@@ -4,7 +4,9 @@ import com.app.questofseoul.domain.entity.SpotContentStep;
 import com.app.questofseoul.domain.enums.StepKind;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,6 +43,30 @@ public interface SpotContentStepRepository extends JpaRepository<SpotContentStep
             """)
     long countMissionsByTourId(Long tourId, StepKind kind);
 
+    /** countMissionsByTourId와 같은 조건으로 전체 투어를 한 번에 집계 */
+    @Query("""
+            SELECT s.spot.tour.id AS tourId, COUNT(s) AS count
+            FROM SpotContentStep s
+            WHERE s.kind = :kind
+              AND (s.isPublished = true OR s.isPublished IS NULL)
+              AND (s.spot.isActive = true OR s.spot.isActive IS NULL)
+            GROUP BY s.spot.tour.id
+            """)
+    List<TourStepCount> countGroupByTourId(@Param("kind") StepKind kind);
+
+    @Query("""
+            SELECT s
+            FROM SpotContentStep s
+            WHERE s.spot.id IN :spotIds
+              AND s.kind = :kind
+              AND s.language = :language
+              AND (s.isPublished = true OR s.isPublished IS NULL)
+            ORDER BY s.stepIndex ASC, s.id ASC
+            """)
+    List<SpotContentStep> findBySpotIdsAndKindAndLanguageOrderByStepIndexAsc(@Param("spotIds") Collection<Long> spotIds,
+                                                                            @Param("kind") StepKind kind,
+                                                                            @Param("language") String language);
+
     @Query("""
             SELECT s
             FROM SpotContentStep s
@@ -78,4 +104,10 @@ public interface SpotContentStepRepository extends JpaRepository<SpotContentStep
             ORDER BY s.stepIndex ASC, s.id ASC
             """)
     List<SpotContentStep> findAllBySpotIdAndLanguageOrderByStepIndexAscIncludingUnpublished(Long spotId, String language);
+
+    interface TourStepCount {
+        Long getTourId();
+
+        long getCount();
+    }
 }
@@ -2,10 +2,16 @@ package com.app.questofseoul.repository;
 
 import com.app.questofseoul.domain.entity.SpotScriptLine;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface SpotScriptLineRepository extends JpaRepository<SpotScriptLine, Long> {
 
     List<SpotScriptLine> findByStep_IdOrderBySeqAsc(Long stepId);
+
+    @Query("SELECT l FROM SpotScriptLine l WHERE l.step.id IN :stepIds ORDER BY l.seq ASC, l.id ASC")
+    List<SpotScriptLine> findByStepIdsOrderBySeqAsc(@Param("stepIds") Collection<Long> stepIds);
 }
@@ -3,7 +3,10 @@ package com.app.questofseoul.repository;
 import com.app.questofseoul.domain.entity.TourAsset;
 import com.app.questofseoul.domain.enums.TourAssetUsage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +15,13 @@ public interface TourAssetRepository extends JpaRepository<TourAsset, Long> {
     List<TourAsset> findByTour_IdOrderBySortOrderAsc(Long tourId);
 
     Optional<TourAsset> findFirstByTour_IdAndUsageOrderBySortOrderAsc(Long tourId, TourAssetUsage usage);
+
+    @Query("""
+            SELECT ta
+            FROM TourAsset ta
+            JOIN FETCH ta.asset
+            WHERE ta.usage IN :usages
+            ORDER BY ta.sortOrder ASC, ta.id ASC
+            """)
+    List<TourAsset> findWithAssetByUsageIn(@Param("usages") Collection<TourAssetUsage> usages);
 }
@@ -2,7 +2,10 @@ package com.app.questofseoul.repository;
 
 import com.app.questofseoul.domain.entity.TourKnowledgeEmbedding;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TourKnowledgeEmbeddingRepository extends JpaRepository<TourKnowledgeEmbedding, Long> {
@@ -12,4 +15,26 @@ public interface TourKnowledgeEmbeddingRepository extends JpaRepository<TourKnow
     void deleteByTourId(Long tourId);
 
     List<TourKnowledgeEmbedding> findByTourId(Long tourId);
+
+    /** 증분 동기화용 (출처, 해시) 목록. 임베딩 벡터는 읽지 않는다. */
+    @Query("""
+            SELECT e.id AS id, e.sourceType AS sourceType, e.sourceId AS sourceId, e.contentHash AS contentHash
+            FROM TourKnowledgeEmbedding e
+            WHERE e.tourId = :tourId
+            """)
+    List<SourceHash> findSourceHashesByTourId(Long tourId);
+
+    @Modifying
+    @Query("DELETE FROM TourKnowledgeEmbedding e WHERE e.id IN :ids")
+    void deleteAllByIdIn(Collection<Long> ids);
+
+    interface SourceHash {
+        Long getId();
+
+        String getSourceType();
+
+        Long getSourceId();
+
+        String getContentHash();
+    }
 }
@@ -1,10 +1,17 @@
 package com.app.questofseoul.repository;
 
 import com.app.questofseoul.domain.entity.Tour;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface TourRepository extends JpaRepository<Tour, Long> {
     Optional<Tour> findByExternalKey(String externalKey);
+
+    /** 동기화 작업 청크용: afterId보다 큰 투어 id를 오름차순으로 */
+    @Query("SELECT t.id FROM Tour t WHERE t.id > :afterId ORDER BY t.id")
+    List<Long> findIdsAfter(Long afterId, Pageable pageable);
 }
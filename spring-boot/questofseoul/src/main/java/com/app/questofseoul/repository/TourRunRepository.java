@@ -4,6 +4,7 @@ import com.app.questofseoul.domain.entity.TourRun;
 import com.app.questofseoul.domain.enums.RunStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,6 +16,10 @@ public interface TourRunRepository extends JpaRepository<TourRun, Long> {
 
     Optional<TourRun> findByIdAndUserId(Long id, UUID userId);
 
+    /** 근접 감지용 run 스냅샷: run + chat session 목록을 한 번에 로드 */
+    @Query("SELECT DISTINCT r FROM TourRun r LEFT JOIN FETCH r.chatSessions WHERE r.id = :runId")
+    Optional<TourRun> findWithChatSessionsById(@Param("runId") Long runId);
+
     List<TourRun> findByUserIdAndTourIdOrderByStartedAtDesc(UUID userId, Long tourId);
 
     @Query("SELECT DISTINCT r.tour.id FROM TourRun r WHERE r.user.id = :userId")
@@ -46,6 +46,23 @@ public interface TourSpotRepository extends JpaRepository<TourSpot, Long> {
     @Query("SELECT COUNT(s) FROM TourSpot s WHERE s.tour.id = :tourId AND s.type = :type AND (s.isActive = true OR s.isActive IS NULL)")
     long countByTourIdAndType(Long tourId, SpotType type);
 
+    /** 전체 투어의 활성 스팟 수를 (투어, 타입)별로 한 번에 집계 */
+    @Query("""
+            SELECT s.tour.id AS tourId, s.type AS type, COUNT(s) AS count
+            FROM TourSpot s
+            WHERE (s.isActive = true OR s.isActive IS NULL)
+            GROUP BY s.tour.id, s.type
+            """)
+    List<TourTypeCount> countActiveGroupByTourAndType();
+
+    interface TourTypeCount {
+        Long getTourId();
+
+        SpotType getType();
+
+        long getCount();
+    }
+
     @Query("""
             SELECT s
             FROM TourSpot s
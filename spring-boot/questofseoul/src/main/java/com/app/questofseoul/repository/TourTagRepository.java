@@ -2,10 +2,18 @@ package com.app.questofseoul.repository;
 
 import com.app.questofseoul.domain.entity.TourTag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface TourTagRepository extends JpaRepository<TourTag, Long> {
 
     List<TourTag> findByTourId(Long tourId);
+
+    @Query("SELECT tt FROM TourTag tt JOIN FETCH tt.tag WHERE tt.tour.id = :tourId ORDER BY tt.id ASC")
+    List<TourTag> findWithTagByTourId(@Param("tourId") Long tourId);
+
+    @Query("SELECT tt FROM TourTag tt JOIN FETCH tt.tag ORDER BY tt.id ASC")
+    List<TourTag> findAllWithTag();
 }
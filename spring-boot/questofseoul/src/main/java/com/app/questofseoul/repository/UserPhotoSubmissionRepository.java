@@ -3,6 +3,8 @@ package com.app.questofseoul.repository;
 import com.app.questofseoul.domain.entity.UserPhotoSubmission;
 import com.app.questofseoul.domain.enums.PhotoSubmissionStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
@@ -22,4 +24,26 @@ public interface UserPhotoSubmissionRepository extends JpaRepository<UserPhotoSu
     List<UserPhotoSubmission> findBySpot_IdAndStatusOrderBySubmittedAtDesc(Long spotId, PhotoSubmissionStatus status);
 
     long countBySpotIdAndStatus(Long spotId, PhotoSubmissionStatus status);
+
+    /** 관리자 목록용: spot/asset/user를 함께 읽는다 (open-in-view 없이 트랜잭션 밖에서 매핑) */
+    @Query("""
+            SELECT s
+            FROM UserPhotoSubmission s
+            JOIN FETCH s.spot
+            JOIN FETCH s.asset
+            JOIN FETCH s.user
+            WHERE s.status = :status
+            ORDER BY s.submittedAt ASC
+            """)
+    List<UserPhotoSubmission> findWithDetailsByStatus(@Param("status") PhotoSubmissionStatus status);
+
+    @Query("""
+            SELECT s
+            FROM UserPhotoSubmission s
+            JOIN FETCH s.spot
+            JOIN FETCH s.asset
+            JOIN FETCH s.user
+            ORDER BY s.submittedAt ASC
+            """)
+    List<UserPhotoSubmission> findAllWithDetails();
 }
@@ -3,7 +3,10 @@ package com.app.questofseoul.repository;
 import com.app.questofseoul.domain.entity.UserTourAccess;
 import com.app.questofseoul.domain.enums.TourAccessStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,4 +15,14 @@ public interface UserTourAccessRepository extends JpaRepository<UserTourAccess,
     Optional<UserTourAccess> findByUserIdAndTourId(UUID userId, Long tourId);
 
     boolean existsByUserIdAndTourIdAndStatus(UUID userId, Long tourId, TourAccessStatus status);
+
+    /** 사용자의 투어별 접근 상태 (목록 화면용 단일 조회) */
+    @Query("SELECT a.tour.id AS tourId, a.status AS status FROM UserTourAccess a WHERE a.user.id = :userId")
+    List<TourAccessStatusView> findAccessStatusesByUserId(@Param("userId") UUID userId);
+
+    interface TourAccessStatusView {
+        Long getTourId();
+
+        TourAccessStatus getStatus();
+    }
 }
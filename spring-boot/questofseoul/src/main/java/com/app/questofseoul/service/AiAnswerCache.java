@@ -0,0 +1,178 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.config.AiAnswerCacheProperties;
+import com.app.questofseoul.event.GuideContentChangedEvent;
+import com.app.questofseoul.event.TourContentChangedEvent;
+import com.app.questofseoul.event.TourSpotsChangedEvent;
+import com.pgvector.PGvector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI 가이드 답변 시맨틱 캐시 (ai_answer_cache).
+ * 같은 (tour, spot, language) 범위에서 질문 임베딩의 코사인 유사도가 임계값 이상이고 TTL 이내인 답변이 있으면 재사용한다.
+ * 임베딩 공간(embedding_model)이 다른 행은 비교하지 않으므로 제공자를 바꾸면 기존 답변은 TTL까지 조회되지 않다가 정리된다.
+ * 범위 필터로 후보가 스팟별 수백 건 이내로 좁혀지므로 벡터 인덱스 대신 (tour_id, spot_id, language) 인덱스 + 정확 거리 정렬을 사용한다.
+ * 관리자 투어/스팟/가이드 변경이 커밋되면 해당 범위의 답변을 삭제한다.
+ * 채팅 경로는 {@link #lookupAsync}/{@link #storeAsync}로 임베딩 API 왕복과 DB 쓰기를 전용 스레드에서 처리한다.
+ */
+@Service
+public class AiAnswerCache {
+
+    private static final Logger log = LoggerFactory.getLogger(AiAnswerCache.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmbeddingService embeddingService;
+    private final AiAnswerCacheProperties properties;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter skips;
+    private final ExecutorService executor;
+
+    public AiAnswerCache(JdbcTemplate jdbcTemplate, EmbeddingService embeddingService,
+                         AiAnswerCacheProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.embeddingService = embeddingService;
+        this.properties = properties;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(properties.executorThreads(), r -> {
+            Thread t = new Thread(r, "ai-answer-cache-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.hits = meterRegistry.counter("ai.answer.cache", "result", "hit");
+        this.misses = meterRegistry.counter("ai.answer.cache", "result", "miss");
+        this.skips = meterRegistry.counter("ai.answer.cache", "result", "skip");
+    }
+
+    /** {@link #lookup}을 캐시 전용 스레드에서 실행 (임베딩 API 왕복이 서블릿 스레드를 막지 않도록) */
+    public CompletableFuture<Lookup> lookupAsync(Long tourId, Long spotId, String language, String question) {
+        return CompletableFuture.supplyAsync(() -> lookup(tourId, spotId, language, question), executor);
+    }
+
+    /** {@link #store}를 캐시 전용 스레드에서 실행 (응답 경로와 무관하게 fire-and-forget) */
+    public void storeAsync(Lookup lookup, String answer) {
+        try {
+            executor.execute(() -> store(lookup, answer));
+        } catch (RejectedExecutionException e) {
+            log.debug("Answer cache store skipped: executor is shut down");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 질문을 임베딩해 캐시를 조회한다. 비활성/임베딩 실패/DB 오류 시에는 저장도 하지 않는 miss로 취급한다.
+     */
+    public Lookup lookup(Long tourId, Long spotId, String language, String question) {
+        if (!properties.enabled() || question == null || question.isBlank()) {
+            skips.increment();
+            return new Lookup(tourId, spotId, language, question, new float[0], null);
+        }
+        float[] embedding;
+        try {
+            embedding = embeddingService.embed(question.strip());
+        } catch (Exception e) {
+            log.warn("Answer cache embedding failed: {}", e.getMessage());
+            embedding = new float[0];
+        }
+        if (embedding.length == 0) {
+            skips.increment();
+            return new Lookup(tourId, spotId, language, question, embedding, null);
+        }
+
+        String answer = null;
+        try {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT answer, question_embedding <=> ? AS distance FROM ai_answer_cache
+                WHERE tour_id = ? AND spot_id = ? AND language = ? AND created_at > ? AND embedding_model = ?
+                ORDER BY distance LIMIT 1
+                """, new PGvector(embedding), tourId, spotId, language, expiryCutoff(), embeddingService.namespace());
+            if (!rows.isEmpty() && rows.get(0).get("distance") instanceof Number distance
+                    && 1 - distance.doubleValue() >= properties.similarityThreshold()) {
+                answer = (String) rows.get(0).get("answer");
+            }
+        } catch (Exception e) {
+            log.warn("Answer cache lookup failed: {}", e.getMessage());
+        }
+        (answer != null ? hits : misses).increment();
+        return new Lookup(tourId, spotId, language, question, embedding, answer);
+    }
+
+    /** miss였던 질문의 답변 저장 (안내 문구는 저장하지 않음). 같은 범위의 만료 답변은 함께 정리한다. */
+    public void store(Lookup lookup, String answer) {
+        if (lookup.hit() || lookup.embedding().length == 0 || answer == null || answer.isBlank()
+                || TourGuideAiService.isFallbackMessage(answer)) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("""
+                DELETE FROM ai_answer_cache
+                WHERE tour_id = ? AND spot_id = ? AND language = ? AND created_at <= ?
+                """, lookup.tourId(), lookup.spotId(), lookup.language(), expiryCutoff());
+            jdbcTemplate.update("""
+                INSERT INTO ai_answer_cache
+                    (tour_id, spot_id, language, question, answer, question_embedding, embedding_model, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, lookup.tourId(), lookup.spotId(), lookup.language(), lookup.question(), answer,
+                    new PGvector(lookup.embedding()), embeddingService.namespace(),
+                    Timestamp.valueOf(LocalDateTime.now()));
+        } catch (Exception e) {
+            log.warn("Answer cache store failed: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTourSpotsChanged(TourSpotsChangedEvent event) {
+        evictTour(event.tourId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTourContentChanged(TourContentChangedEvent event) {
+        evictTour(event.tourId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGuideContentChanged(GuideContentChangedEvent event) {
+        if (event.spotId() == null) return;
+        jdbcTemplate.update("DELETE FROM ai_answer_cache WHERE spot_id = ?", event.spotId());
+    }
+
+    private void evictTour(Long tourId) {
+        if (tourId == null) return;
+        jdbcTemplate.update("DELETE FROM ai_answer_cache WHERE tour_id = ?", tourId);
+    }
+
+    private Timestamp expiryCutoff() {
+        return Timestamp.valueOf(LocalDateTime.now().minus(properties.ttl()));
+    }
+
+    /** 캐시 조회 결과. miss면 answer가 null이며, 같은 임베딩으로 {@link #store}에 다시 넘긴다. */
+    public record Lookup(Long tourId, Long spotId, String language, String question,
+                         float[] embedding, String answer) {
+
+        public boolean hit() {
+            return answer != null;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.dto.admin.AiCallStatsResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 호출 로그(ai_call_logs) 기록/집계.
+ * 요청 경로에서는 제한된 큐에 넣기만 하고, 전용 스레드가 모아서 batch insert 한다.
+ * 큐가 가득 차면 요청을 막지 않고 버리며 ai.call.log.dropped 카운터로 남긴다.
+ */
+@Service
+public class AiCallLogService {
+
+    private static final Logger log = LoggerFactory.getLogger(AiCallLogService.class);
+    private static final String UNKNOWN_MODEL = "unknown";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final BlockingQueue<Entry> queue;
+    private final Counter dropped;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public AiCallLogService(JdbcTemplate jdbcTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.ai-call-log.enabled:true}") boolean enabled,
+                            @Value("${app.ai-call-log.queue-capacity:10000}") int queueCapacity,
+                            @Value("${app.ai-call-log.batch-size:200}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.dropped = meterRegistry.counter("ai.call.log.dropped");
+        this.writer = new Thread(this::drainLoop, "ai-call-log-writer");
+        this.writer.setDaemon(true);
+        if (enabled) {
+            this.writer.start();
+        }
+    }
+
+    /** AI 호출 1건 기록 요청 (비차단). result가 null이면 실제 호출이 없었던 것이므로 무시한다. */
+    public void record(Long sessionId, Long userTurnId, Long llmTurnId, AiCallResult result) {
+        if (!enabled || result == null || sessionId == null || userTurnId == null) return;
+        Entry entry = new Entry(sessionId, userTurnId, llmTurnId, result, LocalDateTime.now());
+        if (!queue.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * 최근 days일간 투어/일자별 지연 시간 분위수, 오류율, 토큰 사용량. tourId 지정 시 해당 투어만.
+     */
+    public List<AiCallStatsResponse> stats(Long tourId, int days) {
+        List<Object> params = new ArrayList<>();
+        params.add(Timestamp.valueOf(LocalDate.now().minusDays(Math.max(1, days) - 1L).atStartOfDay()));
+        String tourFilter = "";
+        if (tourId != null) {
+            tourFilter = " AND r.tour_id = ?";
+            params.add(tourId);
+        }
+        return jdbcTemplate.query("""
+            SELECT r.tour_id, CAST(l.created_at AS date) AS day, count(*) AS calls, count(l.error_code) AS errors,
+                   percentile_cont(0.5) WITHIN GROUP (ORDER BY l.latency_ms) AS p50,
+                   percentile_cont(0.95) WITHIN GROUP (ORDER BY l.latency_ms) AS p95,
+                   percentile_cont(0.99) WITHIN GROUP (ORDER BY l.latency_ms) AS p99,
+                   coalesce(sum(l.token_in), 0) AS token_in, coalesce(sum(l.token_out), 0) AS token_out
+            FROM ai_call_logs l
+            JOIN chat_sessions s ON s.id = l.session_id
+            JOIN tour_runs r ON r.id = s.tour_run_id
+            WHERE l.created_at >= ?%s
+            GROUP BY r.tour_id, CAST(l.created_at AS date)
+            ORDER BY day DESC, r.tour_id
+            """.formatted(tourFilter), (rs, rowNum) -> {
+                long calls = rs.getLong("calls");
+                long errors = rs.getLong("errors");
+                Date day = rs.getDate("day");
+                return new AiCallStatsResponse(
+                    rs.getLong("tour_id"),
+                    day != null ? day.toLocalDate().toString() : null,
+                    calls,
+                    errors,
+                    calls > 0 ? (double) errors / calls : 0,
+                    rs.getDouble("p50"),
+                    rs.getDouble("p95"),
+                    rs.getDouble("p99"),
+                    rs.getLong("token_in"),
+                    rs.getLong("token_out"));
+            }, params.toArray());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        List<Entry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        flush(remaining);
+    }
+
+    private void drainLoop() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Entry first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /** 묶음 insert. 실패해도 요청 처리에는 영향을 주지 않도록 로그만 남긴다. */
+    int flush(List<Entry> entries) {
+        if (entries.isEmpty()) return 0;
+        try {
+            jdbcTemplate.batchUpdate("""
+                INSERT INTO ai_call_logs (session_id, user_turn_id, llm_turn_id, model, latency_ms, token_in, token_out, error_code, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, entries, entries.size(), (ps, entry) -> {
+                    AiCallResult result = entry.result();
+                    ps.setLong(1, entry.sessionId());
+                    ps.setLong(2, entry.userTurnId());
+                    ps.setObject(3, entry.llmTurnId());
+                    ps.setString(4, result.model() != null ? result.model() : UNKNOWN_MODEL);
+                    ps.setInt(5, result.latencyMs());
+                    ps.setObject(6, result.tokenIn());
+                    ps.setObject(7, result.tokenOut());
+                    ps.setString(8, result.errorCode());
+                    ps.setTimestamp(9, Timestamp.valueOf(entry.createdAt()));
+                });
+            return entries.size();
+        } catch (Exception e) {
+            log.warn("AI call log insert failed ({} rows): {}", entries.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    record Entry(Long sessionId, Long userTurnId, Long llmTurnId, AiCallResult result, LocalDateTime createdAt) {}
+}
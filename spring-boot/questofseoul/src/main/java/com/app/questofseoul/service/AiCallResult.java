@@ -0,0 +1,16 @@
+package com.app.questofseoul.service;
+
+/**
+ * ai-server 호출 1건의 결과 요약 (AiCallLog 기록용).
+ * model/토큰은 ai-server가 알려준 경우에만 채워지고, errorCode가 null이면 정상 답변이다.
+ */
+public record AiCallResult(String model, Integer tokenIn, Integer tokenOut, String errorCode, int latencyMs) {
+
+    public static final String ERROR_TIMEOUT = "TIMEOUT";
+    public static final String ERROR_EMPTY = "EMPTY";
+    public static final String ERROR_FAILED = "FAILED";
+
+    static String httpError(int statusCode) {
+        return "HTTP_" + statusCode;
+    }
+}
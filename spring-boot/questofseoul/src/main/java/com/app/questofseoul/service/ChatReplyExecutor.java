@@ -0,0 +1,44 @@
+package com.app.questofseoul.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI 응답 도착 이후 작업(LLM 턴 저장, 답변 캐시/AiCallLog 전달) 전용 스레드 풀.
+ * ai-server HttpClient 완료 스레드는 공유 풀이므로 거기서 DB 트랜잭션을 돌리지 않도록 분리한다.
+ * 큐가 가득 차면 호출 스레드에서 실행하지 않고 RejectedExecutionException으로 해당 응답을 실패 처리한다.
+ * (Executor를 구현하지 않는 이유: Executor 빈이 있으면 Spring Boot 기본 applicationTaskExecutor가 꺼진다)
+ */
+@Component
+public class ChatReplyExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public ChatReplyExecutor(@Value("${app.chat.reply-threads:8}") int threads,
+                             @Value("${app.chat.reply-queue-capacity:200}") int queueCapacity) {
+        AtomicInteger seq = new AtomicInteger();
+        int poolSize = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+                    Thread t = new Thread(r, "chat-reply-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public Executor executor() {
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,15 +1,13 @@
 package com.app.questofseoul.service;
 
+import com.app.questofseoul.config.AiServerProperties;
 import com.app.questofseoul.domain.entity.ChatSession;
 import com.app.questofseoul.domain.entity.ChatTurn;
-import com.app.questofseoul.domain.entity.SpotContentStep;
 import com.app.questofseoul.domain.entity.TourSpot;
 import com.app.questofseoul.domain.enums.ChatRole;
 import com.app.questofseoul.domain.enums.ChatSource;
 import com.app.questofseoul.domain.enums.ProgressStatus;
 import com.app.questofseoul.domain.enums.SpotType;
-import com.app.questofseoul.domain.enums.StepKind;
-import com.app.questofseoul.domain.enums.StepNextAction;
 import com.app.questofseoul.dto.tour.ChatSessionStatusResponse;
 import com.app.questofseoul.dto.tour.ChatTurnsResponse;
 import com.app.questofseoul.dto.tour.ProximityResponse;
@@ -19,24 +17,24 @@ import com.app.questofseoul.exception.ResourceNotFoundException;
 import com.app.questofseoul.exception.ValidationException;
 import com.app.questofseoul.repository.ChatSessionRepository;
 import com.app.questofseoul.repository.ChatTurnRepository;
-import com.app.questofseoul.repository.ScriptLineAssetRepository;
-import com.app.questofseoul.repository.SpotContentStepRepository;
-import com.app.questofseoul.repository.TourRepository;
 import com.app.questofseoul.repository.TourRunRepository;
 import com.app.questofseoul.repository.TourSpotRepository;
-import com.app.questofseoul.repository.UserMissionAttemptRepository;
 import com.app.questofseoul.repository.UserSpotProgressRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -44,62 +42,78 @@ public class ChatSessionService {
 
     private static final int DEFAULT_DELAY_MS = 1500;
     private static final int MAX_AI_HISTORY_TURNS = 10;
+    private static final String CONTEXT_SCRIPT_CURSOR = "scriptCursor";
+    private static final String CONTEXT_SCRIPT_LINE_ID = "scriptLineId";
+    private static final String CHAT_TIMER = "qos.chat";
 
     private final ChatSessionRepository chatSessionRepository;
     private final ChatTurnRepository chatTurnRepository;
     private final TourGuideAiService tourGuideAiService;
-    private final TourRepository tourRepository;
     private final TourRunRepository tourRunRepository;
     private final TourSpotRepository tourSpotRepository;
-    private final SpotContentStepRepository spotContentStepRepository;
-    private final UserMissionAttemptRepository userMissionAttemptRepository;
     private final UserSpotProgressRepository userSpotProgressRepository;
-    private final ScriptLineAssetRepository scriptLineAssetRepository;
+    private final GuideScriptCache guideScriptCache;
+    private final ScriptTurnActionResolver scriptTurnActionResolver;
+    private final TransactionTemplate transactionTemplate;
+    private final TourContextCache tourContextCache;
+    private final AiServerProperties aiServerProperties;
+    private final AiAnswerCache aiAnswerCache;
+    private final AiCallLogService aiCallLogService;
+    private final ServiceMetrics serviceMetrics;
+    private final ChatReplyExecutor chatReplyExecutor;
 
     @Transactional(readOnly = true)
     public ChatTurnsResponse getChatTurns(java.util.UUID userId, Long sessionId) {
-        ChatSession session = getAuthorizedSession(userId, sessionId);
-        List<ChatTurn> turns = chatTurnRepository.findBySession_IdOrderByCreatedAtAsc(sessionId);
-        List<ChatTurn> scriptTurns = turns.stream().filter(t -> t.getSource() == ChatSource.SCRIPT).toList();
-        NextScriptInfo nextScriptInfo = computeNextScriptInfo(session, scriptTurns);
+        return serviceMetrics.time(CHAT_TIMER, "getChatTurns", outcome -> buildChatTurns(userId, sessionId));
+    }
 
-        Map<Long, Integer> scriptTurnIndexMap = new HashMap<>();
-        for (int i = 0; i < scriptTurns.size(); i++) {
-            scriptTurnIndexMap.put(scriptTurns.get(i).getId(), i);
-        }
-        int cursor = normalizeCursor(session.getCursorStepIndexSafe(), scriptTurns.size());
-        Set<Long> visibleScriptTurnIds = new HashSet<>();
-        for (int i = 0; i < cursor; i++) {
-            visibleScriptTurnIds.add(scriptTurns.get(i).getId());
+    private ChatTurnsResponse buildChatTurns(java.util.UUID userId, Long sessionId) {
+        ChatSession session = getAuthorizedSession(userId, sessionId);
+        GuideScript script = scriptFor(session);
+        NextScriptInfo nextScriptInfo = computeNextScriptInfo(session, script);
+        int cursor = cursorOf(session, script);
+
+        // USER/LLM 턴은 작성 시점의 스크립트 커서 위치 뒤에 끼워 넣는다
+        Map<Integer, List<ChatTurn>> conversationTurnsByCursor = new HashMap<>();
+        for (ChatTurn turn : chatTurnRepository.findBySession_IdOrderByCreatedAtAsc(sessionId)) {
+            if (turn.getSource() == ChatSource.SCRIPT) continue;
+            conversationTurnsByCursor.computeIfAbsent(scriptCursorOf(turn, script, cursor), k -> new ArrayList<>()).add(turn);
         }
 
+        Supplier<Set<Long>> attemptedStepIds = scriptTurnActionResolver.attemptedStepIds(
+                session.getTourRun().getId(), session.getSpot().getId());
         List<ChatTurnsResponse.ChatTurnItem> items = new ArrayList<>();
-        for (ChatTurn turn : turns) {
-            if (turn.getSource() == ChatSource.SCRIPT && !visibleScriptTurnIds.contains(turn.getId())) {
-                continue;
+        for (int i = 0; i <= cursor; i++) {
+            for (ChatTurn turn : conversationTurnsByCursor.getOrDefault(i, List.of())) {
+                items.add(new ChatTurnsResponse.ChatTurnItem(
+                        turn.getId(),
+                        null,
+                        turn.getRole().name(),
+                        turn.getSource().name(),
+                        turn.getText(),
+                        List.of(),
+                        null,
+                        null,
+                        turn.getCreatedAt() != null ? turn.getCreatedAt().toString() : null
+                ));
             }
+            if (i == cursor) break;
 
-            ChatTurnsResponse.ActionDto actionDto = null;
-            if (turn.getSource() == ChatSource.SCRIPT) {
-                Integer idx = scriptTurnIndexMap.get(turn.getId());
-                if (idx != null) {
-                    ProximityResponse.ActionDto scriptAction = buildActionForScriptTurn(session, scriptTurns, idx);
-                    if (scriptAction != null) {
-                        actionDto = new ChatTurnsResponse.ActionDto(scriptAction.type(), scriptAction.nextApi());
-                    }
-                }
-            }
-
-            Integer delayMs = turn.getSource() == ChatSource.SCRIPT ? DEFAULT_DELAY_MS : null;
+            GuideScript.Line line = script.line(i);
+            ProximityResponse.ActionDto scriptAction = scriptTurnActionResolver.resolve(
+                    session.getId(), session.getSpot().getId(), script, i, attemptedStepIds);
+            ChatTurnsResponse.ActionDto actionDto =
+                    new ChatTurnsResponse.ActionDto(scriptAction.type(), scriptAction.nextApi());
             items.add(new ChatTurnsResponse.ChatTurnItem(
-                    turn.getId(),
-                    turn.getRole().name(),
-                    turn.getSource().name(),
-                    turn.getText(),
-                    mapChatTurnAssets(turn),
-                    delayMs,
+                    line.scriptLineId(),
+                    line.scriptLineId(),
+                    ChatRole.GUIDE.name(),
+                    ChatSource.SCRIPT.name(),
+                    line.text(),
+                    mapChatTurnAssets(line),
+                    DEFAULT_DELAY_MS,
                     actionDto,
-                    turn.getCreatedAt() != null ? turn.getCreatedAt().toString() : null
+                    null
             ));
         }
 
@@ -114,47 +128,142 @@ public class ChatSessionService {
     }
 
     @Transactional
-    public ProximityResponse.ChatTurnDto getNextScriptTurn(java.util.UUID userId, Long sessionId, Long nextTurnId) {
+    public ProximityResponse.ChatTurnDto getNextScriptTurn(java.util.UUID userId, Long sessionId, Long scriptLineId) {
+        return serviceMetrics.time(CHAT_TIMER, "getNextScriptTurn", outcome -> advanceToScriptTurn(userId, sessionId, scriptLineId));
+    }
+
+    /**
+     * 구 경로(/turns/{turnId}) 호환. 스크립트 턴을 chat_turns에 저장하던 시절의 SCRIPT 턴 ID면 그 턴의 스크립트 라인으로,
+     * 아니면 scriptLineId로 본다 (이후 응답의 turnId/lastTurnId는 scriptLineId와 같은 값).
+     * 옛 SCRIPT 턴 행은 V005 마이그레이션 전까지만 남아 있다.
+     */
+    @Transactional
+    public ProximityResponse.ChatTurnDto getLegacyScriptTurn(java.util.UUID userId, Long sessionId, Long turnId) {
+        return serviceMetrics.time(CHAT_TIMER, "getLegacyScriptTurn", outcome -> {
+            Long scriptLineId = chatTurnRepository.findByIdAndSession_Id(turnId, sessionId)
+                    .filter(turn -> turn.getSource() == ChatSource.SCRIPT && turn.getScriptLine() != null)
+                    .map(turn -> turn.getScriptLine().getId())
+                    .orElse(turnId);
+            outcome.set(scriptLineId.equals(turnId) ? "script_line" : "legacy_turn");
+            return advanceToScriptTurn(userId, sessionId, scriptLineId);
+        });
+    }
+
+    private ProximityResponse.ChatTurnDto advanceToScriptTurn(java.util.UUID userId, Long sessionId, Long scriptLineId) {
         ChatSession session = getAuthorizedSession(userId, sessionId);
-        List<ChatTurn> turns = chatTurnRepository.findBySession_IdOrderByCreatedAtAsc(sessionId);
-        List<ChatTurn> scriptTurns = turns.stream().filter(t -> t.getSource() == ChatSource.SCRIPT).toList();
-        if (scriptTurns.isEmpty()) {
+        GuideScript script = scriptFor(session);
+        if (script.isEmpty()) {
             throw new ResourceNotFoundException("Script turn not found");
         }
 
-        int requestedIndex = findScriptTurnIndex(scriptTurns, nextTurnId);
+        int requestedIndex = script.indexOf(scriptLineId);
         if (requestedIndex < 0) {
             throw new ResourceNotFoundException("Script turn not found");
         }
 
-        int cursor = normalizeCursor(session.getCursorStepIndexSafe(), scriptTurns.size());
+        int cursor = cursorOf(session, script);
         if (requestedIndex >= cursor) {
-            session.moveCursorTo(requestedIndex + 1);
+            session.moveCursorTo(requestedIndex + 1, scriptLineId);
         }
-        syncScriptOnlySpotCompletion(session, scriptTurns);
+        syncScriptOnlySpotCompletion(session, script);
 
-        ChatTurn requestedTurn = scriptTurns.get(requestedIndex);
-        ProximityResponse.ActionDto action = buildActionForScriptTurn(session, scriptTurns, requestedIndex);
+        GuideScript.Line requestedLine = script.line(requestedIndex);
+        ProximityResponse.ActionDto action = scriptTurnActionResolver.resolve(
+                session.getId(),
+                session.getSpot().getId(),
+                script,
+                requestedIndex,
+                scriptTurnActionResolver.attemptedStepIds(session.getTourRun().getId(), session.getSpot().getId())
+        );
 
-        return new ProximityResponse.ChatTurnDto(
-                requestedTurn.getId(),
-                requestedTurn.getRole().name(),
-                requestedTurn.getSource().name(),
-                requestedTurn.getText(),
-                mapProximityAssets(requestedTurn),
+        return ProximityResponse.ChatTurnDto.script(
+                requestedLine.scriptLineId(),
+                requestedLine.text(),
+                mapProximityAssets(requestedLine),
                 DEFAULT_DELAY_MS,
                 action
         );
     }
 
-    @Transactional
-    public SendMessageResponse sendMessage(java.util.UUID userId, Long sessionId, String text) {
-        ChatSession session = getAuthorizedSession(userId, sessionId);
+    /**
+     * 사용자 질문 전송.
+     * (1) 짧은 쓰기 트랜잭션에서 USER 턴 저장 + 프롬프트 준비, (2) 트랜잭션/서블릿 스레드 밖에서 AI 호출,
+     * (3) 응답 도착 시 두 번째 짧은 트랜잭션에서 LLM 턴을 저장한다. LLM 응답 대기 중에는 DB 커넥션을 점유하지 않는다.
+     * 같은 스팟의 유사 질문 답변이 시맨틱 캐시에 있으면 AI 호출 없이 그 답변을 사용한다.
+     * qos.chat 타이머는 LLM 턴 저장까지 재며 outcome은 시맨틱 캐시 hit/miss다.
+     */
+    public CompletableFuture<SendMessageResponse> sendMessage(java.util.UUID userId, Long sessionId, String text) {
+        return serviceMetrics.timeAsync(CHAT_TIMER, "sendMessage", outcome -> {
+            PendingMessage pending = transactionTemplate.execute(status -> saveUserTurn(userId, sessionId, text));
+            return answer(pending, outcome, cached -> {},
+                    onResult -> tourGuideAiService.generateResponseAsync(pending.tourContext(), pending.history(), onResult));
+        });
+    }
+
+    /**
+     * 사용자 질문 전송 (스트리밍). sendMessage와 같은 트랜잭션 경계를 따르며,
+     * AI 답변 조각은 도착하는 대로 onDelta로 전달하고 스트림이 끝나면 전체 답변을 LLM 턴으로 저장한다.
+     */
+    public CompletableFuture<SendMessageResponse> streamMessage(java.util.UUID userId, Long sessionId, String text,
+                                                              Consumer<String> onDelta) {
+        return serviceMetrics.timeAsync(CHAT_TIMER, "streamMessage", outcome -> {
+            PendingMessage pending = transactionTemplate.execute(status -> saveUserTurn(userId, sessionId, text));
+            return answer(pending, outcome, onDelta,
+                    onResult -> tourGuideAiService.streamResponseAsync(pending.tourContext(), pending.history(), onDelta, onResult));
+        });
+    }
+
+    /**
+     * 시맨틱 캐시 적중 시 저장된 답변(onCachedAnswer로도 전달), 아니면 AI 호출 후 답변을 캐시에 저장한다.
+     * 캐시 조회(질문 임베딩 포함)는 캐시 전용 스레드에서 시작해 AI 호출로 이어지므로 서블릿 스레드를 막지 않는다.
+     * 어느 쪽이든 LLM 턴 저장과 캐시/AiCallLog 전달은 ChatReplyExecutor 스레드에서 하며, 캐시 저장과 로그 기록 자체는 비동기다.
+     * 캐시에는 errorCode 없이 끝난 호출의 답변만 저장한다.
+     */
+    private CompletableFuture<SendMessageResponse> answer(PendingMessage pending, ServiceMetrics.Outcome outcome,
+                                                          Consumer<String> onCachedAnswer,
+                                                          Function<Consumer<AiCallResult>, CompletableFuture<String>> aiCall) {
+        return aiAnswerCache.lookupAsync(pending.tourId(), pending.spotId(), pending.language(), pending.text())
+                .thenCompose(lookup -> {
+                    outcome.set(lookup.hit() ? "hit" : "miss");
+                    if (lookup.hit()) {
+                        onCachedAnswer.accept(lookup.answer());
+                        return CompletableFuture.supplyAsync(
+                                () -> transactionTemplate.execute(status -> saveLlmTurn(pending, lookup.answer())),
+                                chatReplyExecutor.executor());
+                    }
+                    AtomicReference<AiCallResult> callResult = new AtomicReference<>();
+                    // HttpClient 완료 스레드(ai-server 공유 풀)에서 DB 트랜잭션을 돌리지 않는다
+                    return aiCall.apply(callResult::set).thenApplyAsync(aiText -> {
+                        SendMessageResponse response = null;
+                        try {
+                            response = transactionTemplate.execute(status -> saveLlmTurn(pending, aiText));
+                            // 스트림 중간 실패 시에도 부분 답변이 반환되므로, 정상 완료된 답변만 캐시한다
+                            AiCallResult result = callResult.get();
+                            if (result != null && result.errorCode() == null) {
+                                aiAnswerCache.storeAsync(lookup, aiText);
+                            }
+                            return response;
+                        } finally {
+                            aiCallLogService.record(pending.sessionId(), pending.userTurnId(),
+                                    response != null ? response.aiTurnId() : null, callResult.get());
+                        }
+                    }, chatReplyExecutor.executor());
+                });
+    }
 
-        ChatTurn userTurn = ChatTurn.create(session, ChatSource.USER, ChatRole.USER, text);
+    private PendingMessage saveUserTurn(java.util.UUID userId, Long sessionId, String text) {
+        ChatSession session = getAuthorizedSession(userId, sessionId);
+        GuideScript script = scriptFor(session);
+        int cursor = cursorOf(session, script);
+        // 커서 위치와 함께 마지막으로 본 라인을 남겨, 가이드가 수정돼도 히스토리에서 같은 라인 뒤에 배치한다
+        Map<String, Object> turnContext = cursor > 0
+                ? Map.of(CONTEXT_SCRIPT_CURSOR, cursor, CONTEXT_SCRIPT_LINE_ID, script.line(cursor - 1).scriptLineId())
+                : Map.of(CONTEXT_SCRIPT_CURSOR, cursor);
+
+        ChatTurn userTurn = ChatTurn.create(session, ChatSource.USER, ChatRole.USER, text, turnContext);
         userTurn = chatTurnRepository.save(userTurn);
 
-        String tourContext = buildTourContext(session.getTourRun().getTour().getId());
+        String tourContext = buildTourContext(session);
         // AI 질의에는 사용자 질문(USER) 히스토리만 전달한다.
         // SCRIPT 턴은 tourContext에 이미 포함되고, 과거 LLM 응답은 환각/오염된 답변 패턴을 강화할 수 있다.
         List<ChatTurn> aiTurns = chatTurnRepository.findBySession_IdOrderByCreatedAtAsc(sessionId).stream()
@@ -166,18 +275,25 @@ public class ChatSessionService {
                         "role", "user",
                         "content", t.getText() != null ? t.getText() : ""))
                 .toList();
-        String aiText = tourGuideAiService.generateResponse(tourContext, history);
+        return new PendingMessage(sessionId, session.getTourRun().getTour().getId(), session.getSpot().getId(),
+                sessionLanguage(session), userTurn.getId(), text, turnContext, tourContext, history);
+    }
 
-        ChatTurn llmTurn = ChatTurn.create(session, ChatSource.LLM, ChatRole.GUIDE, aiText);
+    /**
+     * AI 응답 저장. 대기 중 세션 상태(커서/활성 여부)가 바뀌었을 수 있으므로 세션을 다시 읽고,
+     * LLM 턴은 질문 시점 커서(turnContext)에 붙여 USER 턴 바로 뒤에 보이도록 한다.
+     */
+    private SendMessageResponse saveLlmTurn(PendingMessage pending, String aiText) {
+        ChatSession session = chatSessionRepository.findById(pending.sessionId())
+                .orElseThrow(() -> new ResourceNotFoundException("Chat session not found"));
+        ChatTurn llmTurn = ChatTurn.create(session, ChatSource.LLM, ChatRole.GUIDE, aiText, pending.turnContext());
         llmTurn = chatTurnRepository.save(llmTurn);
 
-        List<ChatTurn> allTurns = chatTurnRepository.findBySession_IdOrderByCreatedAtAsc(sessionId);
-        List<ChatTurn> scriptTurns = allTurns.stream().filter(t -> t.getSource() == ChatSource.SCRIPT).toList();
-        NextScriptInfo nextScriptInfo = computeNextScriptInfo(session, scriptTurns);
+        NextScriptInfo nextScriptInfo = computeNextScriptInfo(session, scriptFor(session));
 
         return new SendMessageResponse(
-                userTurn.getId(),
-                text,
+                pending.userTurnId(),
+                pending.text(),
                 llmTurn.getId(),
                 aiText,
                 nextScriptInfo.nextScriptApi,
@@ -187,26 +303,30 @@ public class ChatSessionService {
 
     @Transactional
     public ChatSessionStatusResponse getOrCreateSessionStatus(java.util.UUID userId, Long runId, Long spotId) {
+        return serviceMetrics.time(CHAT_TIMER, "getOrCreateSessionStatus", outcome -> buildSessionStatus(userId, runId, spotId));
+    }
+
+    private ChatSessionStatusResponse buildSessionStatus(java.util.UUID userId, Long runId, Long spotId) {
         ChatSession session = getOrCreateAuthorizedSession(userId, runId, spotId);
-        List<ChatTurn> scriptTurns = chatTurnRepository.findBySession_IdOrderByCreatedAtAsc(session.getId()).stream()
-                .filter(t -> t.getSource() == ChatSource.SCRIPT)
-                .toList();
-        syncScriptOnlySpotCompletion(session, scriptTurns);
-        int cursor = normalizeCursor(session.getCursorStepIndexSafe(), scriptTurns.size());
-        Long lastTurnId = null;
-        if (!scriptTurns.isEmpty() && cursor > 0) {
-            int lastIndex = Math.min(cursor - 1, scriptTurns.size() - 1);
-            lastTurnId = scriptTurns.get(lastIndex).getId();
+        GuideScript script = scriptFor(session);
+        syncScriptOnlySpotCompletion(session, script);
+        int cursor = cursorOf(session, script);
+        Long lastScriptLineId = null;
+        if (!script.isEmpty() && cursor > 0) {
+            int lastIndex = Math.min(cursor - 1, script.size() - 1);
+            lastScriptLineId = script.line(lastIndex).scriptLineId();
         }
 
         boolean completed = Boolean.FALSE.equals(session.getIsActive())
-                || (!scriptTurns.isEmpty() && cursor >= scriptTurns.size());
-        return new ChatSessionStatusResponse(session.getId(), completed ? "COMPLETED" : "ACTIVE", lastTurnId);
+                || (!script.isEmpty() && cursor >= script.size());
+        return new ChatSessionStatusResponse(session.getId(), completed ? "COMPLETED" : "ACTIVE",
+                lastScriptLineId, lastScriptLineId);
     }
 
     @Transactional
     public Long getOrCreateSession(java.util.UUID userId, Long runId, Long spotId) {
-        return getOrCreateAuthorizedSession(userId, runId, spotId).getId();
+        return serviceMetrics.time(CHAT_TIMER, "getOrCreateSession",
+                outcome -> getOrCreateAuthorizedSession(userId, runId, spotId).getId());
     }
 
     private ChatSession getOrCreateAuthorizedSession(java.util.UUID userId, Long runId, Long spotId) {
@@ -255,31 +375,54 @@ public class ChatSessionService {
         }
     }
 
-    private NextScriptInfo computeNextScriptInfo(ChatSession session, List<ChatTurn> scriptTurns) {
-        int cursor = normalizeCursor(session.getCursorStepIndexSafe(), scriptTurns.size());
-        boolean hasNextScript = cursor < scriptTurns.size();
+    private GuideScript scriptFor(ChatSession session) {
+        return guideScriptCache.get(session.getSpot().getId(), sessionLanguage(session));
+    }
+
+    private String sessionLanguage(ChatSession session) {
+        return (session.getLanguage() != null && !session.getLanguage().isBlank()) ? session.getLanguage() : "ko";
+    }
+
+    /**
+     * USER/LLM 턴이 작성될 때의 스크립트 커서. 그때 마지막으로 본 라인(scriptLineId)이 스크립트에 있으면 그 라인 바로 뒤,
+     * 없으면(삭제된 라인/이전 기록) 기록된 위치, 그것도 없으면 현재 커서 뒤로 배치한다.
+     */
+    private int scriptCursorOf(ChatTurn turn, GuideScript script, int cursor) {
+        Map<String, Object> context = turn.getContextJson() != null ? turn.getContextJson() : Map.of();
+        Object value = context.get(CONTEXT_SCRIPT_CURSOR);
+        if (context.get(CONTEXT_SCRIPT_LINE_ID) instanceof Number lineId) {
+            value = script.cursorOf(lineId.longValue(), value instanceof Number number ? number.intValue() : cursor);
+        }
+        if (value instanceof Number number) {
+            return Math.max(0, Math.min(number.intValue(), cursor));
+        }
+        return cursor;
+    }
+
+    private NextScriptInfo computeNextScriptInfo(ChatSession session, GuideScript script) {
+        int cursor = cursorOf(session, script);
+        boolean hasNextScript = cursor < script.size();
         String nextScriptApi = hasNextScript
-                ? buildNextApi(session.getId(), scriptTurns, cursor)
+                ? scriptTurnActionResolver.nextApi(session.getId(), script, cursor)
                 : null;
         return new NextScriptInfo(nextScriptApi, hasNextScript);
     }
 
-    private int normalizeCursor(int cursor, int scriptSize) {
-        if (cursor < 0) return 0;
-        return Math.min(cursor, scriptSize);
+    private int cursorOf(ChatSession session, GuideScript script) {
+        return script.cursorOf(session.getCursorScriptLineId(), session.getCursorStepIndexSafe());
     }
 
-    private void syncScriptOnlySpotCompletion(ChatSession session, List<ChatTurn> scriptTurns) {
-        if (scriptTurns.isEmpty()) {
+    private void syncScriptOnlySpotCompletion(ChatSession session, GuideScript script) {
+        if (script.isEmpty()) {
             return;
         }
 
-        int cursor = normalizeCursor(session.getCursorStepIndexSafe(), scriptTurns.size());
-        if (cursor < scriptTurns.size()) {
+        int cursor = cursorOf(session, script);
+        if (cursor < script.size()) {
             return;
         }
 
-        if (hasMissionSteps(session)) {
+        if (script.hasMissionSteps()) {
             return;
         }
 
@@ -292,150 +435,40 @@ public class ChatSessionService {
                 });
     }
 
-    private boolean hasMissionSteps(ChatSession session) {
-        String language = (session.getLanguage() != null && !session.getLanguage().isBlank())
-                ? session.getLanguage()
-                : "ko";
-        List<SpotContentStep> missionSteps = spotContentStepRepository
-                .findBySpot_IdAndKindAndLanguageOrderByStepIndexAsc(session.getSpot().getId(), StepKind.MISSION, language);
-        if (missionSteps.isEmpty() && !"ko".equals(language)) {
-            missionSteps = spotContentStepRepository
-                    .findBySpot_IdAndKindAndLanguageOrderByStepIndexAsc(session.getSpot().getId(), StepKind.MISSION, "ko");
-        }
-        return !missionSteps.isEmpty();
-    }
-
-    private int findScriptTurnIndex(List<ChatTurn> scriptTurns, Long turnId) {
-        for (int i = 0; i < scriptTurns.size(); i++) {
-            if (scriptTurns.get(i).getId().equals(turnId)) {
-                return i;
-            }
-        }
-        return -1;
-    }
-
-    private String buildNextApi(Long sessionId, List<ChatTurn> scriptTurns, int nextIndex) {
-        if (nextIndex < 0 || nextIndex >= scriptTurns.size()) return null;
-        return "/api/v1/chat-sessions/" + sessionId + "/turns/" + scriptTurns.get(nextIndex).getId();
-    }
-
-    private List<ChatTurnsResponse.AssetDto> mapChatTurnAssets(ChatTurn turn) {
-        if (turn.getSource() != ChatSource.SCRIPT || turn.getScriptLine() == null) {
-            return List.of();
-        }
-        return scriptLineAssetRepository.findByScriptLine_IdOrderBySortOrderAsc(turn.getScriptLine().getId()).stream()
+    private List<ChatTurnsResponse.AssetDto> mapChatTurnAssets(GuideScript.Line line) {
+        return line.assets().stream()
                 .map(a -> new ChatTurnsResponse.AssetDto(
-                        a.getAsset().getId(),
-                        a.getAsset().getAssetType() != null ? a.getAsset().getAssetType().name() : "IMAGE",
-                        a.getAsset().getUrl(),
-                        a.getAsset().getMetadataJson()))
+                        a.assetId(),
+                        a.assetType() != null ? a.assetType().name() : "IMAGE",
+                        a.url(),
+                        a.metadata()))
                 .toList();
     }
 
-    private List<ProximityResponse.AssetDto> mapProximityAssets(ChatTurn turn) {
-        if (turn.getSource() != ChatSource.SCRIPT || turn.getScriptLine() == null) {
-            return List.of();
-        }
-        return scriptLineAssetRepository.findByScriptLine_IdOrderBySortOrderAsc(turn.getScriptLine().getId()).stream()
+    private List<ProximityResponse.AssetDto> mapProximityAssets(GuideScript.Line line) {
+        return line.assets().stream()
                 .map(a -> new ProximityResponse.AssetDto(
-                        a.getAsset().getId(),
-                        a.getAsset().getAssetType() != null ? a.getAsset().getAssetType().name() : "IMAGE",
-                        a.getAsset().getUrl(),
-                        a.getAsset().getMetadataJson()))
+                        a.assetId(),
+                        a.assetType() != null ? a.assetType().name() : "IMAGE",
+                        a.url(),
+                        a.metadata()))
                 .toList();
     }
 
-    private ProximityResponse.ActionDto buildActionForScriptTurn(
-            ChatSession session,
-            List<ChatTurn> scriptTurns,
-            int currentIndex
-    ) {
-        String nextApi = buildNextApi(session.getId(), scriptTurns, currentIndex + 1);
-        if (!isStepBoundary(scriptTurns, currentIndex)) {
-            return new ProximityResponse.ActionDto("AUTO_NEXT", nextApi, null, null);
-        }
-
-        ChatTurn turn = scriptTurns.get(currentIndex);
-        StepNextAction nextAction = turn.getStep() != null ? turn.getStep().getNextAction() : null;
-        if (nextAction == StepNextAction.MISSION_CHOICE) {
-            Long preferredMissionId = turn.getStep() != null && turn.getStep().getMission() != null
-                    ? turn.getStep().getMission().getId()
-                    : null;
-            Long missionStepId = resolveNextMissionStepId(
-                    session.getTourRun().getId(),
-                    session.getSpot().getId(),
-                    session.getLanguage(),
-                    preferredMissionId
-            );
-            if (missionStepId != null) {
-                return new ProximityResponse.ActionDto("MISSION_CHOICE", nextApi, "게임 시작", missionStepId);
-            }
-        }
-
-        if (nextApi != null) {
-            return new ProximityResponse.ActionDto("NEXT", nextApi, "다음", null);
-        }
-        return new ProximityResponse.ActionDto("NEXT", null, "다음", session.getSpot().getId());
-    }
-
-    private Long resolveNextMissionStepId(Long runId, Long spotId, String language, Long preferredMissionId) {
-        String lang = language != null && !language.isBlank() ? language : "ko";
-        List<SpotContentStep> missionSteps = spotContentStepRepository
-                .findBySpot_IdAndKindAndLanguageOrderByStepIndexAsc(spotId, StepKind.MISSION, lang);
-        if (missionSteps.isEmpty() && !"ko".equals(lang)) {
-            missionSteps = spotContentStepRepository
-                    .findBySpot_IdAndKindAndLanguageOrderByStepIndexAsc(spotId, StepKind.MISSION, "ko");
-        }
-        if (missionSteps.isEmpty()) {
-            return null;
-        }
-
-        if (preferredMissionId != null) {
-            for (SpotContentStep missionStep : missionSteps) {
-                if (missionStep.getMission() != null
-                        && preferredMissionId.equals(missionStep.getMission().getId())) {
-                    return missionStep.getId();
-                }
-            }
-        }
-
-        Set<Long> attemptedStepIds = new HashSet<>();
-        userMissionAttemptRepository.findByTourRun_IdAndStep_Spot_IdOrderByAttemptNoAsc(runId, spotId)
-                .forEach(attempt -> attemptedStepIds.add(attempt.getStep().getId()));
-
-        for (SpotContentStep missionStep : missionSteps) {
-            if (!attemptedStepIds.contains(missionStep.getId())) {
-                return missionStep.getId();
-            }
-        }
-        return missionSteps.get(missionSteps.size() - 1).getId();
-    }
-
-    private boolean isStepBoundary(List<ChatTurn> scriptTurns, int currentIndex) {
-        if (currentIndex >= scriptTurns.size() - 1) {
-            return true;
-        }
-        ChatTurn currentTurn = scriptTurns.get(currentIndex);
-        ChatTurn nextTurn = scriptTurns.get(currentIndex + 1);
-        Long currentStepId = currentTurn.getStep() != null ? currentTurn.getStep().getId() : null;
-        Long nextStepId = nextTurn.getStep() != null ? nextTurn.getStep().getId() : null;
-        return !Objects.equals(currentStepId, nextStepId);
-    }
-
     private record NextScriptInfo(String nextScriptApi, Boolean hasNextScript) {}
 
-    private String buildTourContext(Long tourId) {
-        var tour = tourRepository.findById(tourId).orElse(null);
-        if (tour == null) return "";
-        StringBuilder sb = new StringBuilder();
-        sb.append("투어: ").append(tour.getDisplayTitle()).append("\n");
-        if (tour.getDisplayDescription() != null) sb.append("설명: ").append(tour.getDisplayDescription()).append("\n");
-        var spots = tourSpotRepository.findByTourIdOrderByOrderIndexAsc(tourId);
-        for (var s : spots) {
-            sb.append("- 스팟 ").append(s.getOrderIndex()).append(": ").append(s.getTitle());
-            if (s.getDescription() != null) sb.append(" - ").append(s.getDescription());
-            sb.append("\n");
-        }
-        return sb.toString();
+    private record PendingMessage(Long sessionId,
+                                  Long tourId,
+                                  Long spotId,
+                                  String language,
+                                  Long userTurnId,
+                                  String text,
+                                  Map<String, Object> turnContext,
+                                  String tourContext,
+                                  List<Map<String, String>> history) {}
+
+    private String buildTourContext(ChatSession session) {
+        return tourContextCache.get(session.getTourRun().getTour().getId(), sessionLanguage(session))
+                .render(session.getSpot().getId(), aiServerProperties.contextTokenBudget());
     }
 }
@@ -19,15 +19,22 @@ import java.util.*;
 @RequiredArgsConstructor
 public class CollectionService {
 
+    private static final String COLLECTION_TIMER = "qos.collection";
+
     private final UserSpotProgressRepository userSpotProgressRepository;
     private final UserTreasureStatusRepository userTreasureStatusRepository;
     private final TourSpotRepository tourSpotRepository;
     private final TourRepository tourRepository;
     private final TourRunRepository tourRunRepository;
     private final SpotAssetRepository spotAssetRepository;
+    private final ServiceMetrics serviceMetrics;
 
     @Transactional(readOnly = true)
     public PlaceCollectionResponse getPlaceCollection(java.util.UUID userId, Long tourId) {
+        return serviceMetrics.time(COLLECTION_TIMER, "getPlaceCollection", outcome -> buildPlaceCollection(userId, tourId));
+    }
+
+    private PlaceCollectionResponse buildPlaceCollection(java.util.UUID userId, Long tourId) {
         List<TourSpot> availableSpots = tourSpotRepository.findCollectibleSpotsByTourIdAndTypes(
                 tourId, EnumSet.of(SpotType.MAIN, SpotType.SUB));
         List<UserSpotProgress> progresses = userSpotProgressRepository.findByUserIdAndUnlockedPlaces(userId, tourId);
@@ -44,6 +51,10 @@ public class CollectionService {
 
     @Transactional(readOnly = true)
     public PlaceCollectionSummaryResponse getPlaceCollectionSummary(java.util.UUID userId) {
+        return serviceMetrics.time(COLLECTION_TIMER, "getPlaceCollectionSummary", outcome -> buildPlaceCollectionSummary(userId));
+    }
+
+    private PlaceCollectionSummaryResponse buildPlaceCollectionSummary(java.util.UUID userId) {
         List<Long> tourIds = tourRunRepository.findDistinctTourIdsByUserId(userId);
         List<PlaceCollectionSummaryResponse.PlaceSummaryByTourDto> byTour = new ArrayList<>();
         int totalCollected = 0;
@@ -69,6 +80,10 @@ public class CollectionService {
 
     @Transactional(readOnly = true)
     public TreasureCollectionResponse getTreasureCollection(java.util.UUID userId, Long tourId) {
+        return serviceMetrics.time(COLLECTION_TIMER, "getTreasureCollection", outcome -> buildTreasureCollection(userId, tourId));
+    }
+
+    private TreasureCollectionResponse buildTreasureCollection(java.util.UUID userId, Long tourId) {
         List<TourSpot> availableSpots = tourSpotRepository.findCollectibleSpotsByTourIdAndTypes(
                 tourId, EnumSet.of(SpotType.TREASURE));
         List<UserTreasureStatus> statuses = userTreasureStatusRepository.findByUserIdAndCollected(userId, tourId);
@@ -85,6 +100,10 @@ public class CollectionService {
 
     @Transactional(readOnly = true)
     public TreasureCollectionSummaryResponse getTreasureCollectionSummary(java.util.UUID userId) {
+        return serviceMetrics.time(COLLECTION_TIMER, "getTreasureCollectionSummary", outcome -> buildTreasureCollectionSummary(userId));
+    }
+
+    private TreasureCollectionSummaryResponse buildTreasureCollectionSummary(java.util.UUID userId) {
         List<Long> tourIds = tourRunRepository.findDistinctTourIdsByUserId(userId);
         List<TreasureCollectionSummaryResponse.TreasureSummaryByTourDto> byTour = new ArrayList<>();
         int totalCollected = 0;
@@ -105,6 +124,14 @@ public class CollectionService {
 
     @Transactional
     public void collectTreasure(java.util.UUID userId, Long runId, Long spotId) {
+        serviceMetrics.time(COLLECTION_TIMER, "collectTreasure", outcome -> {
+            outcome.set(collect(userId, runId, spotId) ? "collected" : "already_collected");
+            return null;
+        });
+    }
+
+    /** 새로 수집했으면 true */
+    private boolean collect(java.util.UUID userId, Long runId, Long spotId) {
         TourRun run = tourRunRepository.findById(runId)
                 .orElseThrow(() -> new ResourceNotFoundException("Tour run not found"));
         if (!run.getUser().getId().equals(userId)) {
@@ -121,9 +148,10 @@ public class CollectionService {
                 .orElseGet(() -> userTreasureStatusRepository.save(UserTreasureStatus.create(run, spot)));
 
         if (status.getStatus() == TreasureStatus.GET) {
-            return; // 이미 수집됨
+            return false; // 이미 수집됨
         }
         status.collect();
+        return true;
     }
 
     private Map<Long, UserSpotProgress> deduplicateBySpot(List<UserSpotProgress> progresses) {
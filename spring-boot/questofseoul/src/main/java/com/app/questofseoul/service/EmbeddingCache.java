@@ -0,0 +1,133 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.config.EmbeddingCacheProperties;
+import com.pgvector.PGvector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 질의 텍스트 임베딩 캐시. 정규화한 텍스트(NFC, 공백 정리, 소문자)의 해시를 키로
+ * 메모리 LRU(+TTL)를 먼저 보고, persistent 모드면 embedding_cache 테이블을 2차로 조회한다.
+ * 같은 관리자 검색어/방문객 질문은 외부 임베딩 API 왕복 없이 처리된다.
+ */
+@Component
+public class EmbeddingCache {
+
+    private static final Logger log = LoggerFactory.getLogger(EmbeddingCache.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmbeddingCacheProperties properties;
+    private final Map<String, Entry> entries;
+    private final Counter memoryHits;
+    private final Counter tableHits;
+    private final Counter misses;
+
+    public EmbeddingCache(JdbcTemplate jdbcTemplate, EmbeddingCacheProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        int maxEntries = properties.maxEntries();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.memoryHits = meterRegistry.counter("embedding.cache", "result", "hit", "tier", "memory");
+        this.tableHits = meterRegistry.counter("embedding.cache", "result", "hit", "tier", "table");
+        this.misses = meterRegistry.counter("embedding.cache", "result", "miss", "tier", "none");
+    }
+
+    /**
+     * 캐시된 임베딩 또는 loader 결과. namespace(모델/차원)가 다르면 다른 키가 된다. 빈 결과는 캐시하지 않는다.
+     */
+    public float[] get(String namespace, String text, Function<String, float[]> loader) {
+        if (!properties.enabled()) {
+            return loader.apply(text);
+        }
+        String key = TourKnowledgeSyncService.sha256(namespace + "\n" + normalize(text));
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.ttl());
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.createdAt().isAfter(cutoff)) {
+            memoryHits.increment();
+            return entry.embedding();
+        }
+        if (properties.persistent()) {
+            float[] stored = loadFromTable(key, cutoff);
+            if (stored != null) {
+                tableHits.increment();
+                entries.put(key, new Entry(stored, LocalDateTime.now()));
+                return stored;
+            }
+        }
+
+        misses.increment();
+        float[] embedding = loader.apply(text);
+        if (embedding != null && embedding.length > 0) {
+            entries.put(key, new Entry(embedding, LocalDateTime.now()));
+            if (properties.persistent()) {
+                saveToTable(key, embedding);
+            }
+        }
+        return embedding;
+    }
+
+    /** 기동 시 만료된 영속 캐시 정리 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void purgeExpired() {
+        if (!properties.enabled() || !properties.persistent()) return;
+        try {
+            int deleted = jdbcTemplate.update("DELETE FROM embedding_cache WHERE created_at <= ?",
+                Timestamp.valueOf(LocalDateTime.now().minus(properties.ttl())));
+            if (deleted > 0) log.info("Purged {} expired embedding cache rows", deleted);
+        } catch (Exception e) {
+            log.warn("Embedding cache purge failed: {}", e.getMessage());
+        }
+    }
+
+    static String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return normalized.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private float[] loadFromTable(String key, LocalDateTime cutoff) {
+        try {
+            List<String> rows = jdbcTemplate.queryForList(
+                "SELECT embedding::text FROM embedding_cache WHERE cache_key = ? AND created_at > ?",
+                String.class, key, Timestamp.valueOf(cutoff));
+            return rows.isEmpty() ? null : new PGvector(rows.get(0)).toArray();
+        } catch (Exception e) {
+            log.warn("Embedding cache lookup failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveToTable(String key, float[] embedding) {
+        try {
+            jdbcTemplate.update("""
+                INSERT INTO embedding_cache (cache_key, embedding, created_at) VALUES (?, ?, ?)
+                ON CONFLICT (cache_key) DO UPDATE SET embedding = EXCLUDED.embedding, created_at = EXCLUDED.created_at
+                """, key, new PGvector(embedding), Timestamp.valueOf(LocalDateTime.now()));
+        } catch (Exception e) {
+            log.warn("Embedding cache store failed: {}", e.getMessage());
+        }
+    }
+
+    private record Entry(float[] embedding, LocalDateTime createdAt) {}
+}
@@ -0,0 +1,26 @@
+package com.app.questofseoul.service;
+
+import java.util.List;
+
+/**
+ * 텍스트 임베딩 구현체 (app.embedding.provider로 선택).
+ * 결과 차원은 {@link #dimensions()}이며, 저장 컬럼(vector(1536))과 맞아야 한다 (기동 시 EmbeddingDimensionValidator가 확인).
+ */
+public interface EmbeddingProvider {
+
+    /** 캐시 네임스페이스/로그용 이름 (모델이 바뀌면 달라져야 함) */
+    String name();
+
+    int dimensions();
+
+    /** 설정(API 키 등)이 갖춰져 임베딩을 만들 수 있는지 여부 */
+    boolean isAvailable();
+
+    /** 질의 하나 임베딩. 빈 텍스트나 사용 불가 시 빈 배열 */
+    default float[] embed(String text) {
+        return embedBatch(List.of(text == null ? "" : text)).get(0);
+    }
+
+    /** 입력 순서대로 임베딩. 빈 텍스트는 빈 배열이며, 일시적이지 않은 실패는 예외로 알린다. */
+    List<float[]> embedBatch(List<String> texts);
+}
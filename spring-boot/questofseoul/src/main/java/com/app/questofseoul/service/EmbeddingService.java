@@ -1,57 +1,39 @@
 package com.app.questofseoul.service;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.MediaType;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
 
 import java.util.List;
-import java.util.Map;
 
+/**
+ * 임베딩 진입점. 설정된 {@link EmbeddingProvider}에 위임하고, 질의 임베딩은 {@link EmbeddingCache}를 거친다.
+ */
 @Service
+@RequiredArgsConstructor
 public class EmbeddingService {
 
-    private static final String EMBEDDING_URL = "https://api.openai.com/v1/embeddings";
-    private static final String MODEL = "text-embedding-3-small";
-    private static final int DIMENSIONS = 1536;
+    private final EmbeddingProvider embeddingProvider;
+    private final EmbeddingCache embeddingCache;
 
-    private final RestClient restClient;
+    public boolean isAvailable() {
+        return embeddingProvider.isAvailable();
+    }
 
-    public EmbeddingService(@Value("${OPENAI_API_KEY:}") String apiKey) {
-        boolean hasKey = apiKey != null && !apiKey.isBlank();
-        this.restClient = hasKey ? RestClient.builder()
-            .baseUrl(EMBEDDING_URL)
-            .defaultHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
-            .defaultHeader("Authorization", "Bearer " + apiKey)
-            .build() : null;
+    /** 임베딩 공간 식별자 (제공자/모델:차원). 다른 공간의 벡터끼리는 비교할 수 없으므로 캐시/해시 구분에 쓴다. */
+    public String namespace() {
+        return embeddingProvider.name() + ":" + embeddingProvider.dimensions();
     }
 
+    /** 질의 텍스트 임베딩 (검색어/방문객 질문). 같은 텍스트는 캐시에서 재사용한다. */
     public float[] embed(String text) {
-        if (text == null || text.isBlank() || restClient == null) {
+        if (text == null || text.isBlank() || !embeddingProvider.isAvailable()) {
             return new float[0];
         }
-        String truncated = text.length() > 8000 ? text.substring(0, 8000) : text;
-        Map<String, Object> request = Map.of(
-            "model", MODEL,
-            "input", truncated,
-            "dimensions", DIMENSIONS
-        );
-        @SuppressWarnings("unchecked")
-        var response = restClient.post()
-            .body(request)
-            .retrieve()
-            .body(Map.class);
-        if (response == null) return new float[0];
-        @SuppressWarnings("unchecked")
-        var data = (List<Map<String, Object>>) response.get("data");
-        if (data == null || data.isEmpty()) return new float[0];
-        @SuppressWarnings("unchecked")
-        var embedding = (List<Number>) data.get(0).get("embedding");
-        if (embedding == null) return new float[0];
-        float[] result = new float[embedding.size()];
-        for (int i = 0; i < embedding.size(); i++) {
-            result[i] = embedding.get(i).floatValue();
-        }
-        return result;
+        return embeddingCache.get(namespace(), text, embeddingProvider::embed);
+    }
+
+    /** 문서 배치 임베딩 (지식 동기화). 입력 순서대로 반환하며 빈 텍스트는 빈 배열이다. */
+    public List<float[]> embedBatch(List<String> texts) {
+        return embeddingProvider.embedBatch(texts);
     }
 }
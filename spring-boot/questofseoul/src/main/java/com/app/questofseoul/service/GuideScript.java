@@ -0,0 +1,142 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.enums.AssetType;
+import com.app.questofseoul.domain.enums.LineAssetUsage;
+import com.app.questofseoul.domain.enums.StepNextAction;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 스팟/언어별 가이드 컨텐츠를 미리 컴파일한 불변 스냅샷.
+ * GUIDE 스텝 → 스크립트 라인 → 라인 에셋과 MISSION 스텝 목록을 한 번에 담고, lines는 재생 순서(stepIndex, seq)대로 펼친다.
+ * 채팅 세션 커서(재생한 라인 수)는 마지막 재생 라인 id 기준으로 {@link #cursorOf}에서 계산하며, 스크립트 턴은 scriptLineId(spot_script_lines.id)로 식별한다.
+ * 라인별 액션(AUTO_NEXT/NEXT/MISSION_CHOICE, 다음 턴, 연결 미션 스텝)도 컴파일 시점에 계산해 둔다.
+ * version은 스팟 가이드 컨텐츠가 변경될 때마다 증가한다.
+ */
+public record GuideScript(
+        Long spotId,
+        String language,
+        long version,
+        List<Step> steps,
+        List<Line> lines,
+        List<MissionStep> missionSteps
+) {
+
+    public int size() {
+        return lines.size();
+    }
+
+    public boolean isEmpty() {
+        return lines.isEmpty();
+    }
+
+    public Line line(int index) {
+        return lines.get(index);
+    }
+
+    /**
+     * 재생한 라인 수(커서). 마지막 재생 라인(lastScriptLineId)이 스크립트에 있으면 그 라인 다음 위치이므로,
+     * 가이드 수정으로 앞쪽 라인이 추가/삭제돼도 위치가 밀리지 않는다. 라인이 삭제됐거나 기록이 없으면 저장된 위치를 쓴다.
+     */
+    public int cursorOf(Long lastScriptLineId, int storedCursor) {
+        int index = indexOf(lastScriptLineId);
+        if (index >= 0) return index + 1;
+        return Math.max(0, Math.min(storedCursor, lines.size()));
+    }
+
+    /** scriptLineId의 재생 인덱스 (없으면 -1) */
+    public int indexOf(Long scriptLineId) {
+        if (scriptLineId == null) return -1;
+        for (int i = 0; i < lines.size(); i++) {
+            if (scriptLineId.equals(lines.get(i).scriptLineId())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** 해당 라인이 스텝의 마지막 라인인지 여부 */
+    public boolean isStepBoundary(int index) {
+        if (index >= lines.size() - 1) {
+            return true;
+        }
+        return !Objects.equals(lines.get(index).stepId(), lines.get(index + 1).stepId());
+    }
+
+    public boolean hasMissionSteps() {
+        return !missionSteps.isEmpty();
+    }
+
+    /** missionId에 연결된 첫 번째 MISSION 스텝 id */
+    public Long missionStepIdFor(Long missionId) {
+        if (missionId == null) return null;
+        for (MissionStep missionStep : missionSteps) {
+            if (missionId.equals(missionStep.missionId())) {
+                return missionStep.stepId();
+            }
+        }
+        return null;
+    }
+
+    /** 연결 미션이 없을 때 고를 미션 스텝: 아직 시도하지 않은 첫 스텝, 모두 시도했으면 마지막 스텝 */
+    public Long nextMissionStepId(Set<Long> attemptedStepIds) {
+        if (missionSteps.isEmpty()) return null;
+        for (MissionStep missionStep : missionSteps) {
+            if (!attemptedStepIds.contains(missionStep.stepId())) {
+                return missionStep.stepId();
+            }
+        }
+        return missionSteps.get(missionSteps.size() - 1).stepId();
+    }
+
+    /** 마지막 GUIDE 스텝의 nextAction */
+    public StepNextAction lastNextAction() {
+        return steps.isEmpty() ? null : steps.get(steps.size() - 1).nextAction();
+    }
+
+    public record Step(
+            Long stepId,
+            Integer stepIndex,
+            String title,
+            StepNextAction nextAction,
+            Long missionId,
+            List<Line> lines
+    ) {}
+
+    public record Line(
+            Long scriptLineId,
+            Long stepId,
+            String text,
+            StepNextAction nextAction,
+            Long missionId,
+            List<Asset> assets,
+            LineAction action
+    ) {}
+
+    /**
+     * 라인 재생 후 액션.
+     * nextScriptLineId: 다음 스크립트 턴 (마지막 라인이면 null)
+     * missionStepId: MISSION_CHOICE일 때 스텝에 연결된 미션 스텝 (null이면 요청 시점에 시도 이력으로 결정)
+     */
+    public record LineAction(ActionType type, Long nextScriptLineId, Long missionStepId) {}
+
+    public enum ActionType {
+        AUTO_NEXT,
+        NEXT,
+        MISSION_CHOICE
+    }
+
+    public record Asset(
+            Long assetId,
+            AssetType assetType,
+            String url,
+            LineAssetUsage usage,
+            Map<String, Object> metadata
+    ) {}
+
+    /** MISSION 스텝 (언어별 스텝이 없으면 ko 스텝) */
+    public record MissionStep(Long stepId, Long missionId) {}
+}
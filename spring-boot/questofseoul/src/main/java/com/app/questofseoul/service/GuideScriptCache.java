@@ -0,0 +1,194 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.entity.ScriptLineAsset;
+import com.app.questofseoul.domain.entity.SpotContentStep;
+import com.app.questofseoul.domain.entity.SpotScriptLine;
+import com.app.questofseoul.domain.enums.StepKind;
+import com.app.questofseoul.domain.enums.StepNextAction;
+import com.app.questofseoul.event.GuideContentChangedEvent;
+import com.app.questofseoul.repository.ScriptLineAssetRepository;
+import com.app.questofseoul.repository.SpotContentStepRepository;
+import com.app.questofseoul.repository.SpotScriptLineRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (spotId, language) 단위 컴파일 가이드 스크립트 캐시.
+ * 모든 run/세션/관리자 조회가 같은 스크립트 인스턴스를 공유하며, 최근 사용 기준 최대 {@value #MAX_ENTRIES}개까지만 보관한다.
+ * 가이드/미션 스텝 저장이 커밋되면 {@link GuideContentChangedEvent}로 스팟 버전을 올리고 해당 스팟 스크립트를 폐기한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GuideScriptCache {
+
+    static final int MAX_ENTRIES = 2_000;
+
+    private final SpotContentStepRepository spotContentStepRepository;
+    private final SpotScriptLineRepository spotScriptLineRepository;
+    private final ScriptLineAssetRepository scriptLineAssetRepository;
+
+    private final Map<Key, GuideScript> scripts = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, GuideScript> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            });
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public GuideScript get(Long spotId, String language) {
+        Key key = new Key(spotId, language);
+        GuideScript script = scripts.get(key);
+        if (script != null) {
+            return script;
+        }
+        GuideScript compiled = load(spotId, language);
+        // 컴파일 도중 폐기(evict)가 일어났다면 오래된 버전을 캐시에 올리지 않는다.
+        synchronized (scripts) {
+            GuideScript existing = scripts.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            if (compiled.version() == version(spotId)) {
+                scripts.put(key, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    /** 캐시를 거치지 않고 현재 트랜잭션 기준으로 컴파일 (관리자 저장 직후 응답용) */
+    public GuideScript load(Long spotId, String language) {
+        return compile(spotId, language, version(spotId));
+    }
+
+    public void evict(Long spotId) {
+        if (spotId == null) return;
+        versions.merge(spotId, 1L, Long::sum);
+        synchronized (scripts) {
+            scripts.keySet().removeIf(key -> key.spotId().equals(spotId));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGuideContentChanged(GuideContentChangedEvent event) {
+        evict(event.spotId());
+    }
+
+    private long version(Long spotId) {
+        return versions.getOrDefault(spotId, 0L);
+    }
+
+    private GuideScript compile(Long spotId, String language, long version) {
+        List<SpotContentStep> guideSteps = spotContentStepRepository
+                .findBySpot_IdAndKindAndLanguageOrderByStepIndexAsc(spotId, StepKind.GUIDE, language);
+        List<GuideScript.MissionStep> missionSteps = compileMissionSteps(spotId, language);
+
+        Map<Long, List<SpotScriptLine>> linesByStepId = new HashMap<>();
+        Map<Long, List<GuideScript.Asset>> assetsByLineId = new HashMap<>();
+        if (!guideSteps.isEmpty()) {
+            List<SpotScriptLine> allLines = spotScriptLineRepository.findByStepIdsOrderBySeqAsc(
+                    guideSteps.stream().map(SpotContentStep::getId).toList());
+            for (SpotScriptLine line : allLines) {
+                linesByStepId.computeIfAbsent(line.getStep().getId(), k -> new ArrayList<>()).add(line);
+            }
+            if (!allLines.isEmpty()) {
+                for (ScriptLineAsset a : scriptLineAssetRepository.findWithAssetByScriptLineIds(
+                        allLines.stream().map(SpotScriptLine::getId).toList())) {
+                    assetsByLineId.computeIfAbsent(a.getScriptLine().getId(), k -> new ArrayList<>())
+                            .add(new GuideScript.Asset(
+                                    a.getAsset().getId(),
+                                    a.getAsset().getAssetType(),
+                                    a.getAsset().getUrl(),
+                                    a.getUsage(),
+                                    a.getAsset().getMetadataJson() != null
+                                            ? Collections.unmodifiableMap(a.getAsset().getMetadataJson())
+                                            : null));
+                }
+            }
+        }
+
+        // 1) 재생 순서대로 라인을 펼친다
+        List<SpotContentStep> lineSteps = new ArrayList<>();
+        List<SpotScriptLine> orderedLines = new ArrayList<>();
+        for (SpotContentStep step : guideSteps) {
+            for (SpotScriptLine line : linesByStepId.getOrDefault(step.getId(), List.of())) {
+                lineSteps.add(step);
+                orderedLines.add(line);
+            }
+        }
+
+        // 2) 라인별 액션을 계산해 라인/스텝을 구성한다
+        List<GuideScript.Line> lines = new ArrayList<>();
+        Map<Long, List<GuideScript.Line>> compiledLinesByStepId = new HashMap<>();
+        for (int i = 0; i < orderedLines.size(); i++) {
+            SpotContentStep step = lineSteps.get(i);
+            SpotScriptLine line = orderedLines.get(i);
+            Long missionId = step.getMission() != null ? step.getMission().getId() : null;
+            Long nextScriptLineId = i + 1 < orderedLines.size() ? orderedLines.get(i + 1).getId() : null;
+            boolean stepBoundary = nextScriptLineId == null || lineSteps.get(i + 1) != step;
+
+            GuideScript.Line compiled = new GuideScript.Line(
+                    line.getId(),
+                    step.getId(),
+                    line.getText(),
+                    step.getNextAction(),
+                    missionId,
+                    List.copyOf(assetsByLineId.getOrDefault(line.getId(), List.of())),
+                    compileAction(missionSteps, stepBoundary, step.getNextAction(), missionId, nextScriptLineId));
+            lines.add(compiled);
+            compiledLinesByStepId.computeIfAbsent(step.getId(), k -> new ArrayList<>()).add(compiled);
+        }
+
+        List<GuideScript.Step> steps = new ArrayList<>();
+        for (SpotContentStep step : guideSteps) {
+            steps.add(new GuideScript.Step(
+                    step.getId(),
+                    step.getStepIndex(),
+                    step.getTitle(),
+                    step.getNextAction(),
+                    step.getMission() != null ? step.getMission().getId() : null,
+                    List.copyOf(compiledLinesByStepId.getOrDefault(step.getId(), List.of()))));
+        }
+        return new GuideScript(spotId, language, version, List.copyOf(steps), List.copyOf(lines), missionSteps);
+    }
+
+    static GuideScript.LineAction compileAction(List<GuideScript.MissionStep> missionSteps, boolean stepBoundary,
+                                                StepNextAction nextAction, Long missionId, Long nextScriptLineId) {
+        if (!stepBoundary) {
+            return new GuideScript.LineAction(GuideScript.ActionType.AUTO_NEXT, nextScriptLineId, null);
+        }
+        if (nextAction == StepNextAction.MISSION_CHOICE && !missionSteps.isEmpty()) {
+            Long linkedMissionStepId = missionId == null ? null : missionSteps.stream()
+                    .filter(ms -> missionId.equals(ms.missionId()))
+                    .map(GuideScript.MissionStep::stepId)
+                    .findFirst()
+                    .orElse(null);
+            return new GuideScript.LineAction(GuideScript.ActionType.MISSION_CHOICE, nextScriptLineId, linkedMissionStepId);
+        }
+        return new GuideScript.LineAction(GuideScript.ActionType.NEXT, nextScriptLineId, null);
+    }
+
+    private List<GuideScript.MissionStep> compileMissionSteps(Long spotId, String language) {
+        List<SpotContentStep> missionSteps = spotContentStepRepository
+                .findBySpot_IdAndKindAndLanguageOrderByStepIndexAsc(spotId, StepKind.MISSION, language);
+        if (missionSteps.isEmpty() && !"ko".equals(language)) {
+            missionSteps = spotContentStepRepository
+                    .findBySpot_IdAndKindAndLanguageOrderByStepIndexAsc(spotId, StepKind.MISSION, "ko");
+        }
+        return missionSteps.stream()
+                .map(s -> new GuideScript.MissionStep(s.getId(), s.getMission() != null ? s.getMission().getId() : null))
+                .toList();
+    }
+
+    private record Key(Long spotId, String language) {}
+}
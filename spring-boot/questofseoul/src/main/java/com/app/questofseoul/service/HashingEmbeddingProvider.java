@@ -0,0 +1,88 @@
+package com.app.questofseoul.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 네트워크 없이 동작하는 결정적 해싱 임베딩 (feature hashing).
+ * 단어와 문자 3-gram을 해시해 부호와 함께 차원에 누적하고 L2 정규화한다. 공백이 적은 한국어도 3-gram으로 유사도가 잡힌다.
+ * 의미 품질은 OpenAI 모델보다 낮으므로 CI, 오프라인 배치, RAG 경로 부하 테스트 용도로 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "app.embedding.provider", havingValue = "hashing")
+public class HashingEmbeddingProvider implements EmbeddingProvider {
+
+    private static final int NGRAM = 3;
+
+    private final int dimensions;
+
+    public HashingEmbeddingProvider(@Value("${app.embedding.dimensions:1536}") int dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    @Override
+    public String name() {
+        return "hashing:v1";
+    }
+
+    @Override
+    public int dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public List<float[]> embedBatch(List<String> texts) {
+        List<float[]> result = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            result.add(text == null || text.isBlank() ? new float[0] : hash(text));
+        }
+        return result;
+    }
+
+    private float[] hash(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        float[] vector = new float[dimensions];
+        for (String word : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) continue;
+            add(vector, "w:" + word, 1.0f);
+            String padded = " " + word + " ";
+            int[] codePoints = padded.codePoints().toArray();
+            for (int i = 0; i + NGRAM <= codePoints.length; i++) {
+                add(vector, "g:" + new String(codePoints, i, NGRAM), 0.5f);
+            }
+        }
+        double norm = 0;
+        for (float v : vector) norm += v * v;
+        if (norm == 0) return new float[0];
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) vector[i] *= scale;
+        return vector;
+    }
+
+    private void add(float[] vector, String feature, float weight) {
+        long h = fnv1a64(feature);
+        int index = (int) Long.remainderUnsigned(h, dimensions);
+        vector[index] += (h >>> 63) == 0 ? weight : -weight;
+    }
+
+    private static long fnv1a64(String feature) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : feature.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -32,9 +32,18 @@ public class MissionService {
     private final SpotContentStepRepository spotContentStepRepository;
     private final UserMissionAttemptRepository userMissionAttemptRepository;
     private final UserSpotProgressRepository userSpotProgressRepository;
+    private final ServiceMetrics serviceMetrics;
 
     @Transactional
     public MissionSubmitResponse submitMission(java.util.UUID userId, Long runId, Long stepId, MissionSubmitRequest request) {
+        return serviceMetrics.time("qos.mission.submit", "submitMission", outcome -> {
+            MissionSubmitResponse response = gradeAndSave(userId, runId, stepId, request);
+            outcome.set(Boolean.TRUE.equals(response.isCorrect()) ? "correct" : "incorrect");
+            return response;
+        });
+    }
+
+    private MissionSubmitResponse gradeAndSave(java.util.UUID userId, Long runId, Long stepId, MissionSubmitRequest request) {
         TourRun run = tourRunRepository.findById(runId)
                 .orElseThrow(() -> new ResourceNotFoundException("Tour run not found"));
         if (!run.getUser().getId().equals(userId)) {
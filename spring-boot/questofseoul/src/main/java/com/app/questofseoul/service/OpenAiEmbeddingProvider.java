@@ -0,0 +1,203 @@
+package com.app.questofseoul.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * OpenAI 임베딩 API 구현 (text-embedding-3-small, dimensions 파라미터로 차원 지정).
+ */
+@Component
+@ConditionalOnProperty(name = "app.embedding.provider", havingValue = "openai", matchIfMissing = true)
+public class OpenAiEmbeddingProvider implements EmbeddingProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenAiEmbeddingProvider.class);
+
+    private static final String EMBEDDING_URL = "https://api.openai.com/v1/embeddings";
+    private static final String MODEL = "text-embedding-3-small";
+    private static final int MAX_INPUT_CHARS = 8000;
+    /** 요청당 입력 수/추정 토큰 상한 (OpenAI 한도 2048개·300k 토큰보다 여유 있게) */
+    private static final int MAX_BATCH_ITEMS = 256;
+    private static final int MAX_BATCH_TOKENS = 100_000;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_BACKOFF_MS = 500;
+    private static final long MAX_BACKOFF_MS = 8_000;
+
+    private final RestClient restClient;
+    private final int dimensions;
+
+    @Autowired
+    public OpenAiEmbeddingProvider(@Value("${OPENAI_API_KEY:}") String apiKey,
+                                   @Value("${app.embedding.dimensions:1536}") int dimensions) {
+        this(apiKey, EMBEDDING_URL, dimensions);
+    }
+
+    OpenAiEmbeddingProvider(String apiKey, String embeddingUrl, int dimensions) {
+        this.dimensions = dimensions;
+        boolean hasKey = apiKey != null && !apiKey.isBlank();
+        this.restClient = hasKey ? RestClient.builder()
+            .baseUrl(embeddingUrl)
+            .defaultHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+            .defaultHeader("Authorization", "Bearer " + apiKey)
+            .build() : null;
+    }
+
+    @Override
+    public String name() {
+        return "openai:" + MODEL;
+    }
+
+    @Override
+    public int dimensions() {
+        return dimensions;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return restClient != null;
+    }
+
+    /** 질의 하나는 재시도 없이 바로 호출 (요청 경로 지연을 늘리지 않도록) */
+    @Override
+    public float[] embed(String text) {
+        if (text == null || text.isBlank() || restClient == null) {
+            return new float[0];
+        }
+        List<float[]> result = request(List.of(truncate(text)));
+        return result.isEmpty() ? new float[0] : result.get(0);
+    }
+
+    /**
+     * 여러 텍스트를 요청 수를 최소화해 임베딩한다. 입력 순서대로 결과를 반환하며 빈 텍스트는 빈 배열이다.
+     * 한 요청에 MAX_BATCH_ITEMS개/MAX_BATCH_TOKENS 토큰(추정)까지 묶고, 429/5xx/네트워크 오류는 지수 백오프로 재시도한다.
+     * 재시도 후에도 실패하면 예외를 던진다 (호출 측이 부분 결과를 저장하지 않도록).
+     */
+    @Override
+    public List<float[]> embedBatch(List<String> texts) {
+        float[][] result = new float[texts.size()][];
+        Arrays.fill(result, new float[0]);
+        if (restClient == null) {
+            return Arrays.asList(result);
+        }
+
+        List<Integer> batchIndexes = new ArrayList<>();
+        List<String> batchInputs = new ArrayList<>();
+        int batchTokens = 0;
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i);
+            if (text == null || text.isBlank()) continue;
+            String input = truncate(text);
+            int tokens = TourContextCache.estimateTokens(input);
+            if (!batchInputs.isEmpty()
+                    && (batchInputs.size() >= MAX_BATCH_ITEMS || batchTokens + tokens > MAX_BATCH_TOKENS)) {
+                flush(batchIndexes, batchInputs, result);
+                batchTokens = 0;
+            }
+            batchIndexes.add(i);
+            batchInputs.add(input);
+            batchTokens += tokens;
+        }
+        if (!batchInputs.isEmpty()) {
+            flush(batchIndexes, batchInputs, result);
+        }
+        return Arrays.asList(result);
+    }
+
+    private void flush(List<Integer> indexes, List<String> inputs, float[][] result) {
+        List<float[]> embeddings = requestWithRetry(inputs);
+        for (int i = 0; i < indexes.size() && i < embeddings.size(); i++) {
+            result[indexes.get(i)] = embeddings.get(i);
+        }
+        indexes.clear();
+        inputs.clear();
+    }
+
+    private List<float[]> requestWithRetry(List<String> inputs) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return request(inputs);
+            } catch (RestClientResponseException e) {
+                int status = e.getStatusCode().value();
+                if ((status != 429 && status < 500) || attempt >= MAX_ATTEMPTS) throw e;
+                String retryAfter = e.getResponseHeaders() != null ? e.getResponseHeaders().getFirst("Retry-After") : null;
+                log.warn("Embedding request failed ({}), retry {}/{}", status, attempt, MAX_ATTEMPTS - 1);
+                sleep(backoffMillis(attempt, retryAfter));
+            } catch (ResourceAccessException e) {
+                if (attempt >= MAX_ATTEMPTS) throw e;
+                log.warn("Embedding request I/O error, retry {}/{}: {}", attempt, MAX_ATTEMPTS - 1, e.getMessage());
+                sleep(backoffMillis(attempt, null));
+            }
+        }
+    }
+
+    /** Retry-After(초)가 있으면 따르고, 없으면 지수 백오프 + 지터 */
+    static long backoffMillis(int attempt, String retryAfter) {
+        if (retryAfter != null) {
+            try {
+                return Math.min(Long.parseLong(retryAfter.trim()) * 1000, MAX_BACKOFF_MS);
+            } catch (NumberFormatException ignored) {
+                // HTTP-date 형식은 지수 백오프로 대체
+            }
+        }
+        long backoff = Math.min(BASE_BACKOFF_MS << (attempt - 1), MAX_BACKOFF_MS);
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Embedding retry interrupted", e);
+        }
+    }
+
+    private List<float[]> request(List<String> inputs) {
+        Map<String, Object> request = Map.of(
+            "model", MODEL,
+            "input", inputs,
+            "dimensions", dimensions
+        );
+        @SuppressWarnings("unchecked")
+        var response = restClient.post()
+            .body(request)
+            .retrieve()
+            .body(Map.class);
+        if (response == null) return List.of();
+        @SuppressWarnings("unchecked")
+        var data = (List<Map<String, Object>>) response.get("data");
+        if (data == null || data.isEmpty()) return List.of();
+        float[][] result = new float[inputs.size()][];
+        Arrays.fill(result, new float[0]);
+        for (int i = 0; i < data.size(); i++) {
+            Map<String, Object> item = data.get(i);
+            int index = item.get("index") instanceof Number n ? n.intValue() : i;
+            @SuppressWarnings("unchecked")
+            var embedding = (List<Number>) item.get("embedding");
+            if (embedding == null || index < 0 || index >= result.length) continue;
+            float[] vector = new float[embedding.size()];
+            for (int j = 0; j < embedding.size(); j++) {
+                vector[j] = embedding.get(j).floatValue();
+            }
+            result[index] = vector;
+        }
+        return Arrays.asList(result);
+    }
+
+    private static String truncate(String text) {
+        return text.length() > MAX_INPUT_CHARS ? text.substring(0, MAX_INPUT_CHARS) : text;
+    }
+}
@@ -0,0 +1,304 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.entity.RagSyncJob;
+import com.app.questofseoul.domain.enums.RagSyncJobStatus;
+import com.app.questofseoul.dto.admin.RagSyncJobResponse;
+import com.app.questofseoul.exception.ResourceNotFoundException;
+import com.app.questofseoul.exception.ValidationException;
+import com.app.questofseoul.repository.RagSyncJobRepository;
+import com.app.questofseoul.repository.TourRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 전체 투어 지식 동기화 백그라운드 작업.
+ * 투어 id 오름차순으로 parallelism개씩 청크를 만들어 투어별 증분 동기화(각자 짧은 트랜잭션)를 병렬 실행하고,
+ * 청크마다 체크포인트를 저장한다. 서버가 중간에 종료되면 RUNNING으로 남은 작업을 기동 시 마지막 체크포인트부터 이어서 처리한다.
+ * 인스턴스가 여럿이어도 작업은 DB 임대(owner/heartbeatAt)를 잡은 한 곳에서만 돌며, 임대는 청크를 처리하는 동안에도
+ * sync-lease/3 간격으로 갱신된다. 갱신에 실패하면(다른 인스턴스가 가져감) 청크를 취소하고, 체크포인트/완료 기록도
+ * 같은 트랜잭션에서 owner 조건 갱신이 성공했을 때만 쓴다.
+ * 비정상 종료로 남은 임대는 sync-lease가 지나야 풀리므로, 그 전에 재기동하면 관리자 start()로 다시 이어 붙인다.
+ */
+@Service
+public class RagSyncJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(RagSyncJobService.class);
+    /** 작업 생성(start) 직렬화용 pg advisory lock 키 */
+    private static final long START_LOCK_KEY = 0x7261_6773_796e_63L;
+
+    private final TourKnowledgeSyncService syncService;
+    private final TourRepository tourRepository;
+    private final RagSyncJobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskExecutor taskExecutor;
+    private final int parallelism;
+    private final Duration lease;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+    private final ExecutorService syncPool;
+    private final ScheduledExecutorService leaseRenewer;
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+
+    public RagSyncJobService(TourKnowledgeSyncService syncService,
+                             TourRepository tourRepository,
+                             RagSyncJobRepository jobRepository,
+                             TransactionTemplate transactionTemplate,
+                             JdbcTemplate jdbcTemplate,
+                             TaskExecutor taskExecutor,
+                             @Value("${app.rag.sync-parallelism:4}") int parallelism,
+                             @Value("${app.rag.sync-lease:5m}") Duration lease) {
+        this.syncService = syncService;
+        this.tourRepository = tourRepository;
+        this.jobRepository = jobRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.taskExecutor = taskExecutor;
+        this.parallelism = Math.max(1, parallelism);
+        this.lease = lease;
+        AtomicInteger seq = new AtomicInteger();
+        this.syncPool = Executors.newFixedThreadPool(this.parallelism, r -> {
+            Thread t = new Thread(r, "rag-sync-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.leaseRenewer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "rag-sync-lease");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 전체 동기화 작업 시작. 이미 RUNNING인 작업이 있으면 새로 만들지 않고 그 작업을 반환한다.
+     * 조회-생성은 advisory lock으로 인스턴스 간에도 직렬화하고, 실제 실행은 임대를 잡은 인스턴스만 한다.
+     */
+    public RagSyncJobResponse start() {
+        if (!syncService.isEnabled()) {
+            throw new ValidationException("Embedding provider is not available (OPENAI_API_KEY not set)");
+        }
+        RagSyncJob job = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForObject("SELECT count(*) FROM (SELECT pg_advisory_xact_lock(?)) l",
+                    Integer.class, START_LOCK_KEY);
+            return jobRepository.findByStatusOrderByIdAsc(RagSyncJobStatus.RUNNING).stream()
+                .findFirst()
+                .orElseGet(() -> jobRepository.save(RagSyncJob.create((int) tourRepository.count())));
+        });
+        launch(job.getId());
+        return RagSyncJobResponse.from(job);
+    }
+
+    public RagSyncJobResponse get(Long jobId) {
+        return jobRepository.findById(jobId)
+            .map(RagSyncJobResponse::from)
+            .orElseThrow(() -> new ResourceNotFoundException("RAG sync job not found"));
+    }
+
+    /** 이전 프로세스에서 끝나지 못한 작업 재개 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        for (RagSyncJob job : jobRepository.findByStatusOrderByIdAsc(RagSyncJobStatus.RUNNING)) {
+            log.info("Resuming RAG sync job {} after tour {}", job.getId(), job.getLastTourId());
+            launch(job.getId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        syncPool.shutdownNow();
+        leaseRenewer.shutdownNow();
+    }
+
+    private void launch(Long jobId) {
+        if (!runningJobs.add(jobId)) return;
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    runningJobs.remove(jobId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            runningJobs.remove(jobId);
+            log.info("RAG sync job {} not launched: executor is shutting down", jobId);
+        }
+    }
+
+    void run(Long jobId) {
+        if (!claim(jobId)) {
+            log.info("RAG sync job {} is leased by another instance, skipping", jobId);
+            return;
+        }
+        try {
+            while (true) {
+                RagSyncJob job = jobRepository.findById(jobId).orElse(null);
+                if (job == null || job.getStatus() != RagSyncJobStatus.RUNNING) return;
+                // 청크마다 임대 갱신. 임대가 만료돼 다른 인스턴스가 가져갔으면 여기서 멈춘다
+                if (!claim(jobId)) {
+                    log.warn("RAG sync job {} lease was taken over by another instance, stopping", jobId);
+                    return;
+                }
+
+                Long afterId = job.getLastTourId() != null ? job.getLastTourId() : 0L;
+                List<Long> chunk = tourRepository.findIdsAfter(afterId, PageRequest.of(0, parallelism));
+                if (chunk.isEmpty()) {
+                    if (updateOwnedJob(jobId, RagSyncJob::complete)) {
+                        log.info("RAG sync job {} completed", jobId);
+                    } else {
+                        log.warn("RAG sync job {} lease was lost before completion was recorded", jobId);
+                    }
+                    return;
+                }
+                if (!processChunk(jobId, chunk)) {
+                    log.warn("RAG sync job {} lease was lost while syncing tours {}, stopping without checkpoint",
+                            jobId, chunk);
+                    return;
+                }
+            }
+        } catch (InterruptedException | RejectedExecutionException e) {
+            // 종료 중: RUNNING 상태와 체크포인트를 남기고 임대를 풀어 다음 기동(또는 다른 인스턴스)에서 재개한다
+            release(jobId);
+            Thread.currentThread().interrupt();
+            log.info("RAG sync job {} interrupted, will resume on next startup", jobId);
+        } catch (Exception e) {
+            log.error("RAG sync job {} failed", jobId, e);
+            if (!updateOwnedJob(jobId, job -> job.fail(e.getMessage()))) {
+                log.warn("RAG sync job {} lease was lost, failure not recorded", jobId);
+            }
+        }
+    }
+
+    /** 청크 처리 후 체크포인트를 기록한다. 처리 중 임대를 잃었으면 체크포인트 없이 false */
+    private boolean processChunk(Long jobId, List<Long> tourIds) throws InterruptedException {
+        checkNotShuttingDown();
+        List<Future<Integer>> futures = new ArrayList<>(tourIds.size());
+        for (Long tourId : tourIds) {
+            futures.add(syncPool.submit(() -> syncService.syncTour(tourId)));
+        }
+        AtomicBoolean leaseLost = new AtomicBoolean();
+        ScheduledFuture<?> heartbeat = scheduleHeartbeat(jobId, futures, leaseLost);
+        int processed = 0;
+        int failed = 0;
+        int embeddings = 0;
+        String error = null;
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                processed++;
+                try {
+                    embeddings += futures.get(i).get();
+                } catch (ExecutionException e) {
+                    failed++;
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    error = "tour " + tourIds.get(i) + ": " + cause.getMessage();
+                    log.warn("RAG sync job {} tour {} failed: {}", jobId, tourIds.get(i), cause.getMessage());
+                } catch (CancellationException e) {
+                    // 임대를 잃어 heartbeat가 취소한 투어
+                }
+            }
+        } finally {
+            heartbeat.cancel(false);
+        }
+        // 종료로 중단된 투어를 실패로 기록하고 체크포인트를 넘기지 않도록 한다
+        checkNotShuttingDown();
+        if (leaseLost.get()) {
+            return false;
+        }
+        Long lastTourId = tourIds.get(tourIds.size() - 1);
+        int p = processed, f = failed, emb = embeddings;
+        String err = error;
+        return updateOwnedJob(jobId, job -> job.checkpoint(lastTourId, p, f, emb, err));
+    }
+
+    /** 청크가 도는 동안 sync-lease/3마다 임대를 갱신한다. 다른 인스턴스가 가져갔으면 남은 투어를 취소한다 */
+    private ScheduledFuture<?> scheduleHeartbeat(Long jobId, List<Future<Integer>> futures, AtomicBoolean leaseLost) {
+        long periodMs = Math.max(1, lease.toMillis() / 3);
+        try {
+            return leaseRenewer.scheduleAtFixedRate(() -> {
+                if (leaseLost.get()) return;
+                try {
+                    if (!renew(jobId)) {
+                        leaseLost.set(true);
+                        futures.forEach(future -> future.cancel(true));
+                    }
+                } catch (Exception e) {
+                    // DB 일시 오류: 다음 주기에 다시 시도 (체크포인트는 owner 조건이라 임대를 잃었으면 쓰이지 않는다)
+                    log.warn("RAG sync job {} lease renewal failed: {}", jobId, e.getMessage());
+                }
+            }, periodMs, periodMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+    }
+
+    private void checkNotShuttingDown() throws InterruptedException {
+        if (syncPool.isShutdown()) {
+            throw new InterruptedException("RAG sync pool is shutting down");
+        }
+    }
+
+    private boolean claim(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+            jobRepository.claim(jobId, RagSyncJobStatus.RUNNING, owner, now, now.minus(lease)));
+        return claimed != null && claimed > 0;
+    }
+
+    private boolean renew(Long jobId) {
+        Integer renewed = transactionTemplate.execute(status ->
+            jobRepository.renew(jobId, RagSyncJobStatus.RUNNING, owner, LocalDateTime.now()));
+        return renewed != null && renewed > 0;
+    }
+
+    private void release(Long jobId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> jobRepository.release(jobId, owner));
+        } catch (Exception e) {
+            log.debug("Could not release RAG sync job {} lease: {}", jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * 임대를 가진 경우에만 작업을 변경한다. 같은 트랜잭션에서 owner 조건 UPDATE(renew)가 행을 잠그므로
+     * 커밋 전에 다른 인스턴스가 임대를 가져가 같은 작업에 쓰는 일이 없다. 임대를 잃었으면 false.
+     */
+    private boolean updateOwnedJob(Long jobId, Consumer<RagSyncJob> change) {
+        Boolean updated = transactionTemplate.execute(status -> {
+            if (jobRepository.renew(jobId, RagSyncJobStatus.RUNNING, owner, LocalDateTime.now()) == 0) {
+                return false;
+            }
+            jobRepository.findById(jobId).ifPresent(change);
+            return true;
+        });
+        return Boolean.TRUE.equals(updated);
+    }
+}
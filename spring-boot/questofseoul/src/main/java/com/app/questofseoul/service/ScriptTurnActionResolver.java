@@ -0,0 +1,69 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.dto.tour.ProximityResponse;
+import com.app.questofseoul.repository.UserMissionAttemptRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 컴파일된 {@link GuideScript.LineAction}을 응답용 ActionDto로 변환.
+ * 요청 시점에 계산하는 값은 run의 "시도한 미션 스텝" 집합뿐이며, 연결 미션이 없는 MISSION_CHOICE 라인을 만났을 때만 한 번 로드한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScriptTurnActionResolver {
+
+    private final UserMissionAttemptRepository userMissionAttemptRepository;
+
+    /** run/스팟 단위 시도한 미션 스텝 id 집합 (요청 내 최초 호출 시 한 번만 조회) */
+    public Supplier<Set<Long>> attemptedStepIds(Long runId, Long spotId) {
+        return new Supplier<>() {
+            private Set<Long> loaded;
+
+            @Override
+            public Set<Long> get() {
+                if (loaded == null) {
+                    loaded = new HashSet<>();
+                    userMissionAttemptRepository.findByTourRun_IdAndStep_Spot_IdOrderByAttemptNoAsc(runId, spotId)
+                            .forEach(attempt -> loaded.add(attempt.getStep().getId()));
+                }
+                return loaded;
+            }
+        };
+    }
+
+    public ProximityResponse.ActionDto resolve(Long sessionId, Long spotId, GuideScript script, int index,
+                                               Supplier<Set<Long>> attemptedStepIds) {
+        GuideScript.LineAction action = script.line(index).action();
+        String nextApi = nextApi(sessionId, action.nextScriptLineId());
+        switch (action.type()) {
+            case AUTO_NEXT:
+                return new ProximityResponse.ActionDto("AUTO_NEXT", nextApi, null, null);
+            case MISSION_CHOICE:
+                Long missionStepId = action.missionStepId() != null
+                        ? action.missionStepId()
+                        : script.nextMissionStepId(attemptedStepIds.get());
+                return new ProximityResponse.ActionDto("MISSION_CHOICE", nextApi, "게임 시작", missionStepId);
+            default:
+                if (nextApi != null) {
+                    return new ProximityResponse.ActionDto("NEXT", nextApi, "다음", null);
+                }
+                return new ProximityResponse.ActionDto("NEXT", null, "다음", spotId);
+        }
+    }
+
+    /** cursor 위치 스크립트 턴의 nextApi (스크립트 끝이면 null) */
+    public String nextApi(Long sessionId, GuideScript script, int index) {
+        if (index < 0 || index >= script.size()) return null;
+        return nextApi(sessionId, script.line(index).scriptLineId());
+    }
+
+    private String nextApi(Long sessionId, Long scriptLineId) {
+        if (scriptLineId == null) return null;
+        return "/api/v1/chat-sessions/" + sessionId + "/script-lines/" + scriptLineId;
+    }
+}
@@ -0,0 +1,76 @@
+package com.app.questofseoul.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * 서비스 메서드 타이머 (qos.* 이름, method/outcome/exception 태그).
+ * outcome은 호출부가 {@link Outcome#set}으로 지정하며(GUIDE/TREASURE, hit/miss 등) 기본값은 ok, 예외 시 error다.
+ * 백분위 히스토그램과 SLO 버킷은 management.metrics.distribution.*.qos 설정으로 켠다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ServiceMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> T time(String name, String method, Function<Outcome, T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Outcome outcome = new Outcome();
+        try {
+            return call.apply(outcome);
+        } catch (RuntimeException e) {
+            outcome.fail(e);
+            throw e;
+        } finally {
+            stop(sample, name, method, outcome);
+        }
+    }
+
+    /** 비동기 호출은 future가 완료될 때까지를 잰다 (AI 응답 대기 포함) */
+    public <T> CompletableFuture<T> timeAsync(String name, String method, Function<Outcome, CompletableFuture<T>> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Outcome outcome = new Outcome();
+        CompletableFuture<T> future;
+        try {
+            future = call.apply(outcome);
+        } catch (RuntimeException e) {
+            outcome.fail(e);
+            stop(sample, name, method, outcome);
+            throw e;
+        }
+        return future.whenComplete((result, error) -> {
+            if (error != null) {
+                outcome.fail(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            }
+            stop(sample, name, method, outcome);
+        });
+    }
+
+    private void stop(Timer.Sample sample, String name, String method, Outcome outcome) {
+        sample.stop(meterRegistry.timer(name,
+            "method", method, "outcome", outcome.value, "exception", outcome.exception));
+    }
+
+    /** 호출 결과 태그 (메서드 안에서 결과가 정해지는 시점에 지정) */
+    public static final class Outcome {
+
+        private volatile String value = "ok";
+        private volatile String exception = "none";
+
+        public void set(String value) {
+            this.value = value;
+        }
+
+        private void fail(Throwable error) {
+            this.value = "error";
+            this.exception = error.getClass().getSimpleName();
+        }
+    }
+}
@@ -1,17 +1,12 @@
 package com.app.questofseoul.service;
 
-import com.app.questofseoul.domain.entity.SpotContentStep;
 import com.app.questofseoul.domain.entity.TourSpot;
-import com.app.questofseoul.domain.enums.StepKind;
 import com.app.questofseoul.domain.enums.StepNextAction;
 import com.app.questofseoul.domain.enums.SpotAssetUsage;
 import com.app.questofseoul.dto.tour.GuideSegmentResponse;
 import com.app.questofseoul.dto.tour.SpotDetailResponse;
 import com.app.questofseoul.exception.ResourceNotFoundException;
-import com.app.questofseoul.repository.ScriptLineAssetRepository;
 import com.app.questofseoul.repository.SpotAssetRepository;
-import com.app.questofseoul.repository.SpotContentStepRepository;
-import com.app.questofseoul.repository.SpotScriptLineRepository;
 import com.app.questofseoul.repository.TourSpotRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -27,9 +22,7 @@ public class SpotGuideService {
     private static final int DEFAULT_DELAY_MS = 2000;
 
     private final TourSpotRepository tourSpotRepository;
-    private final SpotContentStepRepository spotContentStepRepository;
-    private final SpotScriptLineRepository spotScriptLineRepository;
-    private final ScriptLineAssetRepository scriptLineAssetRepository;
+    private final GuideScriptCache guideScriptCache;
     private final SpotAssetRepository spotAssetRepository;
 
     @Transactional(readOnly = true)
@@ -38,31 +31,23 @@ public class SpotGuideService {
                 .orElseThrow(() -> new ResourceNotFoundException("Spot not found"));
         String language = (lang != null && !lang.isBlank()) ? lang : "ko";
 
-        List<SpotContentStep> guideSteps = spotContentStepRepository
-                .findBySpotIdAndLanguageOrderByStepIndexAsc(spotId, language)
-                .stream().filter(s -> s.getKind() == StepKind.GUIDE).toList();
+        GuideScript script = guideScriptCache.get(spotId, language);
 
         List<GuideSegmentResponse.SegmentItem> segments = new ArrayList<>();
         int segIdx = 1;
-        StepNextAction lastNextAction = null;
-        for (SpotContentStep step : guideSteps) {
-            lastNextAction = step.getNextAction();
-            var lines = spotScriptLineRepository.findByStep_IdOrderBySeqAsc(step.getId());
-            for (var line : lines) {
-                List<GuideSegmentResponse.AssetItem> assets = scriptLineAssetRepository
-                        .findByScriptLine_IdOrderBySortOrderAsc(line.getId())
-                        .stream()
-                        .map(a -> new GuideSegmentResponse.AssetItem(
-                                a.getAsset().getId(),
-                                a.getAsset().getAssetType() != null ? a.getAsset().getAssetType().name() : "IMAGE",
-                                a.getAsset().getUrl(),
-                                a.getAsset().getMetadataJson()))
-                        .toList();
-                segments.add(new GuideSegmentResponse.SegmentItem(
-                        line.getId(), segIdx++, line.getText(), null, assets, DEFAULT_DELAY_MS));
-            }
+        for (GuideScript.Line line : script.lines()) {
+            List<GuideSegmentResponse.AssetItem> assets = line.assets().stream()
+                    .map(a -> new GuideSegmentResponse.AssetItem(
+                            a.assetId(),
+                            a.assetType() != null ? a.assetType().name() : "IMAGE",
+                            a.url(),
+                            a.metadata()))
+                    .toList();
+            segments.add(new GuideSegmentResponse.SegmentItem(
+                    line.scriptLineId(), segIdx++, line.text(), null, assets, DEFAULT_DELAY_MS));
         }
 
+        StepNextAction lastNextAction = script.lastNextAction();
         String nextActionStr = lastNextAction != null ? lastNextAction.name() : null;
         return new GuideSegmentResponse(spotId, spot.getTitle(), nextActionStr, segments);
     }
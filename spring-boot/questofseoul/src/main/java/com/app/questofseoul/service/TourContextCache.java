@@ -0,0 +1,162 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.entity.Tour;
+import com.app.questofseoul.domain.entity.TourSpot;
+import com.app.questofseoul.event.TourContentChangedEvent;
+import com.app.questofseoul.event.TourSpotsChangedEvent;
+import com.app.questofseoul.repository.TourRepository;
+import com.app.questofseoul.repository.TourSpotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (tourId, language) 단위 AI 프롬프트용 투어 컨텍스트 캐시.
+ * 투어 헤더와 스팟별 한 줄 설명을 미리 만들어 두고, 요청 시에는 현재 스팟을 맨 앞에 둔 채 토큰 예산만큼 이어 붙인다.
+ * 관리자 투어/스팟 변경이 커밋되면 해당 투어 버전을 올리고 폐기한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TourContextCache {
+
+    static final int MAX_ENTRIES = 500;
+
+    private final TourRepository tourRepository;
+    private final TourSpotRepository tourSpotRepository;
+
+    private final Map<Key, TourContext> contexts = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, TourContext> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            });
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public TourContext get(Long tourId, String language) {
+        Key key = new Key(tourId, language);
+        TourContext context = contexts.get(key);
+        if (context != null) {
+            return context;
+        }
+        long version = version(tourId);
+        TourContext compiled = compile(tourId, language);
+        // 컴파일 도중 폐기(evict)가 일어났다면 오래된 버전을 캐시에 올리지 않는다.
+        synchronized (contexts) {
+            TourContext existing = contexts.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            if (version == version(tourId)) {
+                contexts.put(key, compiled);
+            }
+        }
+        return compiled;
+    }
+
+    public void evict(Long tourId) {
+        if (tourId == null) return;
+        versions.merge(tourId, 1L, Long::sum);
+        synchronized (contexts) {
+            contexts.keySet().removeIf(key -> key.tourId().equals(tourId));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTourSpotsChanged(TourSpotsChangedEvent event) {
+        evict(event.tourId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTourContentChanged(TourContentChangedEvent event) {
+        evict(event.tourId());
+    }
+
+    private long version(Long tourId) {
+        return versions.getOrDefault(tourId, 0L);
+    }
+
+    private TourContext compile(Long tourId, String language) {
+        Tour tour = tourRepository.findById(tourId).orElse(null);
+        if (tour == null) {
+            return new TourContext("", List.of());
+        }
+        boolean english = "en".equalsIgnoreCase(language);
+        String title = english && tour.getTitleEn() != null && !tour.getTitleEn().isBlank()
+                ? tour.getTitleEn() : tour.getDisplayTitle();
+        String description = english && tour.getDescriptionEn() != null && !tour.getDescriptionEn().isBlank()
+                ? tour.getDescriptionEn() : tour.getDisplayDescription();
+
+        StringBuilder header = new StringBuilder();
+        header.append("투어: ").append(title).append("\n");
+        if (description != null) header.append("설명: ").append(description).append("\n");
+
+        List<SpotLine> spotLines = new ArrayList<>();
+        for (TourSpot s : tourSpotRepository.findByTourIdOrderByOrderIndexAsc(tourId)) {
+            StringBuilder line = new StringBuilder();
+            line.append("- 스팟 ").append(s.getOrderIndex()).append(": ").append(s.getTitle());
+            if (!english && s.getTitleKr() != null && !s.getTitleKr().isBlank() && !s.getTitleKr().equals(s.getTitle())) {
+                line.append(" (").append(s.getTitleKr()).append(")");
+            }
+            if (s.getDescription() != null) line.append(" - ").append(s.getDescription());
+            line.append("\n");
+            spotLines.add(new SpotLine(s.getId(), line.toString()));
+        }
+        return new TourContext(header.toString(), List.copyOf(spotLines));
+    }
+
+    /**
+     * 대략적인 토큰 수 추정 (ASCII 4자당 1토큰, 한글 등 비ASCII 문자는 1자당 1토큰으로 보수적으로 계산)
+     */
+    static int estimateTokens(String text) {
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            if (cp < 0x80) ascii++;
+            else other++;
+            i += Character.charCount(cp);
+        }
+        return other + (ascii + 3) / 4;
+    }
+
+    /** 투어 하나의 불변 컨텍스트 조각 (헤더 + 라우트 순서 스팟 줄) */
+    public record TourContext(String header, List<SpotLine> spotLines) {
+
+        /**
+         * 프롬프트용 문자열. 현재 스팟 줄을 헤더 바로 뒤에 두고 나머지는 라우트 순서대로,
+         * 토큰 예산을 넘기 직전까지만 포함한다. 헤더는 예산과 무관하게 항상 포함한다.
+         */
+        public String render(Long currentSpotId, int tokenBudget) {
+            StringBuilder sb = new StringBuilder(header);
+            int used = estimateTokens(header);
+            List<SpotLine> ordered = new ArrayList<>(spotLines.size());
+            for (SpotLine line : spotLines) {
+                if (line.spotId().equals(currentSpotId)) ordered.add(0, line);
+                else ordered.add(line);
+            }
+            for (SpotLine line : ordered) {
+                String text = line.spotId().equals(currentSpotId)
+                        ? line.text().replaceFirst("^- ", "- [현재 위치] ")
+                        : line.text();
+                int tokens = estimateTokens(text);
+                if (used + tokens > tokenBudget) break;
+                sb.append(text);
+                used += tokens;
+            }
+            return sb.toString();
+        }
+    }
+
+    public record SpotLine(Long spotId, String text) {}
+
+    private record Key(Long tourId, String language) {}
+}
@@ -0,0 +1,332 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.entity.SpotAsset;
+import com.app.questofseoul.domain.entity.SpotContentStep;
+import com.app.questofseoul.domain.entity.Tour;
+import com.app.questofseoul.domain.entity.TourAsset;
+import com.app.questofseoul.domain.entity.TourSpot;
+import com.app.questofseoul.domain.enums.SpotAssetUsage;
+import com.app.questofseoul.domain.enums.SpotType;
+import com.app.questofseoul.domain.enums.StepKind;
+import com.app.questofseoul.domain.enums.TourAssetUsage;
+import com.app.questofseoul.dto.tour.TourDetailResponse;
+import com.app.questofseoul.event.GuideContentChangedEvent;
+import com.app.questofseoul.event.TourContentChangedEvent;
+import com.app.questofseoul.event.TourSpotsChangedEvent;
+import com.app.questofseoul.exception.ResourceNotFoundException;
+import com.app.questofseoul.repository.SpotAssetRepository;
+import com.app.questofseoul.repository.SpotContentStepRepository;
+import com.app.questofseoul.repository.TourAssetRepository;
+import com.app.questofseoul.repository.TourRepository;
+import com.app.questofseoul.repository.TourSpotRepository;
+import com.app.questofseoul.repository.TourTagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 투어 디테일 화면의 사용자 무관 부분(카운트/태그/지도 스팟/메인 미션 경로/썸네일 등) 읽기 모델.
+ * 투어 버전(관리자 변경 커밋 시점)마다 한 번 조립해 메모리에 두고, 접근 권한/진행 중 run은 요청 시점에 덧씌운다.
+ * 관리자 변경 이벤트({@link TourSpotsChangedEvent}, {@link TourContentChangedEvent}, {@link GuideContentChangedEvent})가 커밋되면 폐기한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TourDetailReadModel {
+
+    private static final int DEFAULT_RADIUS_M = 50;
+
+    private final TourRepository tourRepository;
+    private final TourSpotRepository tourSpotRepository;
+    private final TourTagRepository tourTagRepository;
+    private final SpotContentStepRepository spotContentStepRepository;
+    private final SpotAssetRepository spotAssetRepository;
+    private final TourAssetRepository tourAssetRepository;
+
+    private final Map<Long, View> views = new ConcurrentHashMap<>();
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+    /** 투어 읽기 모델 조회 (없으면 조립) */
+    public View get(Long tourId) {
+        View view = views.get(tourId);
+        if (view != null) {
+            return view;
+        }
+        long generation = generations.getOrDefault(tourId, 0L);
+        View built = build(tourId);
+        // 조립 도중 폐기(evict)가 일어났다면 오래된 모델을 캐시에 올리지 않는다.
+        View cached = views.compute(tourId, (id, existing) -> {
+            if (existing != null) return existing;
+            return generations.getOrDefault(id, 0L) == generation ? built : null;
+        });
+        return cached != null ? cached : built;
+    }
+
+    /** 조립 없이 바로 반환 가능한지 여부 (메트릭 태그용) */
+    public boolean isCached(Long tourId) {
+        return views.containsKey(tourId);
+    }
+
+    public void evict(Long tourId) {
+        if (tourId == null) return;
+        generations.merge(tourId, 1L, Long::sum);
+        views.remove(tourId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTourSpotsChanged(TourSpotsChangedEvent event) {
+        evict(event.tourId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTourContentChanged(TourContentChangedEvent event) {
+        evict(event.tourId());
+    }
+
+    /** 미션 스텝 변경은 스팟 단위로 오므로, 해당 스팟을 포함한 투어 모델을 폐기 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGuideContentChanged(GuideContentChangedEvent event) {
+        if (event.spotId() == null) return;
+        views.forEach((tourId, view) -> {
+            if (view.spotIds().contains(event.spotId())) {
+                evict(tourId);
+            }
+        });
+    }
+
+    View build(Long tourId) {
+        Tour tour = tourRepository.findById(tourId)
+                .orElseThrow(() -> new ResourceNotFoundException("Tour not found"));
+
+        List<TourSpot> spots = tourSpotRepository.findByTourIdOrderByOrderIndexAsc(tourId);
+        Map<SpotType, List<TourSpot>> spotsByType = new EnumMap<>(SpotType.class);
+        for (SpotType type : SpotType.values()) {
+            spotsByType.put(type, new ArrayList<>());
+        }
+        for (TourSpot spot : spots) {
+            if (spot.getType() != null) spotsByType.get(spot.getType()).add(spot);
+        }
+        List<TourSpot> mainSpots = spotsByType.get(SpotType.MAIN);
+        List<Long> spotIds = spots.stream().map(TourSpot::getId).toList();
+
+        Map<Long, List<SpotAsset>> assetsBySpotId = new HashMap<>();
+        if (!spotIds.isEmpty()) {
+            for (SpotAsset sa : spotAssetRepository.findWithAssetBySpotIds(spotIds)) {
+                assetsBySpotId.computeIfAbsent(sa.getSpot().getId(), k -> new ArrayList<>()).add(sa);
+            }
+        }
+
+        long missionsCount = spotContentStepRepository.countMissionsByTourId(tourId, StepKind.MISSION);
+        TourDetailResponse.CountsDto counts = TourDetailResponse.CountsDto.builder()
+                .main(mainSpots.size())
+                .sub(spotsByType.get(SpotType.SUB).size())
+                .photo(spotsByType.get(SpotType.PHOTO).size())
+                .treasure(spotsByType.get(SpotType.TREASURE).size())
+                .missions((int) missionsCount)
+                .build();
+
+        List<TourDetailResponse.TagDto> tags = tourTagRepository.findWithTagByTourId(tourId).stream()
+                .map(tt -> TourDetailResponse.TagDto.builder()
+                        .id(tt.getTag().getId())
+                        .name(tt.getTag().getName())
+                        .slug(tt.getTag().getSlug())
+                        .build())
+                .toList();
+
+        // Info (from info_json)
+        TourDetailResponse.InfoDto info = null;
+        if (tour.getInfoJson() != null && !tour.getInfoJson().isEmpty()) {
+            info = TourDetailResponse.InfoDto.builder()
+                    .entrance_fee((Map<String, Object>) tour.getInfoJson().get("entrance_fee"))
+                    .available_hours((List<Map<String, Object>>) tour.getInfoJson().get("available_hours"))
+                    .estimated_duration_min(tour.getInfoJson().get("estimated_duration_min") != null
+                            ? ((Number) tour.getInfoJson().get("estimated_duration_min")).intValue() : null)
+                    .build();
+        }
+
+        // Start spot
+        TourDetailResponse.StartSpotDto startSpot = null;
+        TourSpot start = tour.getStartSpot();
+        if (start != null && Boolean.FALSE.equals(start.getIsActive())) {
+            start = null;
+        }
+        if (start == null && !mainSpots.isEmpty()) {
+            start = mainSpots.get(0);
+        }
+        if (start != null) {
+            startSpot = TourDetailResponse.StartSpotDto.builder()
+                    .spotId(start.getId())
+                    .title(start.getTitle())
+                    .lat(start.getLatitude())
+                    .lng(start.getLongitude())
+                    .radiusM(start.getRadiusM() != null ? start.getRadiusM() : DEFAULT_RADIUS_M)
+                    .build();
+        }
+
+        // Map spots (MAIN + SUB + PHOTO + TREASURE for map display) - thumbnailUrl, isHighlight 포함
+        List<TourDetailResponse.MapSpotDto> mapSpots = new ArrayList<>();
+        for (TourSpot s : mainSpots) {
+            addMapSpot(mapSpots, s, "MAIN", true, assetsBySpotId);
+        }
+        for (TourSpot s : spotsByType.get(SpotType.SUB)) {
+            addMapSpot(mapSpots, s, "SUB", false, assetsBySpotId);
+        }
+        for (TourSpot s : spotsByType.get(SpotType.PHOTO)) {
+            addMapSpot(mapSpots, s, "PHOTO", false, assetsBySpotId);
+        }
+        for (TourSpot s : spotsByType.get(SpotType.TREASURE)) {
+            addMapSpot(mapSpots, s, "TREASURE", false, null);
+        }
+
+        // Main Mission Path (MAIN 스팟별 MISSION 스텝)
+        Map<Long, List<SpotContentStep>> missionStepsBySpotId = new HashMap<>();
+        if (!mainSpots.isEmpty()) {
+            List<Long> mainSpotIds = mainSpots.stream().map(TourSpot::getId).toList();
+            for (SpotContentStep s : spotContentStepRepository
+                    .findBySpotIdsAndKindAndLanguageOrderByStepIndexAsc(mainSpotIds, StepKind.MISSION, "ko")) {
+                missionStepsBySpotId.computeIfAbsent(s.getSpot().getId(), k -> new ArrayList<>()).add(s);
+            }
+        }
+        List<TourDetailResponse.MainMissionPathItemDto> mainMissionPath = new ArrayList<>();
+        int orderIdx = 1;
+        for (TourSpot ms : mainSpots) {
+            List<TourDetailResponse.MissionItemDto> missions = new ArrayList<>();
+            int missionIdx = 1;
+            for (SpotContentStep s : missionStepsBySpotId.getOrDefault(ms.getId(), List.of())) {
+                missions.add(TourDetailResponse.MissionItemDto.builder()
+                        .stepId(s.getId())
+                        .missionId(s.getMission() != null ? s.getMission().getId() : null)
+                        .title(s.getTitle() != null && !s.getTitle().isBlank() ? s.getTitle() : "Mission " + missionIdx)
+                        .build());
+                missionIdx++;
+            }
+            mainMissionPath.add(TourDetailResponse.MainMissionPathItemDto.builder()
+                    .spotId(ms.getId())
+                    .spotTitle(ms.getTitle())
+                    .orderIndex(orderIdx++)
+                    .missions(List.copyOf(missions))
+                    .build());
+        }
+
+        // 투어 디테일 썸네일: tour_assets 우선, 없으면 메인 플레이스 이미지로 fallback
+        List<String> thumbnails = new ArrayList<>();
+        for (TourAsset ta : tourAssetRepository.findByTour_IdOrderBySortOrderAsc(tourId)) {
+            if (ta.getUsage() == TourAssetUsage.THUMBNAIL || ta.getUsage() == TourAssetUsage.HERO_IMAGE
+                    || ta.getUsage() == TourAssetUsage.GALLERY_IMAGE) {
+                String url = ta.getAsset() != null ? ta.getAsset().getUrl() : null;
+                if (url != null && !url.isBlank()) thumbnails.add(url);
+            }
+        }
+        if (thumbnails.isEmpty()) {
+            for (TourSpot ms : mainSpots) {
+                for (SpotAsset sa : assetsBySpotId.getOrDefault(ms.getId(), List.of())) {
+                    if (sa.getUsage() == SpotAssetUsage.THUMBNAIL || sa.getUsage() == SpotAssetUsage.HERO_IMAGE
+                            || sa.getUsage() == SpotAssetUsage.GALLERY_IMAGE) {
+                        String url = sa.getAsset() != null ? sa.getAsset().getUrl() : null;
+                        if (url != null && !url.isBlank()) thumbnails.add(url);
+                    }
+                }
+            }
+        }
+
+        return new View(
+                tour.getId(),
+                tour.getDisplayTitle(),
+                tour.getDisplayDescription(),
+                tags,
+                counts,
+                info,
+                List.copyOf(parseGoodToKnow(tour.getGoodToKnowJson())),
+                startSpot,
+                List.copyOf(mapSpots),
+                List.copyOf(mainMissionPath),
+                List.copyOf(thumbnails),
+                mainSpots.size() + spotsByType.get(SpotType.SUB).size(),
+                Set.copyOf(spotIds)
+        );
+    }
+
+    /** 지도용 spot 공통 DTO 생성 (좌표 없는 스팟은 제외, assetsBySpotId가 null이면 썸네일 생략) */
+    private static void addMapSpot(List<TourDetailResponse.MapSpotDto> mapSpots,
+                                   TourSpot spot,
+                                   String type,
+                                   boolean isHighlight,
+                                   Map<Long, List<SpotAsset>> assetsBySpotId) {
+        if (spot.getLatitude() == null || spot.getLongitude() == null) {
+            return;
+        }
+
+        String thumbnailUrl = null;
+        if (assetsBySpotId != null) {
+            thumbnailUrl = assetsBySpotId.getOrDefault(spot.getId(), List.of()).stream()
+                    .filter(sa -> sa.getUsage() == SpotAssetUsage.THUMBNAIL)
+                    .findFirst()
+                    .map(sa -> sa.getAsset() != null ? sa.getAsset().getUrl() : null)
+                    .orElse(null);
+        }
+
+        mapSpots.add(TourDetailResponse.MapSpotDto.builder()
+                .spotId(spot.getId())
+                .type(type)
+                .title(spot.getTitle())
+                .lat(spot.getLatitude())
+                .lng(spot.getLongitude())
+                .radius(spot.getRadiusM() != null ? spot.getRadiusM() : DEFAULT_RADIUS_M)
+                .thumbnailUrl(thumbnailUrl)
+                .isHighlight(isHighlight)
+                .build());
+    }
+
+    /** good_to_know_json: {"tips": ["a","b"]} 또는 루트 배열 구조 파싱 */
+    private static List<String> parseGoodToKnow(Map<String, Object> goodToKnowJson) {
+        List<String> result = new ArrayList<>();
+        if (goodToKnowJson == null || goodToKnowJson.isEmpty()) return result;
+        Object tips = goodToKnowJson.get("tips");
+        if (tips instanceof List) {
+            for (Object t : (List<?>) tips) result.add(String.valueOf(t));
+            return result;
+        }
+        // JSON 배열 ["a","b"]가 Map으로 역직렬화되면 "0","1"... 키로 들어올 수 있음
+        List<String> keys = new ArrayList<>(goodToKnowJson.keySet());
+        keys.sort((a, b) -> {
+            try {
+                return Integer.compare(Integer.parseInt(a), Integer.parseInt(b));
+            } catch (NumberFormatException e) {
+                return a.compareTo(b);
+            }
+        });
+        for (String k : keys) {
+            Object v = goodToKnowJson.get(k);
+            if (v != null && !"tips".equals(k)) result.add(String.valueOf(v));
+        }
+        return result;
+    }
+
+    /**
+     * 투어 하나의 불변 읽기 모델 스냅샷. 요청 간 공유되므로 응답 조립 시 내부 DTO를 수정하지 않는다.
+     * progressSpotCount: 진행률 분모가 되는 MAIN + SUB 스팟 수
+     */
+    public record View(
+            Long tourId,
+            String title,
+            String description,
+            List<TourDetailResponse.TagDto> tags,
+            TourDetailResponse.CountsDto counts,
+            TourDetailResponse.InfoDto info,
+            List<String> goodToKnow,
+            TourDetailResponse.StartSpotDto startSpot,
+            List<TourDetailResponse.MapSpotDto> mapSpots,
+            List<TourDetailResponse.MainMissionPathItemDto> mainMissionPath,
+            List<String> thumbnails,
+            int progressSpotCount,
+            Set<Long> spotIds
+    ) {}
+}
@@ -12,8 +12,15 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -21,46 +28,252 @@ public class TourGuideAiService {
 
     private static final Logger log = LoggerFactory.getLogger(TourGuideAiService.class);
 
+    private static final String DISABLED_MESSAGE = "AI 가이드가 비활성화되어 있습니다.";
+    private static final String RETRY_MESSAGE = "죄송합니다. 잠시 후 다시 질문해 주세요.";
+    private static final String ERROR_MESSAGE = "죄송합니다. AI 응답 생성 중 오류가 발생했습니다.";
+    private static final String EMPTY_MESSAGE = "답변을 생성할 수 없습니다.";
+    private static final Set<String> FALLBACK_MESSAGES = Set.of(DISABLED_MESSAGE, RETRY_MESSAGE, ERROR_MESSAGE, EMPTY_MESSAGE);
+
     private final AiServerProperties aiServerProperties;
+    private final HttpClient aiServerHttpClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public String generateResponse(String tourContext, List<Map<String, String>> chatHistory) {
-        if (!aiServerProperties.enabled() || aiServerProperties.baseUrl() == null || aiServerProperties.baseUrl().isBlank()) {
-            return "AI 가이드가 비활성화되어 있습니다.";
+    public CompletableFuture<String> generateResponseAsync(String tourContext, List<Map<String, String>> chatHistory) {
+        return generateResponseAsync(tourContext, chatHistory, result -> {});
+    }
+
+    /**
+     * ai-server 비동기 호출. 공유 HttpClient로 요청을 보내고 응답은 HttpClient 스레드에서 처리한다.
+     * 실패/타임아웃 시에도 예외 대신 안내 문구로 완료된다. 실제 호출이 있었다면 완료 직전에 onResult로 결과 요약을 전달한다.
+     */
+    public CompletableFuture<String> generateResponseAsync(String tourContext, List<Map<String, String>> chatHistory,
+                                                           Consumer<AiCallResult> onResult) {
+        if (!aiServerProperties.enabled() || aiServerProperties.baseUrl().isBlank()) {
+            return CompletableFuture.completedFuture(DISABLED_MESSAGE);
         }
 
+        HttpRequest request;
         try {
-            String url = aiServerProperties.baseUrl().replaceAll("/$", "") + "/tour-guide/chat";
-            Map<String, Object> body = Map.of(
-                "tourContext", tourContext != null ? tourContext : "",
-                "history", chatHistory != null ? chatHistory : List.of()
-            );
-            String jsonBody = objectMapper.writeValueAsString(body);
-
-            HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .header("Content-Type", "application/json")
-                .version(HttpClient.Version.HTTP_1_1)
-                .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                .build();
+            request = buildRequest("/tour-guide/chat", tourContext, chatHistory).build();
+        } catch (Exception e) {
+            log.error("AI server request build failed", e);
+            return CompletableFuture.completedFuture(ERROR_MESSAGE);
+        }
+
+        long startNanos = System.nanoTime();
+        return aiServerHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            .thenApply(this::parseResponse)
+            .exceptionally(error -> Reply.failed(fallback(error), errorCode(error)))
+            .thenApply(reply -> reply.report(onResult, startNanos));
+    }
 
-            HttpClient client = HttpClient.newBuilder()
-                .connectTimeout(java.time.Duration.ofSeconds(30))
-                .version(HttpClient.Version.HTTP_1_1)
+    /**
+     * ai-server 스트리밍 호출 (/tour-guide/chat/stream, SSE).
+     * 텍스트 조각이 도착할 때마다 onDelta로 전달하고, 스트림이 끝나면 전체 답변으로 완료된다.
+     * 실패/타임아웃 시에는 안내 문구를 onDelta로 한 번 전달한 뒤 그 문구로 완료된다.
+     */
+    public CompletableFuture<String> streamResponseAsync(String tourContext, List<Map<String, String>> chatHistory,
+                                                         Consumer<String> onDelta) {
+        return streamResponseAsync(tourContext, chatHistory, onDelta, result -> {});
+    }
+
+    /** {@link #streamResponseAsync(String, List, Consumer)} + 호출 결과 요약 전달 (done 이벤트의 model/토큰 사용량 포함) */
+    public CompletableFuture<String> streamResponseAsync(String tourContext, List<Map<String, String>> chatHistory,
+                                                         Consumer<String> onDelta, Consumer<AiCallResult> onResult) {
+        if (!aiServerProperties.enabled() || aiServerProperties.baseUrl().isBlank()) {
+            return completedWithDelta(DISABLED_MESSAGE, onDelta);
+        }
+
+        HttpRequest request;
+        try {
+            request = buildRequest("/tour-guide/chat/stream", tourContext, chatHistory)
+                .header("Accept", "text/event-stream")
                 .build();
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (Exception e) {
+            log.error("AI server request build failed", e);
+            return completedWithDelta(ERROR_MESSAGE, onDelta);
+        }
 
-            if (response.statusCode() != 200) {
-                log.warn("AI server error: {} - {}", response.statusCode(), response.body());
-                return "죄송합니다. 잠시 후 다시 질문해 주세요.";
-            }
+        SseLineSubscriber subscriber = new SseLineSubscriber(onDelta);
+        long startNanos = System.nanoTime();
+        return aiServerHttpClient.sendAsync(request, responseInfo -> responseInfo.statusCode() == 200
+                ? HttpResponse.BodySubscribers.fromLineSubscriber(
+                    subscriber, SseLineSubscriber::text, StandardCharsets.UTF_8, null)
+                : HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8), body -> {
+                    log.warn("AI server stream error: {} - {}", responseInfo.statusCode(), body);
+                    return null;
+                }))
+            .thenApply(response -> {
+                String text = response.body();
+                if (text == null) {
+                    return Reply.failed(subscriber.emitFallback(RETRY_MESSAGE), AiCallResult.httpError(response.statusCode()));
+                }
+                return !text.isBlank()
+                    ? new Reply(text, subscriber.model, subscriber.tokenIn, subscriber.tokenOut, null)
+                    : Reply.failed(subscriber.emitFallback(EMPTY_MESSAGE), AiCallResult.ERROR_EMPTY);
+            })
+            .exceptionally(error -> Reply.failed(subscriber.emitFallback(fallback(error)), errorCode(error)))
+            .thenApply(reply -> reply.report(onResult, startNanos));
+    }
+
+    /** 실패/비활성 시 반환되는 안내 문구인지 여부 (캐시/저장 대상에서 제외할 때 사용) */
+    public static boolean isFallbackMessage(String text) {
+        return text == null || FALLBACK_MESSAGES.contains(text);
+    }
+
+    private HttpRequest.Builder buildRequest(String path, String tourContext, List<Map<String, String>> chatHistory)
+            throws Exception {
+        String url = aiServerProperties.baseUrl().replaceAll("/$", "") + path;
+        Map<String, Object> body = Map.of(
+            "tourContext", tourContext != null ? tourContext : "",
+            "history", chatHistory != null ? chatHistory : List.of()
+        );
+        return HttpRequest.newBuilder()
+            .uri(URI.create(url))
+            .header("Content-Type", "application/json")
+            .timeout(aiServerProperties.requestTimeout())
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+    }
+
+    private static CompletableFuture<String> completedWithDelta(String text, Consumer<String> onDelta) {
+        onDelta.accept(text);
+        return CompletableFuture.completedFuture(text);
+    }
 
+    private Reply parseResponse(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            log.warn("AI server error: {} - {}", response.statusCode(), response.body());
+            return Reply.failed(RETRY_MESSAGE, AiCallResult.httpError(response.statusCode()));
+        }
+        try {
             JsonNode root = objectMapper.readTree(response.body());
             String text = root.path("text").asText("");
-            return !text.isBlank() ? text : "답변을 생성할 수 없습니다.";
+            if (text.isBlank()) {
+                return Reply.failed(EMPTY_MESSAGE, AiCallResult.ERROR_EMPTY);
+            }
+            return new Reply(text, textOrNull(root.path("model")),
+                intOrNull(root.path("promptTokens")), intOrNull(root.path("completionTokens")), null);
         } catch (Exception e) {
-            log.error("AI server call failed", e);
-            return "죄송합니다. AI 응답 생성 중 오류가 발생했습니다.";
+            log.error("AI server response parse failed", e);
+            return Reply.failed(ERROR_MESSAGE, AiCallResult.ERROR_FAILED);
+        }
+    }
+
+    private static String textOrNull(JsonNode node) {
+        return node.isTextual() && !node.asText().isBlank() ? node.asText() : null;
+    }
+
+    private static Integer intOrNull(JsonNode node) {
+        return node.isNumber() ? node.asInt() : null;
+    }
+
+    private static String errorCode(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof HttpTimeoutException ? AiCallResult.ERROR_TIMEOUT : AiCallResult.ERROR_FAILED;
+    }
+
+    private String fallback(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof HttpTimeoutException) {
+            log.warn("AI server call timed out: {}", cause.getMessage());
+            return RETRY_MESSAGE;
+        }
+        log.error("AI server call failed", cause);
+        return ERROR_MESSAGE;
+    }
+
+    /** 사용자에게 돌려줄 답변 + 호출 결과 메타데이터 */
+    private record Reply(String text, String model, Integer tokenIn, Integer tokenOut, String errorCode) {
+
+        static Reply failed(String text, String errorCode) {
+            return new Reply(text, null, null, null, errorCode);
+        }
+
+        String report(Consumer<AiCallResult> onResult, long startNanos) {
+            int latencyMs = (int) ((System.nanoTime() - startNanos) / 1_000_000);
+            try {
+                onResult.accept(new AiCallResult(model, tokenIn, tokenOut, errorCode, latencyMs));
+            } catch (Exception e) {
+                log.warn("AI call result callback failed: {}", e.getMessage());
+            }
+            return text;
+        }
+    }
+
+    /**
+     * ai-server SSE 응답 라인 파서. {@code data: {"delta": ...}} 라인마다 onDelta를 호출하고 전체 텍스트를 누적한다.
+     * {@code event: done} 이후의 data(전체 답변)는 누적 텍스트 대신 최종 결과로 사용한다.
+     */
+    private class SseLineSubscriber implements Flow.Subscriber<String> {
+
+        private final Consumer<String> onDelta;
+        private final StringBuilder text = new StringBuilder();
+        private String event;
+        private String doneText;
+        private String model;
+        private Integer tokenIn;
+        private Integer tokenOut;
+
+        SseLineSubscriber(Consumer<String> onDelta) {
+            this.onDelta = onDelta;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (line.isEmpty()) {
+                event = null;
+            } else if (line.startsWith("event:")) {
+                event = line.substring("event:".length()).trim();
+            } else if (line.startsWith("data:")) {
+                handleData(line.substring("data:".length()).trim());
+            }
+        }
+
+        private void handleData(String data) {
+            try {
+                JsonNode node = objectMapper.readTree(data);
+                if ("done".equals(event)) {
+                    doneText = node.path("text").asText("");
+                    model = textOrNull(node.path("model"));
+                    tokenIn = intOrNull(node.path("promptTokens"));
+                    tokenOut = intOrNull(node.path("completionTokens"));
+                    return;
+                }
+                String delta = node.path("delta").asText("");
+                if (!delta.isEmpty()) {
+                    text.append(delta);
+                    onDelta.accept(delta);
+                }
+            } catch (Exception e) {
+                log.warn("AI server stream line skipped: {}", data);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            // BodySubscriber가 CompletableFuture를 예외로 완료하므로 별도 처리 불필요
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        String text() {
+            return doneText != null ? doneText.strip() : text.toString().strip();
+        }
+
+        /** 아직 아무것도 전달되지 않았다면 안내 문구를 델타로 전달 */
+        String emitFallback(String message) {
+            if (text.isEmpty()) {
+                onDelta.accept(message);
+                return message;
+            }
+            return text.toString().strip();
         }
     }
 }
@@ -6,6 +6,9 @@ import com.app.questofseoul.domain.entity.Tour;
 import com.app.questofseoul.domain.entity.TourKnowledgeEmbedding;
 import com.app.questofseoul.domain.entity.TourSpot;
 import com.app.questofseoul.domain.enums.StepKind;
+import com.app.questofseoul.event.GuideContentChangedEvent;
+import com.app.questofseoul.event.TourContentChangedEvent;
+import com.app.questofseoul.event.TourSpotsChangedEvent;
 import com.app.questofseoul.repository.SpotContentStepRepository;
 import com.app.questofseoul.repository.SpotScriptLineRepository;
 import com.app.questofseoul.repository.TourKnowledgeEmbeddingRepository;
@@ -15,10 +18,22 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
@@ -32,46 +47,125 @@ public class TourKnowledgeSyncService {
     private final SpotScriptLineRepository spotScriptLineRepository;
     private final TourKnowledgeEmbeddingRepository embeddingRepository;
     private final EmbeddingService embeddingService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Value("${OPENAI_API_KEY:}")
-    private String openaiApiKey;
+    private final TaskExecutor taskExecutor;
 
-    @Transactional
-    public int syncAll() {
-        if (openaiApiKey == null || openaiApiKey.isBlank()) {
-            log.warn("OPENAI_API_KEY not set, skipping tour knowledge sync");
-            return 0;
-        }
-        int count = 0;
-        List<Tour> tours = tourRepository.findAll();
-        for (Tour tour : tours) {
-            count += syncTour(tour);
-        }
-        log.info("Tour knowledge sync completed: {} embeddings", count);
-        return count;
+    private final Map<Long, Object> tourLocks = new ConcurrentHashMap<>();
+    private final Set<Long> pendingTours = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.rag.auto-sync:true}")
+    private boolean autoSync;
+
+    /** 임베딩 제공자가 사용 가능해 동기화할 수 있는지 여부 */
+    public boolean isEnabled() {
+        return embeddingService.isAvailable();
     }
 
-    @Transactional
+    /**
+     * 투어 증분 동기화. 현재 문서의 content 해시를 저장된 해시와 비교해 새로 생기거나 바뀐 문서만 임베딩하고,
+     * 더 이상 없는 출처(삭제된 스팟/라인, 삭제된 투어)의 임베딩은 지운다. 같은 투어의 동기화는 직렬화된다.
+     * (1) 짧은 읽기 트랜잭션에서 문서/해시 수집, (2) 트랜잭션 밖에서 변경분만 배치 임베딩, (3) 짧은 쓰기 트랜잭션에서 반영
+     * 순으로 진행해 임베딩 API 호출 동안 DB 커넥션을 점유하지 않는다.
+     *
+     * @return 동기화 후 투어의 임베딩 수
+     */
     public int syncTour(Long tourId) {
-        Tour tour = tourRepository.findById(tourId).orElse(null);
-        if (tour == null) return 0;
-        return syncTour(tour);
+        if (!isEnabled()) return 0;
+        synchronized (tourLocks.computeIfAbsent(tourId, id -> new Object())) {
+            return syncTourIncrementally(tourId);
+        }
+    }
+
+    /**
+     * 관리자 변경 커밋 후 자동 동기화 요청. 백그라운드에서 실행하며, 이미 대기 중인 투어 요청은 하나로 합친다.
+     */
+    public void requestSync(Long tourId) {
+        if (!autoSync || tourId == null || !isEnabled()) return;
+        if (!pendingTours.add(tourId)) return;
+        taskExecutor.execute(() -> {
+            pendingTours.remove(tourId);
+            try {
+                syncTour(tourId);
+            } catch (Exception e) {
+                log.warn("Auto knowledge sync failed for tour {}: {}", tourId, e.getMessage());
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTourSpotsChanged(TourSpotsChangedEvent event) {
+        requestSync(event.tourId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTourContentChanged(TourContentChangedEvent event) {
+        requestSync(event.tourId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGuideContentChanged(GuideContentChangedEvent event) {
+        if (!autoSync || event.spotId() == null) return;
+        tourSpotRepository.findById(event.spotId())
+            .map(spot -> spot.getTour().getId())
+            .ifPresent(this::requestSync);
+    }
+
+    private int syncTourIncrementally(Long tourId) {
+        SyncPlan plan = transactionTemplate.execute(status -> {
+            List<KnowledgeDoc> docs = collectDocs(tourId);
+            return SyncPlan.of(docs != null ? docs : List.of(), embeddingRepository.findSourceHashesByTourId(tourId));
+        });
+
+        // 임베딩 실패 시 예외가 전파되어 기존 임베딩은 그대로 유지된다
+        List<float[]> embeddings = embeddingService.embedBatch(
+            plan.changed().stream().map(KnowledgeDoc::content).toList());
+
+        int embedded = transactionTemplate.execute(status -> {
+            if (!plan.orphanIds().isEmpty()) {
+                embeddingRepository.deleteAllByIdIn(plan.orphanIds());
+            }
+            Map<Long, TourKnowledgeEmbedding> existing = new HashMap<>();
+            for (TourKnowledgeEmbedding row : embeddingRepository.findAllById(plan.existingIds().values())) {
+                existing.put(row.getId(), row);
+            }
+            List<TourKnowledgeEmbedding> created = new ArrayList<>();
+            int count = 0;
+            for (int i = 0; i < plan.changed().size(); i++) {
+                float[] emb = embeddings.get(i);
+                if (emb.length == 0) continue;
+                KnowledgeDoc doc = plan.changed().get(i);
+                TourKnowledgeEmbedding row = existing.get(plan.existingIds().get(doc.key()));
+                if (row != null) {
+                    row.refresh(doc.spotId(), doc.content(), doc.title(), doc.contentHash(), emb);
+                } else {
+                    created.add(TourKnowledgeEmbedding.create(doc.sourceType(), doc.sourceId(), tourId,
+                        doc.spotId(), doc.content(), doc.title(), doc.contentHash(), emb));
+                }
+                count++;
+            }
+            embeddingRepository.saveAll(created);
+            return count;
+        });
+
+        if (embedded > 0 || !plan.orphanIds().isEmpty()) {
+            log.info("Tour {} knowledge sync: {} embedded, {} deleted, {} unchanged",
+                tourId, embedded, plan.orphanIds().size(), plan.unchanged());
+        }
+        return plan.unchanged() + embedded;
     }
 
-    private int syncTour(Tour tour) {
-        if (openaiApiKey == null || openaiApiKey.isBlank()) return 0;
-        embeddingRepository.deleteByTourId(tour.getId());
-        int count = 0;
+    /** 투어의 임베딩 대상 문서 수집 (투어 설명, 스팟 설명, 한국어 가이드 스크립트 라인). 투어가 없으면 null */
+    private List<KnowledgeDoc> collectDocs(Long tourId) {
+        Tour tour = tourRepository.findById(tourId).orElse(null);
+        if (tour == null) return null;
+        String namespace = embeddingService.namespace();
+        List<KnowledgeDoc> docs = new ArrayList<>();
 
         String desc = tour.getDisplayDescription();
         if (desc != null && !desc.isBlank()) {
             String content = "투어: " + tour.getDisplayTitle() + "\n" + desc;
-            float[] emb = embeddingService.embed(content);
-            if (emb.length > 0) {
-                embeddingRepository.save(TourKnowledgeEmbedding.create(
-                    "TOUR", tour.getId(), tour.getId(), null, content, tour.getDisplayTitle(), emb));
-                count++;
-            }
+            docs.add(KnowledgeDoc.of(namespace, "TOUR", tour.getId(), null, content, tour.getDisplayTitle()));
         }
 
         List<TourSpot> spots = tourSpotRepository.findByTourIdOrderByOrderIndexAsc(tour.getId());
@@ -81,12 +175,7 @@ public class TourKnowledgeSyncService {
             String spotContent = "스팟: " + spotTitle;
             if (spotDesc != null && !spotDesc.isBlank()) spotContent += "\n" + spotDesc;
             if (spotContent.length() > 50) {
-                float[] emb = embeddingService.embed(spotContent);
-                if (emb.length > 0) {
-                    embeddingRepository.save(TourKnowledgeEmbedding.create(
-                        "SPOT", spot.getId(), tour.getId(), spot.getId(), spotContent, spotTitle, emb));
-                    count++;
-                }
+                docs.add(KnowledgeDoc.of(namespace, "SPOT", spot.getId(), spot.getId(), spotContent, spotTitle));
             }
 
             List<SpotContentStep> steps = spotContentStepRepository
@@ -98,15 +187,65 @@ public class TourKnowledgeSyncService {
                     String text = line.getText();
                     if (text == null || text.isBlank()) continue;
                     String content = "[" + spotTitle + "] " + text;
-                    float[] emb = embeddingService.embed(content);
-                    if (emb.length > 0) {
-                        embeddingRepository.save(TourKnowledgeEmbedding.create(
-                            "GUIDE_LINE", line.getId(), tour.getId(), spot.getId(), content, spotTitle, emb));
-                        count++;
-                    }
+                    docs.add(KnowledgeDoc.of(namespace, "GUIDE_LINE", line.getId(), spot.getId(), content, spotTitle));
+                }
+            }
+        }
+        return docs;
+    }
+
+    static String sha256(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    record KnowledgeDoc(String sourceType, Long sourceId, Long spotId, String content, String title, String contentHash) {
+
+        /** contentHash는 임베딩 공간까지 포함해, 제공자/차원이 바뀌면 내용이 같아도 다시 임베딩되게 한다 */
+        static KnowledgeDoc of(String namespace, String sourceType, Long sourceId, Long spotId, String content,
+                               String title) {
+            return new KnowledgeDoc(sourceType, sourceId, spotId, content, title, sha256(namespace + "\n" + content));
+        }
+
+        SourceKey key() {
+            return new SourceKey(sourceType, sourceId);
+        }
+    }
+
+    record SourceKey(String sourceType, Long sourceId) {}
+
+    /**
+     * 저장된 (출처, 해시)와 현재 문서의 차이.
+     * changed: 새로 임베딩할 문서, existingIds: changed 중 갱신할 기존 행 id, orphanIds: 삭제할 행 (사라진 출처/중복 행)
+     */
+    record SyncPlan(List<KnowledgeDoc> changed, Map<SourceKey, Long> existingIds, List<Long> orphanIds, int unchanged) {
+
+        static SyncPlan of(List<KnowledgeDoc> docs, List<TourKnowledgeEmbeddingRepository.SourceHash> stored) {
+            Map<SourceKey, TourKnowledgeEmbeddingRepository.SourceHash> storedByKey = new HashMap<>();
+            List<Long> orphanIds = new ArrayList<>();
+            for (TourKnowledgeEmbeddingRepository.SourceHash row : stored) {
+                var previous = storedByKey.put(new SourceKey(row.getSourceType(), row.getSourceId()), row);
+                if (previous != null) orphanIds.add(previous.getId());
+            }
+
+            List<KnowledgeDoc> changed = new ArrayList<>();
+            Map<SourceKey, Long> existingIds = new HashMap<>();
+            int unchanged = 0;
+            for (KnowledgeDoc doc : docs) {
+                var row = storedByKey.remove(doc.key());
+                if (row != null && doc.contentHash().equals(row.getContentHash())) {
+                    unchanged++;
+                    continue;
                 }
+                if (row != null) existingIds.put(doc.key(), row.getId());
+                changed.add(doc);
             }
+            storedByKey.values().forEach(row -> orphanIds.add(row.getId()));
+            return new SyncPlan(changed, existingIds, orphanIds, unchanged);
         }
-        return count;
     }
 }
@@ -0,0 +1,163 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.entity.Tour;
+import com.app.questofseoul.domain.entity.TourAsset;
+import com.app.questofseoul.domain.entity.TourTag;
+import com.app.questofseoul.domain.enums.SpotType;
+import com.app.questofseoul.domain.enums.StepKind;
+import com.app.questofseoul.domain.enums.TourAssetUsage;
+import com.app.questofseoul.dto.tour.TourDetailResponse;
+import com.app.questofseoul.event.GuideContentChangedEvent;
+import com.app.questofseoul.event.TourContentChangedEvent;
+import com.app.questofseoul.event.TourSpotsChangedEvent;
+import com.app.questofseoul.repository.SpotContentStepRepository;
+import com.app.questofseoul.repository.TourAssetRepository;
+import com.app.questofseoul.repository.TourRepository;
+import com.app.questofseoul.repository.TourSpotRepository;
+import com.app.questofseoul.repository.TourTagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 투어 목록(홈 화면)의 사용자 무관 부분 캐시.
+ * 스팟/미션 수는 집계 쿼리 한 번씩, 태그/썸네일은 전체 투어를 한 번에 로드해 조립한다.
+ * 관리자 변경 이벤트가 커밋되면 목록 전체를 폐기하고 다음 조회 시 재조립한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TourListCache {
+
+    private static final List<TourAssetUsage> THUMBNAIL_USAGES = List.of(TourAssetUsage.THUMBNAIL, TourAssetUsage.HERO_IMAGE);
+
+    private final TourRepository tourRepository;
+    private final TourSpotRepository tourSpotRepository;
+    private final TourTagRepository tourTagRepository;
+    private final SpotContentStepRepository spotContentStepRepository;
+    private final TourAssetRepository tourAssetRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public List<Entry> get() {
+        long current = generation.get();
+        Snapshot cached = snapshot.get();
+        // 조립 도중 폐기(evict)가 일어났다면 세대가 달라져 오래된 목록은 사용되지 않는다.
+        if (cached != null && cached.generation() == current) {
+            return cached.entries();
+        }
+        List<Entry> built = build();
+        snapshot.set(new Snapshot(current, built));
+        return built;
+    }
+
+    /** 조립 없이 바로 반환 가능한지 여부 (메트릭 태그용) */
+    public boolean isCached() {
+        Snapshot cached = snapshot.get();
+        return cached != null && cached.generation() == generation.get();
+    }
+
+    public void evict() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTourSpotsChanged(TourSpotsChangedEvent event) {
+        evict();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTourContentChanged(TourContentChangedEvent event) {
+        evict();
+    }
+
+    /** 미션 스텝 수(counts.missions) 반영 */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGuideContentChanged(GuideContentChangedEvent event) {
+        evict();
+    }
+
+    List<Entry> build() {
+        Map<Long, Map<SpotType, Long>> spotCounts = new HashMap<>();
+        for (TourSpotRepository.TourTypeCount c : tourSpotRepository.countActiveGroupByTourAndType()) {
+            spotCounts.computeIfAbsent(c.getTourId(), k -> new EnumMap<>(SpotType.class)).put(c.getType(), c.getCount());
+        }
+        Map<Long, Long> missionCounts = new HashMap<>();
+        for (SpotContentStepRepository.TourStepCount c : spotContentStepRepository.countGroupByTourId(StepKind.MISSION)) {
+            missionCounts.put(c.getTourId(), c.getCount());
+        }
+
+        Map<Long, List<TourDetailResponse.TagDto>> tagsByTourId = new HashMap<>();
+        for (TourTag tt : tourTagRepository.findAllWithTag()) {
+            tagsByTourId.computeIfAbsent(tt.getTour().getId(), k -> new ArrayList<>())
+                    .add(TourDetailResponse.TagDto.builder()
+                            .id(tt.getTag().getId())
+                            .name(tt.getTag().getName())
+                            .slug(tt.getTag().getSlug())
+                            .build());
+        }
+
+        // thumbnailUrl (tour_assets 정렬 순서상 첫 THUMBNAIL/HERO_IMAGE)
+        Map<Long, String> thumbnailByTourId = new HashMap<>();
+        for (TourAsset ta : tourAssetRepository.findWithAssetByUsageIn(THUMBNAIL_USAGES)) {
+            String url = ta.getAsset() != null ? ta.getAsset().getUrl() : null;
+            if (url != null && !url.isBlank()) {
+                thumbnailByTourId.putIfAbsent(ta.getTour().getId(), url);
+            }
+        }
+
+        List<Entry> result = new ArrayList<>();
+        for (Tour tour : tourRepository.findAll()) {
+            Long tourId = tour.getId();
+            Map<SpotType, Long> typeCounts = spotCounts.getOrDefault(tourId, Map.of());
+            TourDetailResponse.CountsDto counts = TourDetailResponse.CountsDto.builder()
+                    .main(typeCounts.getOrDefault(SpotType.MAIN, 0L).intValue())
+                    .sub(typeCounts.getOrDefault(SpotType.SUB, 0L).intValue())
+                    .photo(typeCounts.getOrDefault(SpotType.PHOTO, 0L).intValue())
+                    .treasure(typeCounts.getOrDefault(SpotType.TREASURE, 0L).intValue())
+                    .missions(missionCounts.getOrDefault(tourId, 0L).intValue())
+                    .build();
+
+            Integer estimatedDurationMin = null;
+            if (tour.getInfoJson() != null && tour.getInfoJson().get("estimated_duration_min") != null) {
+                estimatedDurationMin = ((Number) tour.getInfoJson().get("estimated_duration_min")).intValue();
+            }
+
+            result.add(new Entry(
+                    tourId,
+                    tour.getExternalKey(),
+                    tour.getDisplayTitle(),
+                    thumbnailByTourId.get(tourId),
+                    tour.getDisplayDescription(),
+                    counts,
+                    estimatedDurationMin,
+                    List.copyOf(tagsByTourId.getOrDefault(tourId, List.of()))
+            ));
+        }
+        return List.copyOf(result);
+    }
+
+    private record Snapshot(long generation, List<Entry> entries) {}
+
+    /** 목록 항목 하나의 사용자 무관 부분. 요청 간 공유되므로 내부 DTO를 수정하지 않는다. */
+    public record Entry(
+            Long tourId,
+            String externalKey,
+            String title,
+            String thumbnailUrl,
+            String description,
+            TourDetailResponse.CountsDto counts,
+            Integer estimatedDurationMin,
+            List<TourDetailResponse.TagDto> tags
+    ) {}
+}
@@ -0,0 +1,103 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.entity.ChatSession;
+import com.app.questofseoul.domain.entity.TourRun;
+import com.app.questofseoul.domain.entity.UserSpotProgress;
+import com.app.questofseoul.domain.entity.UserTreasureStatus;
+import com.app.questofseoul.domain.enums.ProgressStatus;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 한 번의 근접 감지 요청 동안 사용하는 run 상태 스냅샷.
+ * run/소유자/chat session은 fetch join 한 번, 스팟 진행 상태는 run 단위 조회 한 번으로 채우고,
+ * 보물 상태는 보물 스팟에 진입했을 때만 run 단위로 한 번 로드한다.
+ * 요청 중 새로 생성한 엔티티는 put* 로 다시 등록해 이후 판단에 반영한다.
+ */
+public class TourRunSnapshot {
+
+    private final TourRun run;
+    private final Map<Long, UserSpotProgress> progressBySpotId = new HashMap<>();
+    private final Map<Long, ChatSession> sessionBySpotId = new HashMap<>();
+    private final Supplier<List<UserTreasureStatus>> treasureStatusLoader;
+    private Map<Long, UserTreasureStatus> treasureStatusBySpotId;
+
+    TourRunSnapshot(TourRun run,
+                    List<UserSpotProgress> progresses,
+                    Supplier<List<UserTreasureStatus>> treasureStatusLoader) {
+        this.run = run;
+        this.treasureStatusLoader = treasureStatusLoader;
+        for (UserSpotProgress progress : progresses) {
+            if (progress.getSpot() != null && progress.getSpot().getId() != null) {
+                progressBySpotId.put(progress.getSpot().getId(), progress);
+            }
+        }
+        for (ChatSession session : run.getChatSessions()) {
+            if (session.getSpot() != null && session.getSpot().getId() != null) {
+                sessionBySpotId.put(session.getSpot().getId(), session);
+            }
+        }
+    }
+
+    public TourRun run() {
+        return run;
+    }
+
+    public Long runId() {
+        return run.getId();
+    }
+
+    public UUID userId() {
+        return run.getUser().getId();
+    }
+
+    public Long tourId() {
+        return run.getTour().getId();
+    }
+
+    public Map<Long, ProgressStatus> progressStatusBySpotId() {
+        Map<Long, ProgressStatus> result = new HashMap<>();
+        progressBySpotId.forEach((spotId, progress) -> result.put(spotId, progress.getProgressStatus()));
+        return result;
+    }
+
+    public UserSpotProgress progress(Long spotId) {
+        return progressBySpotId.get(spotId);
+    }
+
+    public void putProgress(Long spotId, UserSpotProgress progress) {
+        progressBySpotId.put(spotId, progress);
+    }
+
+    public ChatSession session(Long spotId) {
+        return sessionBySpotId.get(spotId);
+    }
+
+    public void putSession(Long spotId, ChatSession session) {
+        sessionBySpotId.put(spotId, session);
+    }
+
+    public UserTreasureStatus treasureStatus(Long spotId) {
+        return treasureStatuses().get(spotId);
+    }
+
+    public void putTreasureStatus(Long spotId, UserTreasureStatus status) {
+        treasureStatuses().put(spotId, status);
+    }
+
+    private Map<Long, UserTreasureStatus> treasureStatuses() {
+        if (treasureStatusBySpotId == null) {
+            treasureStatusBySpotId = new HashMap<>();
+            for (UserTreasureStatus status : treasureStatusLoader.get()) {
+                if (status.getTreasureSpot() != null && status.getTreasureSpot().getId() != null) {
+                    treasureStatusBySpotId.put(status.getTreasureSpot().getId(), status);
+                }
+            }
+        }
+        return treasureStatusBySpotId;
+    }
+}
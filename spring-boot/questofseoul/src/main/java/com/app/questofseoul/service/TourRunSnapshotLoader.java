@@ -0,0 +1,31 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.entity.TourRun;
+import com.app.questofseoul.exception.ResourceNotFoundException;
+import com.app.questofseoul.repository.TourRunRepository;
+import com.app.questofseoul.repository.UserSpotProgressRepository;
+import com.app.questofseoul.repository.UserTreasureStatusRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link TourRunSnapshot} 로더. 호출하는 서비스의 트랜잭션 안에서 사용해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TourRunSnapshotLoader {
+
+    private final TourRunRepository tourRunRepository;
+    private final UserSpotProgressRepository userSpotProgressRepository;
+    private final UserTreasureStatusRepository userTreasureStatusRepository;
+
+    public TourRunSnapshot load(Long runId) {
+        TourRun run = tourRunRepository.findWithChatSessionsById(runId)
+                .orElseThrow(() -> new ResourceNotFoundException("Tour run not found"));
+        return new TourRunSnapshot(
+                run,
+                userSpotProgressRepository.findByTourRunId(runId),
+                () -> userTreasureStatusRepository.findByTourRunId(runId)
+        );
+    }
+}
@@ -0,0 +1,160 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.entity.TourSpot;
+import com.app.questofseoul.domain.enums.SpotType;
+import com.app.questofseoul.event.TourSpotsChangedEvent;
+import com.app.questofseoul.repository.TourSpotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 투어별 스팟 공간 인덱스.
+ * 좌표가 있는 활성 스팟을 고정 크기 격자에 "반경 bounding box"가 걸치는 모든 셀로 등록해 두고,
+ * 근접 감지 시에는 현재 좌표가 속한 셀 하나만 조회한 뒤 haversine 거리로 최종 판정한다.
+ * 관리자 스팟 변경이 커밋되면 {@link TourSpotsChangedEvent}로 해당 투어 인덱스를 폐기하고 다음 조회 시 재생성한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TourSpotSpatialIndex {
+
+    static final int DEFAULT_RADIUS_M = 50;
+    private static final double EARTH_RADIUS_M = 6_371_000;
+    private static final double METERS_PER_DEGREE_LAT = 111_320;
+    // 약 220m(위도 기준) 격자. 기본 반경(50m) 스팟은 대부분 1~4개 셀에만 등록된다.
+    private static final double CELL_SIZE_DEG = 0.002;
+
+    private final TourSpotRepository tourSpotRepository;
+
+    private final Map<Long, TourSpotGrid> grids = new ConcurrentHashMap<>();
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+    /** 투어 인덱스 조회 (없으면 활성 스팟을 로드해 생성) */
+    public TourSpotGrid get(Long tourId) {
+        TourSpotGrid grid = grids.get(tourId);
+        if (grid != null) {
+            return grid;
+        }
+        long generation = generations.getOrDefault(tourId, 0L);
+        TourSpotGrid built = build(tourSpotRepository.findByTourIdOrderByOrderIndexAsc(tourId));
+        // 로드 도중 폐기(evict)가 일어났다면 오래된 스냅샷을 캐시에 올리지 않는다.
+        TourSpotGrid cached = grids.compute(tourId, (id, existing) -> {
+            if (existing != null) return existing;
+            return generations.getOrDefault(id, 0L) == generation ? built : null;
+        });
+        return cached != null ? cached : built;
+    }
+
+    public void evict(Long tourId) {
+        if (tourId == null) return;
+        generations.merge(tourId, 1L, Long::sum);
+        grids.remove(tourId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTourSpotsChanged(TourSpotsChangedEvent event) {
+        evict(event.tourId());
+    }
+
+    static TourSpotGrid build(List<TourSpot> orderedSpots) {
+        List<Long> routeSpotIds = new ArrayList<>();
+        Map<Long, List<SpotEntry>> cells = new HashMap<>();
+        int position = 0;
+        for (TourSpot spot : orderedSpots) {
+            int currentPosition = position++;
+            if (spot.getType() == SpotType.MAIN || spot.getType() == SpotType.SUB) {
+                routeSpotIds.add(spot.getId());
+            }
+            if (spot.getLatitude() == null || spot.getLongitude() == null) continue;
+
+            SpotEntry entry = new SpotEntry(
+                    spot.getId(),
+                    spot.getType(),
+                    spot.getTitle(),
+                    spot.getOrderIndex(),
+                    currentPosition,
+                    spot.getLatitude(),
+                    spot.getLongitude(),
+                    spot.getRadiusM() != null ? spot.getRadiusM() : DEFAULT_RADIUS_M
+            );
+
+            double latDelta = entry.radiusM() / METERS_PER_DEGREE_LAT;
+            double lngDelta = entry.radiusM() / (METERS_PER_DEGREE_LAT * Math.max(Math.cos(Math.toRadians(entry.lat())), 0.01));
+            long minLatCell = cellOf(entry.lat() - latDelta);
+            long maxLatCell = cellOf(entry.lat() + latDelta);
+            long minLngCell = cellOf(entry.lng() - lngDelta);
+            long maxLngCell = cellOf(entry.lng() + lngDelta);
+            for (long latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                for (long lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                    cells.computeIfAbsent(cellKey(latCell, lngCell), k -> new ArrayList<>()).add(entry);
+                }
+            }
+        }
+        Map<Long, List<SpotEntry>> frozen = new HashMap<>();
+        cells.forEach((key, entries) -> frozen.put(key, List.copyOf(entries)));
+        return new TourSpotGrid(List.copyOf(routeSpotIds), Map.copyOf(frozen));
+    }
+
+    static double haversineM(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+                Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+                Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return EARTH_RADIUS_M * c;
+    }
+
+    private static long cellOf(double degree) {
+        return (long) Math.floor(degree / CELL_SIZE_DEG);
+    }
+
+    private static long cellKey(long latCell, long lngCell) {
+        return (latCell << 32) ^ (lngCell & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 투어 하나의 불변 인덱스 스냅샷.
+     * routeSpotIds: 좌표 유무와 무관한 MAIN/SUB 스팟 라우트 순서(orderIndex, id)
+     */
+    public record TourSpotGrid(List<Long> routeSpotIds, Map<Long, List<SpotEntry>> cells) {
+
+        /** 반경 안에 (lat, lng)를 포함하는 모든 스팟을 라우트 순서로 반환 */
+        public List<SpotHit> findContaining(double lat, double lng) {
+            List<SpotEntry> candidates = cells.get(cellKey(cellOf(lat), cellOf(lng)));
+            if (candidates == null || candidates.isEmpty()) {
+                return List.of();
+            }
+            List<SpotHit> hits = new ArrayList<>();
+            for (SpotEntry entry : candidates) {
+                double distanceM = haversineM(lat, lng, entry.lat(), entry.lng());
+                if (distanceM <= entry.radiusM()) {
+                    hits.add(new SpotHit(entry, distanceM));
+                }
+            }
+            hits.sort(Comparator.comparingInt(h -> h.spot().position()));
+            return hits;
+        }
+    }
+
+    public record SpotEntry(
+            Long spotId,
+            SpotType type,
+            String title,
+            Integer orderIndex,
+            int position,
+            double lat,
+            double lng,
+            int radiusM
+    ) {}
+
+    public record SpotHit(SpotEntry spot, double distanceM) {}
+}
@@ -1,41 +1,113 @@
 package com.app.questofseoul.service;
 
-import lombok.RequiredArgsConstructor;
+import com.app.questofseoul.config.VectorIndexMode;
+import com.app.questofseoul.dto.admin.RagSearchResult;
+import com.pgvector.PGvector;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Pgvector 유사도 검색. ai-server의 VectorRetriever가 동일한 테이블을 직접 조회하므로
  * Spring Boot에서는 관리용 또는 테스트용으로 사용.
+ * 질의 벡터는 문자열로 만들지 않고 PGvector 타입 파라미터로 바인딩하며,
+ * tour/spot/sourceType 필터와 hnsw.ef_search를 같은 트랜잭션 안에서 적용한다.
+ * 양자화 인덱스 모드({@link VectorIndexMode})에서는 인덱스로 후보를 뽑고 원본 vector로 재정렬한다.
  */
 @Service
-@RequiredArgsConstructor
 public class VectorSearchService {
 
+    private static final String COLUMNS = "id, source_type, source_id, tour_id, spot_id, title, content";
+
     private final JdbcTemplate jdbcTemplate;
     private final EmbeddingService embeddingService;
+    private final TransactionTemplate transactionTemplate;
+    private final int efSearch;
+    private final VectorIndexMode indexMode;
+    private final int rerankFactor;
+
+    public VectorSearchService(JdbcTemplate jdbcTemplate,
+                               EmbeddingService embeddingService,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${app.rag.ef-search:40}") int efSearch,
+                               @Value("${app.rag.vector-index:full}") String vectorIndex,
+                               @Value("${app.rag.rerank-factor:4}") int rerankFactor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.embeddingService = embeddingService;
+        this.transactionTemplate = transactionTemplate;
+        this.efSearch = efSearch;
+        this.indexMode = VectorIndexMode.from(vectorIndex);
+        this.rerankFactor = Math.max(1, rerankFactor);
+    }
+
+    public List<RagSearchResult> search(String query, int limit) {
+        return search(query, null, null, null, limit);
+    }
 
-    public List<String> search(String query, int limit) {
+    /** 필터(null이면 미적용)를 건 유사도 검색. tourId 필터는 idx_tke_tour, spot/sourceType은 같은 투어 범위 안에서 거른다. */
+    public List<RagSearchResult> search(String query, Long tourId, Long spotId, String sourceType, int limit) {
         float[] embedding = embeddingService.embed(query);
         if (embedding == null || embedding.length == 0) {
             return List.of();
         }
-        String vectorStr = "[" + java.util.stream.IntStream.range(0, embedding.length)
-            .mapToObj(i -> String.valueOf(embedding[i]))
-            .collect(Collectors.joining(",")) + "]";
-        String sql = "SELECT content FROM tour_knowledge_embeddings " +
-            "WHERE embedding IS NOT NULL ORDER BY embedding <=> ?::vector LIMIT ?";
-        List<Map<String, Object>> rows = jdbcTemplate.queryForList(sql, vectorStr, limit);
-        List<String> result = new ArrayList<>();
-        for (Map<String, Object> row : rows) {
-            Object c = row.get("content");
-            if (c != null) result.add(c.toString());
+        PGvector queryVector = new PGvector(embedding);
+        StringBuilder filters = new StringBuilder("embedding IS NOT NULL");
+        List<Object> filterArgs = new ArrayList<>();
+        if (tourId != null) {
+            filters.append(" AND tour_id = ?");
+            filterArgs.add(tourId);
         }
-        return result;
+        if (spotId != null) {
+            filters.append(" AND spot_id = ?");
+            filterArgs.add(spotId);
+        }
+        if (sourceType != null && !sourceType.isBlank()) {
+            filters.append(" AND source_type = ?");
+            filterArgs.add(sourceType);
+        }
+
+        String sql;
+        List<Object> args = new ArrayList<>();
+        int candidates;
+        if (indexMode == VectorIndexMode.FULL) {
+            sql = "SELECT " + COLUMNS + ", embedding <=> ? AS distance FROM tour_knowledge_embeddings"
+                + " WHERE " + filters + " ORDER BY distance LIMIT ?";
+            args.add(queryVector);
+            args.addAll(filterArgs);
+            args.add(limit);
+            candidates = limit;
+        } else {
+            // 양자화 인덱스로 limit * rerankFactor개 후보를 뽑고 원본 vector 코사인 거리로 재정렬
+            candidates = limit * rerankFactor;
+            sql = "SELECT " + COLUMNS + ", embedding <=> ? AS distance FROM ("
+                + " SELECT " + COLUMNS + ", embedding FROM tour_knowledge_embeddings"
+                + " WHERE " + filters + " ORDER BY " + indexMode.candidateOrderBy() + " LIMIT ?"
+                + ") candidates ORDER BY distance LIMIT ?";
+            args.add(queryVector);
+            args.addAll(filterArgs);
+            args.add(queryVector);
+            args.add(candidates);
+            args.add(limit);
+        }
+
+        // SET LOCAL은 트랜잭션 범위에서만 유효하므로 검색과 같은 트랜잭션에서 실행한다 (필터로 걸러질 몫까지 후보를 넉넉히)
+        int ef = Math.max(efSearch, candidates);
+        return transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL hnsw.ef_search = " + ef);
+            return jdbcTemplate.query(sql, (rs, rowNum) -> new RagSearchResult(
+                rs.getLong("id"),
+                rs.getString("source_type"),
+                rs.getObject("source_id", Long.class),
+                rs.getObject("tour_id", Long.class),
+                rs.getObject("spot_id", Long.class),
+                rs.getString("title"),
+                rs.getString("content"),
+                rs.getDouble("distance")
+            ), args.toArray());
+        });
     }
 }
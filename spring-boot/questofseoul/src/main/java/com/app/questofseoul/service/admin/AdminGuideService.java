@@ -11,6 +11,7 @@ import com.app.questofseoul.domain.enums.LineAssetUsage;
 import com.app.questofseoul.domain.enums.StepKind;
 import com.app.questofseoul.domain.enums.StepNextAction;
 import com.app.questofseoul.dto.admin.*;
+import com.app.questofseoul.event.GuideContentChangedEvent;
 import com.app.questofseoul.exception.ResourceNotFoundException;
 import com.app.questofseoul.repository.ChatTurnRepository;
 import com.app.questofseoul.repository.ChatTurnAssetRepository;
@@ -20,14 +21,18 @@ import com.app.questofseoul.repository.SpotAssetRepository;
 import com.app.questofseoul.repository.SpotContentStepRepository;
 import com.app.questofseoul.repository.SpotScriptLineRepository;
 import com.app.questofseoul.repository.TourSpotRepository;
+import com.app.questofseoul.service.GuideScript;
+import com.app.questofseoul.service.GuideScriptCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityManager;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
@@ -49,6 +54,8 @@ public class AdminGuideService {
     private final SpotAssetRepository spotAssetRepository;
     private final ChatTurnAssetRepository chatTurnAssetRepository;
     private final ChatTurnRepository chatTurnRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final GuideScriptCache guideScriptCache;
 
     @Transactional(readOnly = true)
     public GuideStepsAdminResponse getGuideSteps(Long tourId, Long spotId) {
@@ -60,51 +67,7 @@ public class AdminGuideService {
         TourSpot spot = tourSpotRepository.findByIdAndTourId(spotId, tourId)
                 .orElseThrow(() -> new ResourceNotFoundException("Spot not found"));
         String lang = normalizeLanguage(language);
-
-        List<SpotContentStep> guideSteps = spotContentStepRepository
-                .findBySpot_IdAndKindAndLanguageOrderByStepIndexAsc(spotId, StepKind.GUIDE, lang);
-        List<SpotContentStep> missionSteps = spotContentStepRepository
-                .findBySpot_IdAndKindAndLanguageOrderByStepIndexAsc(spotId, StepKind.MISSION, lang);
-        if (missionSteps.isEmpty() && !"ko".equals(lang)) {
-            missionSteps = spotContentStepRepository
-                    .findBySpot_IdAndKindAndLanguageOrderByStepIndexAsc(spotId, StepKind.MISSION, "ko");
-        }
-        Map<Long, Long> missionIdToStepId = missionSteps.stream()
-                .filter(s -> s.getMission() != null && s.getMission().getId() != null)
-                .collect(Collectors.toMap(
-                        s -> s.getMission().getId(),
-                        SpotContentStep::getId,
-                        (first, ignored) -> first
-                ));
-
-        List<GuideStepAdminResponse> stepResponses = new ArrayList<>();
-        for (SpotContentStep step : guideSteps) {
-            String nextAction = step.getNextAction() != null ? step.getNextAction().name() : null;
-            Long missionStepId = step.getMission() != null ? missionIdToStepId.get(step.getMission().getId()) : null;
-            List<SpotScriptLine> lines = spotScriptLineRepository.findByStep_IdOrderBySeqAsc(step.getId());
-            List<GuideLineResponse> lineResponses = new ArrayList<>();
-            int seq = 1;
-            for (SpotScriptLine line : lines) {
-                List<ScriptLineAsset> assets = scriptLineAssetRepository.findByScriptLine_IdOrderBySortOrderAsc(line.getId());
-                List<GuideAssetResponse> assetResponses = assets.stream()
-                        .map(a -> new GuideAssetResponse(
-                                a.getAsset().getId(),
-                                a.getAsset().getUrl(),
-                                a.getAsset().getAssetType().name(),
-                                a.getUsage().name()))
-                        .toList();
-                lineResponses.add(new GuideLineResponse(line.getId(), seq++, line.getText(), assetResponses));
-            }
-            stepResponses.add(new GuideStepAdminResponse(
-                    step.getId(),
-                    step.getStepIndex(),
-                    step.getTitle(),
-                    nextAction,
-                    missionStepId,
-                    lineResponses));
-        }
-
-        return new GuideStepsAdminResponse(lang, stepResponses);
+        return toAdminResponse(guideScriptCache.get(spot.getId(), lang));
     }
 
     @Transactional
@@ -157,7 +120,36 @@ public class AdminGuideService {
 
         entityManager.flush();
         deleteOrphanedMediaAssets(assetIdsToCheck);
-        return getGuideSteps(tourId, spotId, lang);
+        eventPublisher.publishEvent(new GuideContentChangedEvent(spotId));
+        // 캐시 폐기는 커밋 이후이므로 저장 직후 응답은 캐시를 거치지 않고 컴파일한다
+        return toAdminResponse(guideScriptCache.load(spotId, lang));
+    }
+
+    private GuideStepsAdminResponse toAdminResponse(GuideScript script) {
+        List<GuideStepAdminResponse> stepResponses = new ArrayList<>();
+        for (GuideScript.Step step : script.steps()) {
+            String nextAction = step.nextAction() != null ? step.nextAction().name() : null;
+            List<GuideLineResponse> lineResponses = new ArrayList<>();
+            int seq = 1;
+            for (GuideScript.Line line : step.lines()) {
+                List<GuideAssetResponse> assetResponses = line.assets().stream()
+                        .map(a -> new GuideAssetResponse(
+                                a.assetId(),
+                                a.url(),
+                                a.assetType().name(),
+                                a.usage().name()))
+                        .toList();
+                lineResponses.add(new GuideLineResponse(line.scriptLineId(), seq++, line.text(), assetResponses));
+            }
+            stepResponses.add(new GuideStepAdminResponse(
+                    step.stepId(),
+                    step.stepIndex(),
+                    step.title(),
+                    nextAction,
+                    script.missionStepIdFor(step.missionId()),
+                    lineResponses));
+        }
+        return new GuideStepsAdminResponse(script.language(), stepResponses);
     }
 
     private void applyGuideStepFields(
@@ -182,16 +174,40 @@ public class AdminGuideService {
         }
     }
 
+    /**
+     * 요청 라인에 id(기존 spot_script_lines.id)가 있으면 그 라인을 고쳐 id를 유지한다 (채팅 세션 커서/히스토리가 라인 id 기준).
+     * id 없는 라인은 새로 만들고 요청에 없는 기존 라인은 지운다. id를 하나도 보내지 않으면 예전처럼 순서대로 맞춘다.
+     */
     private void syncGuideLines(SpotContentStep step, List<GuideLineRequest> requestedLines, List<SpotScriptLine> existingLines) {
         List<SpotScriptLine> currentLines = existingLines != null ? existingLines : List.of();
 
+        List<SpotScriptLine> targetLines = new ArrayList<>();
+        if (requestedLines.stream().anyMatch(l -> l.id() != null)) {
+            Map<Long, SpotScriptLine> remaining = new HashMap<>();
+            currentLines.forEach(l -> remaining.put(l.getId(), l));
+            for (GuideLineRequest lineReq : requestedLines) {
+                targetLines.add(lineReq.id() != null ? remaining.remove(lineReq.id()) : null);
+            }
+            deleteGuideLines(new ArrayList<>(remaining.values()));
+            // (step_id, seq) 유니크 제약: 남길 라인을 음수 seq로 비켜 둔 뒤 아래에서 최종 seq를 매긴다
+            for (int i = 0; i < targetLines.size(); i++) {
+                if (targetLines.get(i) != null) {
+                    targetLines.get(i).update(-(i + 1), targetLines.get(i).getText());
+                }
+            }
+            entityManager.flush();
+        } else {
+            for (int i = 0; i < requestedLines.size(); i++) {
+                targetLines.add(i < currentLines.size() ? currentLines.get(i) : null);
+            }
+        }
+
         for (int i = 0; i < requestedLines.size(); i++) {
             GuideLineRequest lineReq = requestedLines.get(i);
             int seq = i + 1;
 
-            SpotScriptLine line;
-            if (i < currentLines.size()) {
-                line = currentLines.get(i);
+            SpotScriptLine line = targetLines.get(i);
+            if (line != null) {
                 line.update(seq, lineReq.text());
             } else {
                 line = SpotScriptLine.create(step, seq, lineReq.text());
@@ -201,7 +217,7 @@ public class AdminGuideService {
             replaceLineAssets(line, lineReq.assets());
         }
 
-        if (currentLines.size() > requestedLines.size()) {
+        if (requestedLines.stream().noneMatch(l -> l.id() != null) && currentLines.size() > requestedLines.size()) {
             deleteGuideLines(currentLines.subList(requestedLines.size(), currentLines.size()));
         }
     }
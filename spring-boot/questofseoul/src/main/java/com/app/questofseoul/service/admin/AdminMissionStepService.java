@@ -9,11 +9,13 @@ import com.app.questofseoul.domain.enums.StepNextAction;
 import com.app.questofseoul.dto.admin.MissionStepCreateRequest;
 import com.app.questofseoul.dto.admin.MissionStepResponse;
 import com.app.questofseoul.dto.admin.MissionStepUpdateRequest;
+import com.app.questofseoul.event.GuideContentChangedEvent;
 import com.app.questofseoul.exception.ResourceNotFoundException;
 import com.app.questofseoul.repository.MissionRepository;
 import com.app.questofseoul.repository.SpotContentStepRepository;
 import com.app.questofseoul.repository.TourSpotRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +29,7 @@ public class AdminMissionStepService {
     private final TourSpotRepository tourSpotRepository;
     private final SpotContentStepRepository spotContentStepRepository;
     private final MissionRepository missionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<MissionStepResponse> list(Long tourId, Long spotId) {
@@ -77,6 +80,7 @@ public class AdminMissionStepService {
         step.setMission(mission);
         step.setTitle(req.title() != null && !req.title().isBlank() ? req.title() : "Mission");
         step = spotContentStepRepository.save(step);
+        eventPublisher.publishEvent(new GuideContentChangedEvent(spot.getId()));
 
         return new MissionStepResponse(
                 step.getId(),
@@ -115,6 +119,7 @@ public class AdminMissionStepService {
 
         missionRepository.save(mission);
         spotContentStepRepository.save(step);
+        eventPublisher.publishEvent(new GuideContentChangedEvent(spotId));
 
         return new MissionStepResponse(
                 step.getId(),
@@ -157,5 +162,6 @@ public class AdminMissionStepService {
             });
             spotContentStepRepository.saveAll(linkedGuideSteps);
         }
+        eventPublisher.publishEvent(new GuideContentChangedEvent(spotId));
     }
 }
@@ -6,7 +6,6 @@ import com.app.questofseoul.dto.admin.PhotoSubmissionVerifyRequest;
 import com.app.questofseoul.exception.ResourceNotFoundException;
 import com.app.questofseoul.repository.UserPhotoSubmissionRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,9 +21,9 @@ public class AdminPhotoSubmissionService {
     @Transactional(readOnly = true)
     public List<UserPhotoSubmission> getSubmissions(PhotoSubmissionStatus status) {
         if (status == null) {
-            return userPhotoSubmissionRepository.findAll(Sort.by(Sort.Direction.ASC, "submittedAt"));
+            return userPhotoSubmissionRepository.findAllWithDetails();
         }
-        return userPhotoSubmissionRepository.findByStatusOrderBySubmittedAtAsc(status);
+        return userPhotoSubmissionRepository.findWithDetailsByStatus(status);
     }
 
     @Transactional
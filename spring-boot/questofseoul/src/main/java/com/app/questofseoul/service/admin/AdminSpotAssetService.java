@@ -7,11 +7,13 @@ import com.app.questofseoul.domain.enums.AssetType;
 import com.app.questofseoul.domain.enums.SpotAssetUsage;
 import com.app.questofseoul.dto.admin.SpotAssetRequest;
 import com.app.questofseoul.dto.admin.SpotAssetResponse;
+import com.app.questofseoul.event.TourContentChangedEvent;
 import com.app.questofseoul.exception.ResourceNotFoundException;
 import com.app.questofseoul.repository.MediaAssetRepository;
 import com.app.questofseoul.repository.SpotAssetRepository;
 import com.app.questofseoul.repository.TourSpotRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class AdminSpotAssetService {
     private final TourSpotRepository tourSpotRepository;
     private final SpotAssetRepository spotAssetRepository;
     private final MediaAssetRepository mediaAssetRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<SpotAssetResponse> list(Long tourId, Long spotId) {
@@ -58,6 +61,7 @@ public class AdminSpotAssetService {
             spotAsset.setCaption(request.caption());
         }
         spotAsset = spotAssetRepository.save(spotAsset);
+        eventPublisher.publishEvent(new TourContentChangedEvent(tourId));
 
         return new SpotAssetResponse(
                 spotAsset.getId(),
@@ -76,6 +80,7 @@ public class AdminSpotAssetService {
             throw new ResourceNotFoundException("Spot asset not found");
         }
         spotAssetRepository.delete(sa);
+        eventPublisher.publishEvent(new TourContentChangedEvent(tourId));
     }
 
     private static String inferMimeType(String url) {
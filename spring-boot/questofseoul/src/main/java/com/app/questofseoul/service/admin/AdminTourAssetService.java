@@ -7,11 +7,13 @@ import com.app.questofseoul.domain.enums.AssetType;
 import com.app.questofseoul.domain.enums.TourAssetUsage;
 import com.app.questofseoul.dto.admin.TourAssetRequest;
 import com.app.questofseoul.dto.admin.TourAssetResponse;
+import com.app.questofseoul.event.TourContentChangedEvent;
 import com.app.questofseoul.exception.ResourceNotFoundException;
 import com.app.questofseoul.repository.MediaAssetRepository;
 import com.app.questofseoul.repository.TourAssetRepository;
 import com.app.questofseoul.repository.TourRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class AdminTourAssetService {
     private final TourRepository tourRepository;
     private final TourAssetRepository tourAssetRepository;
     private final MediaAssetRepository mediaAssetRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<TourAssetResponse> list(Long tourId) {
@@ -58,6 +61,7 @@ public class AdminTourAssetService {
             tourAsset.setCaption(request.caption());
         }
         tourAsset = tourAssetRepository.save(tourAsset);
+        eventPublisher.publishEvent(new TourContentChangedEvent(tour.getId()));
 
         return new TourAssetResponse(
                 tourAsset.getId(),
@@ -76,6 +80,7 @@ public class AdminTourAssetService {
             throw new ResourceNotFoundException("Tour asset not found");
         }
         tourAssetRepository.delete(ta);
+        eventPublisher.publishEvent(new TourContentChangedEvent(tourId));
     }
 
     private static String inferMimeType(String url) {
@@ -6,12 +6,15 @@ import com.app.questofseoul.domain.enums.StepKind;
 import com.app.questofseoul.dto.admin.TourAdminResponse;
 import com.app.questofseoul.dto.admin.TourCreateRequest;
 import com.app.questofseoul.dto.admin.TourUpdateRequest;
+import com.app.questofseoul.event.TourContentChangedEvent;
+import com.app.questofseoul.event.TourSpotsChangedEvent;
 import com.app.questofseoul.exception.DuplicateResourceException;
 import com.app.questofseoul.exception.ResourceNotFoundException;
 import com.app.questofseoul.repository.SpotContentStepRepository;
 import com.app.questofseoul.repository.TourRepository;
 import com.app.questofseoul.repository.TourSpotRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -24,6 +27,7 @@ public class AdminTourService {
     private final TourRepository tourRepository;
     private final TourSpotRepository tourSpotRepository;
     private final SpotContentStepRepository spotContentStepRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Page<TourAdminResponse> list(Pageable pageable) {
@@ -46,6 +50,7 @@ public class AdminTourService {
         // 관리자 화면의 titleEn/descriptionEn 입력값을 실제 공개 표시 필드(title/description)에도 동기화한다.
         syncPublicDisplayFields(tour, req.titleEn(), req.descriptionEn());
         tour = tourRepository.save(tour);
+        eventPublisher.publishEvent(new TourContentChangedEvent(tour.getId()));
         return toResponse(tour);
     }
 
@@ -64,6 +69,7 @@ public class AdminTourService {
         if (req.infoJson() != null) tour.setInfoJson(req.infoJson());
         if (req.goodToKnowJson() != null) tour.setGoodToKnowJson(req.goodToKnowJson());
         tour = tourRepository.save(tour);
+        eventPublisher.publishEvent(new TourContentChangedEvent(tourId));
         return toResponse(tour);
     }
 
@@ -72,6 +78,7 @@ public class AdminTourService {
         Tour tour = tourRepository.findById(tourId)
                 .orElseThrow(() -> new ResourceNotFoundException("Tour not found"));
         tourRepository.delete(tour);
+        eventPublisher.publishEvent(new TourSpotsChangedEvent(tourId));
     }
 
     private void syncPublicDisplayFields(Tour tour, String title, String description) {
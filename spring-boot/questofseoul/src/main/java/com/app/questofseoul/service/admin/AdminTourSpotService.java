@@ -6,10 +6,12 @@ import com.app.questofseoul.domain.enums.SpotType;
 import com.app.questofseoul.dto.admin.SpotAdminResponse;
 import com.app.questofseoul.dto.admin.SpotCreateRequest;
 import com.app.questofseoul.dto.admin.SpotUpdateRequest;
+import com.app.questofseoul.event.TourSpotsChangedEvent;
 import com.app.questofseoul.exception.ResourceNotFoundException;
 import com.app.questofseoul.repository.TourRepository;
 import com.app.questofseoul.repository.TourSpotRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ public class AdminTourSpotService {
 
     private final TourRepository tourRepository;
     private final TourSpotRepository tourSpotRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<SpotAdminResponse> list(Long tourId) {
@@ -50,6 +53,7 @@ public class AdminTourSpotService {
         if (req.latitude() != null) spot.setLatitude(req.latitude());
         if (req.longitude() != null) spot.setLongitude(req.longitude());
         spot = tourSpotRepository.save(spot);
+        eventPublisher.publishEvent(new TourSpotsChangedEvent(tourId));
         return toResponse(spot);
     }
 
@@ -67,6 +71,7 @@ public class AdminTourSpotService {
         if (req.longitude() != null) spot.setLongitude(req.longitude());
         if (req.radiusM() != null) spot.setRadiusM(req.radiusM());
         spot = tourSpotRepository.save(spot);
+        eventPublisher.publishEvent(new TourSpotsChangedEvent(tourId));
         return toResponse(spot);
     }
 
@@ -81,6 +86,7 @@ public class AdminTourSpotService {
         }
         spot.deactivate();
         tourSpotRepository.save(spot);
+        eventPublisher.publishEvent(new TourSpotsChangedEvent(tourId));
     }
 
     private SpotAdminResponse toResponse(TourSpot s) {
@@ -0,0 +1,42 @@
+package com.app.questofseoul.config;
+
+import com.app.questofseoul.service.EmbeddingProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmbeddingDimensionValidatorTest {
+
+    @Test
+    void afterSingletonsInstantiated_failsWhenColumnDimensionDiffersFromProvider() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq("tour_knowledge_embeddings"), eq("embedding")))
+                .thenReturn(List.of(1536));
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq("ai_answer_cache"), eq("question_embedding")))
+                .thenReturn(List.of());
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq("embedding_cache"), eq("embedding")))
+                .thenReturn(List.of());
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> new EmbeddingDimensionValidator(jdbcTemplate, provider(768)).afterSingletonsInstantiated());
+        assertTrue(e.getMessage().contains("tour_knowledge_embeddings.embedding is vector(1536)"));
+
+        assertDoesNotThrow(() -> new EmbeddingDimensionValidator(jdbcTemplate, provider(1536)).afterSingletonsInstantiated());
+    }
+
+    private static EmbeddingProvider provider(int dimensions) {
+        EmbeddingProvider provider = mock(EmbeddingProvider.class);
+        when(provider.name()).thenReturn("hashing");
+        when(provider.dimensions()).thenReturn(dimensions);
+        return provider;
+    }
+}
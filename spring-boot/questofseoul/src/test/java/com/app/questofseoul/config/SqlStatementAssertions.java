@@ -0,0 +1,33 @@
+package com.app.questofseoul.config;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 쿼리 수 회귀 테스트용 단언. 엔드포인트/서비스 호출이 실행하는 SQL 문 수를 상한으로 고정한다.
+ * <pre>{@code
+ * List<TourListItem> tours = SqlStatementAssertions.assertMaxStatements(3, () -> tourDetailService.getTourList(null));
+ * }</pre>
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    public static <T> T assertMaxStatements(int max, Supplier<T> action) {
+        try (SqlStatementStats.Scope scope = SqlStatementStats.start()) {
+            T result = action.get();
+            assertTrue(scope.count() <= max,
+                "expected at most " + max + " SQL statements but " + scope.count() + " were executed");
+            return result;
+        }
+    }
+
+    public static void assertMaxStatements(int max, Runnable action) {
+        assertMaxStatements(max, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.app.questofseoul.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SqlStatementStatsTest {
+
+    @Test
+    void listenerEventsAreCountedInEveryOpenScope() {
+        SqlStatementListener listener = new SqlStatementListener();
+
+        try (SqlStatementStats.Scope request = SqlStatementStats.start()) {
+            execute(listener);
+            try (SqlStatementStats.Scope inner = SqlStatementStats.start()) {
+                execute(listener);
+                listener.jdbcExecuteBatchStart();
+                listener.jdbcExecuteBatchEnd();
+                assertEquals(2, inner.count());
+            }
+            execute(listener);
+            assertEquals(4, request.count());
+        }
+
+        // 범위 밖 실행은 무시된다
+        execute(listener);
+    }
+
+    @Test
+    void assertMaxStatements_failsWhenQueryCountRegresses() {
+        SqlStatementListener listener = new SqlStatementListener();
+
+        SqlStatementAssertions.assertMaxStatements(2, () -> {
+            execute(listener);
+            execute(listener);
+        });
+        assertThrows(AssertionError.class, () -> SqlStatementAssertions.assertMaxStatements(1, () -> {
+            execute(listener);
+            execute(listener);
+        }));
+    }
+
+    private static void execute(SqlStatementListener listener) {
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+    }
+}
@@ -0,0 +1,99 @@
+package com.app.questofseoul.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SseEventSenderTest {
+
+    private SseEventSender sender;
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdown();
+    }
+
+    @Test
+    void relay_writesEventsInOrderOnSenderThreadAndCompletesAfterTerminalEvent() throws Exception {
+        sender = new SseEventSender(2, 16);
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        SseEventSender.Relay relay = sender.open(emitter);
+
+        // HttpClient 완료 스레드를 흉내 낸다
+        Thread httpThread = new Thread(() -> {
+            relay.send("delta", Map.of("text", "근정전은 "));
+            relay.send("delta", Map.of("text", "1395년에 "));
+            relay.send("delta", Map.of("text", "지어졌습니다."));
+            relay.complete("done", Map.of("aiTurnId", 101));
+        }, "ai-server-http-1");
+        httpThread.start();
+        httpThread.join();
+
+        assertTrue(emitter.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(4, emitter.events.size());
+        assertTrue(emitter.events.get(0).contains("근정전은"));
+        assertTrue(emitter.events.get(2).contains("지어졌습니다."));
+        assertTrue(emitter.events.get(3).contains("event:done"));
+        assertTrue(emitter.threads.stream().allMatch(name -> name.startsWith("sse-send-")), emitter.threads.toString());
+    }
+
+    @Test
+    void relay_dropsDeltasForSlowClientButStillSendsDone() throws Exception {
+        sender = new SseEventSender(1, 2);
+        CountDownLatch clientStalled = new CountDownLatch(1);
+        RecordingEmitter emitter = new RecordingEmitter(clientStalled);
+        SseEventSender.Relay relay = sender.open(emitter);
+
+        for (int i = 0; i < 10; i++) {
+            relay.send("delta", Map.of("text", "조각" + i));
+        }
+        relay.complete("done", Map.of("aiText", "전체 답변"));
+        clientStalled.countDown();
+
+        assertTrue(emitter.completed.await(5, TimeUnit.SECONDS));
+        assertTrue(emitter.events.size() < 11, "deltas beyond the queue capacity must be dropped");
+        assertTrue(emitter.events.get(emitter.events.size() - 1).contains("event:done"));
+    }
+
+    /** 전송 내용/스레드를 기록하고, stall이 주어지면 첫 전송에서 느린 클라이언트처럼 멈춘다 */
+    private static class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch stall;
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        RecordingEmitter(CountDownLatch stall) {
+            this.stall = stall;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (stall != null) {
+                try {
+                    stall.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            threads.add(Thread.currentThread().getName());
+            events.add(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed.countDown();
+        }
+    }
+}
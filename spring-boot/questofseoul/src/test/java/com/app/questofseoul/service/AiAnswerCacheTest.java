@@ -0,0 +1,63 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.config.AiAnswerCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AiAnswerCacheTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private AiAnswerCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        EmbeddingService embeddingService = mock(EmbeddingService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new AiAnswerCache(jdbcTemplate, embeddingService,
+                new AiAnswerCacheProperties(true, 0.9, null, 1), meterRegistry);
+        when(embeddingService.embed(anyString())).thenReturn(new float[]{0.1f, 0.2f});
+    }
+
+    @Test
+    void lookup_hitsOnlyAboveSimilarityThreshold() {
+        when(jdbcTemplate.queryForList(anyString(), any(Object[].class)))
+                .thenReturn(List.of(Map.of("answer", "1395년에 세워졌어요.", "distance", 0.05)))
+                .thenReturn(List.of(Map.of("answer", "1395년에 세워졌어요.", "distance", 0.2)));
+
+        AiAnswerCache.Lookup near = cache.lookup(1L, 10L, "ko", "이 문은 언제 지어졌나요?");
+        AiAnswerCache.Lookup far = cache.lookup(1L, 10L, "ko", "근처 맛집 알려주세요");
+
+        assertTrue(near.hit());
+        assertEquals("1395년에 세워졌어요.", near.answer());
+        assertFalse(far.hit());
+        assertEquals(1.0, meterRegistry.counter("ai.answer.cache", "result", "hit").count());
+        assertEquals(1.0, meterRegistry.counter("ai.answer.cache", "result", "miss").count());
+    }
+
+    @Test
+    void store_skipsFallbackMessages() {
+        when(jdbcTemplate.queryForList(anyString(), any(Object[].class))).thenReturn(List.of());
+        AiAnswerCache.Lookup miss = cache.lookup(1L, 10L, "ko", "이 문은 언제 지어졌나요?");
+
+        cache.store(miss, "죄송합니다. 잠시 후 다시 질문해 주세요.");
+
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+}
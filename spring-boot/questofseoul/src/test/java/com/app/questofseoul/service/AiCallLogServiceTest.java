@@ -0,0 +1,52 @@
+package com.app.questofseoul.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class AiCallLogServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void record_insertsQueuedCallsInBatchesOffTheCallerThread() throws Exception {
+        AiCallLogService service = new AiCallLogService(jdbcTemplate, new SimpleMeterRegistry(), true, 100, 50);
+
+        service.record(1L, 10L, 11L, new AiCallResult("gpt-4o-mini", 800, 40, null, 1200));
+        service.record(1L, 12L, 13L, new AiCallResult(null, null, null, AiCallResult.ERROR_TIMEOUT, 60000));
+        service.record(1L, 14L, null, null);
+        service.shutdown();
+
+        ArgumentCaptor<Collection<AiCallLogService.Entry>> rows = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, atLeastOnce()).batchUpdate(anyString(), rows.capture(), anyInt(), any());
+        List<Long> userTurnIds = rows.getAllValues().stream()
+                .flatMap(Collection::stream)
+                .map(AiCallLogService.Entry::userTurnId)
+                .toList();
+        assertEquals(List.of(10L, 12L), userTurnIds);
+    }
+
+    @Test
+    void record_isNoOpWhenDisabled() throws Exception {
+        AiCallLogService service = new AiCallLogService(jdbcTemplate, new SimpleMeterRegistry(), false, 1, 50);
+
+        service.record(1L, 10L, 11L, new AiCallResult("gpt-4o-mini", 800, 40, null, 1200));
+        service.shutdown();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+    }
+}
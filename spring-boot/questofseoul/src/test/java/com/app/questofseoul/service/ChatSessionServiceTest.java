@@ -0,0 +1,435 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.config.AiServerProperties;
+import com.app.questofseoul.domain.entity.ChatSession;
+import com.app.questofseoul.domain.entity.ChatTurn;
+import com.app.questofseoul.domain.entity.SpotScriptLine;
+import com.app.questofseoul.domain.entity.Tour;
+import com.app.questofseoul.domain.entity.TourRun;
+import com.app.questofseoul.domain.entity.TourSpot;
+import com.app.questofseoul.domain.entity.User;
+import com.app.questofseoul.domain.entity.UserSpotProgress;
+import com.app.questofseoul.domain.enums.ChatRole;
+import com.app.questofseoul.domain.enums.ChatSource;
+import com.app.questofseoul.domain.enums.ProgressStatus;
+import com.app.questofseoul.domain.enums.SpotType;
+import com.app.questofseoul.domain.enums.StepNextAction;
+import com.app.questofseoul.dto.tour.ChatTurnsResponse;
+import com.app.questofseoul.dto.tour.ProximityResponse;
+import com.app.questofseoul.dto.tour.SendMessageResponse;
+import com.app.questofseoul.repository.ChatSessionRepository;
+import com.app.questofseoul.repository.ChatTurnRepository;
+import com.app.questofseoul.repository.TourRunRepository;
+import com.app.questofseoul.repository.TourSpotRepository;
+import com.app.questofseoul.repository.UserSpotProgressRepository;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChatSessionServiceTest {
+
+    private static final Long SESSION_ID = 30L;
+
+    @Mock private ChatSessionRepository chatSessionRepository;
+    @Mock private ChatTurnRepository chatTurnRepository;
+    @Mock private TourGuideAiService tourGuideAiService;
+    @Mock private TourRunRepository tourRunRepository;
+    @Mock private TourSpotRepository tourSpotRepository;
+    @Mock private UserSpotProgressRepository userSpotProgressRepository;
+    @Mock private GuideScriptCache guideScriptCache;
+    @Mock private ScriptTurnActionResolver scriptTurnActionResolver;
+    @Mock private TourContextCache tourContextCache;
+    @Mock private AiAnswerCache aiAnswerCache;
+    @Mock private AiCallLogService aiCallLogService;
+
+    @Mock private ChatSession session;
+    @Mock private TourRun run;
+    @Mock private User user;
+    @Mock private Tour tour;
+    @Mock private TourSpot spot;
+    @Mock private ChatTurn savedUserTurn;
+    @Mock private ChatTurn savedLlmTurn;
+    @Mock private UserSpotProgress progress;
+
+    private final UUID userId = UUID.randomUUID();
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final AtomicReference<Long> cursorLineId = new AtomicReference<>();
+    private final TrackingTransactionTemplate transactionTemplate = new TrackingTransactionTemplate();
+    private final ChatReplyExecutor chatReplyExecutor = new ChatReplyExecutor(2, 16);
+    private ChatSessionService chatSessionService;
+
+    @BeforeEach
+    void setUp() {
+        chatSessionService = new ChatSessionService(chatSessionRepository, chatTurnRepository, tourGuideAiService,
+                tourRunRepository, tourSpotRepository, userSpotProgressRepository,
+                guideScriptCache, scriptTurnActionResolver, transactionTemplate, tourContextCache,
+                new AiServerProperties("http://localhost", true, null, null, null, null), aiAnswerCache,
+                aiCallLogService, new ServiceMetrics(new SimpleMeterRegistry()), chatReplyExecutor);
+
+        when(chatSessionRepository.findById(SESSION_ID)).thenReturn(Optional.of(session));
+        when(session.getId()).thenReturn(SESSION_ID);
+        when(session.getTourRun()).thenReturn(run);
+        when(session.getSpot()).thenReturn(spot);
+        when(run.getUser()).thenReturn(user);
+        when(run.getTour()).thenReturn(tour);
+        when(user.getId()).thenReturn(userId);
+        when(tour.getId()).thenReturn(1L);
+        when(spot.getId()).thenReturn(10L);
+        when(spot.getIsActive()).thenReturn(true);
+        when(spot.getType()).thenReturn(SpotType.MAIN);
+        when(run.getId()).thenReturn(5L);
+        when(progress.getProgressStatus()).thenReturn(ProgressStatus.ACTIVE);
+        when(userSpotProgressRepository.findByTourRunIdAndSpotId(5L, 10L)).thenReturn(Optional.of(progress));
+        when(session.getCursorStepIndexSafe()).thenAnswer(inv -> cursor.get());
+        when(session.getCursorScriptLineId()).thenAnswer(inv -> cursorLineId.get());
+        doAnswer(inv -> {
+            cursor.set(inv.getArgument(0));
+            cursorLineId.set(inv.getArgument(1));
+            return null;
+        }).when(session).moveCursorTo(anyInt(), any());
+        when(guideScriptCache.get(10L, "ko"))
+                .thenReturn(new GuideScript(10L, "ko", 0L, List.of(), List.of(), List.of()));
+        when(tourContextCache.get(1L, "ko"))
+                .thenReturn(new TourContextCache.TourContext("투어: 경복궁\n", List.of()));
+
+        when(aiAnswerCache.lookupAsync(any(), any(), any(), any())).thenAnswer(inv -> CompletableFuture.completedFuture(
+                new AiAnswerCache.Lookup(inv.getArgument(0), inv.getArgument(1), inv.getArgument(2),
+                        inv.getArgument(3), new float[0], null)));
+
+        when(savedUserTurn.getId()).thenReturn(100L);
+        when(savedLlmTurn.getId()).thenReturn(101L);
+        when(chatTurnRepository.save(any(ChatTurn.class))).thenAnswer(inv -> {
+            ChatTurn turn = inv.getArgument(0);
+            return turn.getSource() == ChatSource.USER ? savedUserTurn : savedLlmTurn;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        chatReplyExecutor.shutdown();
+    }
+
+    @Test
+    void sendMessage_callsAiOutsideTransactionAndSavesAnswerInSecondTransaction() {
+        CompletableFuture<String> aiResponse = new CompletableFuture<>();
+        AiCallResult callResult = new AiCallResult("gpt-4o-mini", 820, 64, null, 1200);
+        when(tourGuideAiService.generateResponseAsync(any(), any(), any())).thenAnswer(inv -> {
+            assertFalse(transactionTemplate.active, "AI call must not run inside a transaction");
+            Consumer<AiCallResult> onResult = inv.getArgument(2);
+            return aiResponse.thenApply(text -> {
+                onResult.accept(callResult);
+                return text;
+            });
+        });
+
+        CompletableFuture<SendMessageResponse> result = chatSessionService.sendMessage(userId, SESSION_ID, "근정전은 언제 지어졌나요?");
+
+        // AI 응답 대기 중: USER 턴 트랜잭션만 커밋됨
+        assertFalse(result.isDone());
+        assertEquals(1, transactionTemplate.executions);
+        verify(chatTurnRepository, times(1)).save(any(ChatTurn.class));
+
+        aiResponse.complete("1395년에 처음 지어졌습니다.");
+
+        SendMessageResponse response = result.join();
+        assertEquals(2, transactionTemplate.executions);
+        assertEquals(100L, response.userTurnId());
+        assertEquals(101L, response.aiTurnId());
+        assertEquals("1395년에 처음 지어졌습니다.", response.aiText());
+        verify(aiAnswerCache).storeAsync(any(), eq("1395년에 처음 지어졌습니다."));
+        verify(aiCallLogService).record(SESSION_ID, 100L, 101L, callResult);
+    }
+
+    @Test
+    void sendMessage_savesAnswerOffTheThreadThatCompletesAiCall() throws Exception {
+        CompletableFuture<String> aiResponse = new CompletableFuture<>();
+        when(tourGuideAiService.generateResponseAsync(any(), any(), any())).thenReturn(aiResponse);
+        AtomicReference<String> llmTurnThread = new AtomicReference<>();
+        when(chatTurnRepository.save(any(ChatTurn.class))).thenAnswer(inv -> {
+            ChatTurn turn = inv.getArgument(0);
+            if (turn.getSource() == ChatSource.USER) {
+                return savedUserTurn;
+            }
+            llmTurnThread.set(Thread.currentThread().getName());
+            return savedLlmTurn;
+        });
+
+        CompletableFuture<SendMessageResponse> result = chatSessionService.sendMessage(userId, SESSION_ID, "향원정은 어디에 있나요?");
+        // HttpClient 완료 스레드를 흉내 낸다
+        Thread httpThread = new Thread(() -> aiResponse.complete("경회루 북쪽 연못 안에 있어요."), "ai-server-http-1");
+        httpThread.start();
+        httpThread.join();
+
+        assertEquals(101L, result.join().aiTurnId());
+        assertTrue(llmTurnThread.get().startsWith("chat-reply-"), llmTurnThread.get());
+    }
+
+    @Test
+    void sendMessage_holdsNoPooledConnectionWhileAiCallIsPending() throws Exception {
+        // open-in-view가 켜져 있으면 요청 전체에 EntityManager(커넥션)가 묶이므로 꺼져 있어야 한다
+        Properties properties = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application.properties"));
+        assertEquals("false", properties.getProperty("spring.jpa.open-in-view"));
+
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        HikariConfig config = new HikariConfig();
+        config.setDataSource(dataSource);
+        config.setMaximumPoolSize(2);
+        config.setPoolName("chat-test");
+        try (HikariDataSource pool = new HikariDataSource(config)) {
+            ChatSessionService service = new ChatSessionService(chatSessionRepository, chatTurnRepository, tourGuideAiService,
+                    tourRunRepository, tourSpotRepository, userSpotProgressRepository,
+                    guideScriptCache, scriptTurnActionResolver,
+                    new TransactionTemplate(new DataSourceTransactionManager(pool)), tourContextCache,
+                    new AiServerProperties("http://localhost", true, null, null, null, null), aiAnswerCache,
+                    aiCallLogService, new ServiceMetrics(new SimpleMeterRegistry()), chatReplyExecutor);
+            HikariPoolMXBean poolStats = pool.getHikariPoolMXBean();
+            AtomicInteger activeDuringSave = new AtomicInteger();
+            when(chatTurnRepository.save(any(ChatTurn.class))).thenAnswer(inv -> {
+                activeDuringSave.set(poolStats.getActiveConnections());
+                ChatTurn turn = inv.getArgument(0);
+                return turn.getSource() == ChatSource.USER ? savedUserTurn : savedLlmTurn;
+            });
+            CompletableFuture<String> aiResponse = new CompletableFuture<>();
+            when(tourGuideAiService.generateResponseAsync(any(), any(), any())).thenReturn(aiResponse);
+
+            CompletableFuture<SendMessageResponse> result = service.sendMessage(userId, SESSION_ID, "근정전은 언제 지어졌나요?");
+
+            assertEquals(1, activeDuringSave.get());
+            assertFalse(result.isDone());
+            assertEquals(0, poolStats.getActiveConnections(), "no connection may be held while waiting for the AI answer");
+
+            aiResponse.complete("1395년에 처음 지어졌습니다.");
+            assertEquals(101L, result.join().aiTurnId());
+            assertEquals(1, activeDuringSave.get());
+            assertEquals(0, poolStats.getActiveConnections());
+        }
+    }
+
+    @Test
+    void sendMessage_semanticCacheHitSkipsAiCall() {
+        when(aiAnswerCache.lookupAsync(1L, 10L, "ko", "광화문은 몇 년 됐어요?")).thenReturn(CompletableFuture.completedFuture(
+                new AiAnswerCache.Lookup(1L, 10L, "ko", "광화문은 몇 년 됐어요?", new float[]{0.1f}, "1395년에 처음 세워졌어요.")));
+
+        SendMessageResponse response = chatSessionService.sendMessage(userId, SESSION_ID, "광화문은 몇 년 됐어요?").join();
+
+        assertEquals("1395년에 처음 세워졌어요.", response.aiText());
+        assertEquals(2, transactionTemplate.executions);
+        verify(tourGuideAiService, never()).generateResponseAsync(any(), any(), any());
+        verify(aiAnswerCache, never()).storeAsync(any(), any());
+        verify(aiCallLogService, never()).record(any(), any(), any(), any());
+    }
+
+    @Test
+    void sendMessage_returnsBeforeAnswerCacheLookupCompletes() {
+        CompletableFuture<AiAnswerCache.Lookup> lookup = new CompletableFuture<>();
+        when(aiAnswerCache.lookupAsync(1L, 10L, "ko", "경회루는 무엇인가요?")).thenReturn(lookup);
+        when(tourGuideAiService.generateResponseAsync(any(), any(), any())).thenAnswer(inv -> {
+            Consumer<AiCallResult> onResult = inv.getArgument(2);
+            onResult.accept(new AiCallResult("gpt-4o-mini", 640, 20, null, 900));
+            return CompletableFuture.completedFuture("연회를 열던 누각이에요.");
+        });
+
+        CompletableFuture<SendMessageResponse> result = chatSessionService.sendMessage(userId, SESSION_ID, "경회루는 무엇인가요?");
+
+        // 질문 임베딩/캐시 조회가 끝나기 전에는 AI 호출도 시작하지 않고 호출 스레드는 바로 반환된다
+        assertFalse(result.isDone());
+        verify(tourGuideAiService, never()).generateResponseAsync(any(), any(), any());
+
+        lookup.complete(new AiAnswerCache.Lookup(1L, 10L, "ko", "경회루는 무엇인가요?", new float[]{0.1f}, null));
+
+        assertEquals("연회를 열던 누각이에요.", result.join().aiText());
+        verify(aiAnswerCache).storeAsync(any(), eq("연회를 열던 누각이에요."));
+    }
+
+    @Test
+    void streamMessage_savesButDoesNotCacheAnswerTruncatedByStreamError() {
+        AiCallResult failed = new AiCallResult(null, null, null, AiCallResult.ERROR_TIMEOUT, 60000);
+        when(tourGuideAiService.streamResponseAsync(any(), any(), any(), any())).thenAnswer(inv -> {
+            Consumer<String> onDelta = inv.getArgument(2);
+            Consumer<AiCallResult> onResult = inv.getArgument(3);
+            onDelta.accept("근정전은 ");
+            onDelta.accept("1395년에");
+            // 스트림이 중간에 끊기면 지금까지 받은 부분 답변으로 완료된다
+            onResult.accept(failed);
+            return CompletableFuture.completedFuture("근정전은 1395년에");
+        });
+        List<String> deltas = new ArrayList<>();
+
+        SendMessageResponse response = chatSessionService.streamMessage(userId, SESSION_ID, "근정전은 언제 지어졌나요?", deltas::add).join();
+
+        assertEquals(List.of("근정전은 ", "1395년에"), deltas);
+        assertEquals("근정전은 1395년에", response.aiText());
+        verify(aiAnswerCache, never()).storeAsync(any(), any());
+        verify(aiCallLogService).record(SESSION_ID, 100L, 101L, failed);
+    }
+
+    @Test
+    void getNextScriptTurn_movesCursorPastRequestedLineAndNeverBack() {
+        when(guideScriptCache.get(10L, "ko")).thenReturn(script("ko", 501L, 502L, 503L));
+
+        ProximityResponse.ChatTurnDto turn = chatSessionService.getNextScriptTurn(userId, SESSION_ID, 502L);
+
+        assertEquals(502L, turn.scriptLineId());
+        assertEquals(502L, turn.turnId(), "deprecated turnId keeps carrying the script line id");
+        assertEquals("SCRIPT", turn.source());
+        assertEquals(2, cursor.get());
+
+        // 이미 본 라인을 다시 요청해도 커서는 뒤로 가지 않는다
+        chatSessionService.getNextScriptTurn(userId, SESSION_ID, 501L);
+        assertEquals(2, cursor.get());
+        verify(progress, never()).complete();
+    }
+
+    @Test
+    void getNextScriptTurn_completesScriptOnlySpotAtLastLine() {
+        when(guideScriptCache.get(10L, "ko")).thenReturn(script("ko", 501L, 502L));
+        cursor.set(1);
+
+        chatSessionService.getNextScriptTurn(userId, SESSION_ID, 502L);
+
+        assertEquals(2, cursor.get());
+        verify(progress).complete();
+    }
+
+    @Test
+    void getLegacyScriptTurn_resolvesMaterializedScriptTurnIdsAndFallsBackToScriptLineIds() {
+        when(guideScriptCache.get(10L, "ko")).thenReturn(script("ko", 501L, 502L, 503L));
+        ChatTurn legacyTurn = mock(ChatTurn.class);
+        SpotScriptLine legacyLine = mock(SpotScriptLine.class);
+        when(legacyTurn.getSource()).thenReturn(ChatSource.SCRIPT);
+        when(legacyTurn.getScriptLine()).thenReturn(legacyLine);
+        when(legacyLine.getId()).thenReturn(502L);
+        when(chatTurnRepository.findByIdAndSession_Id(9001L, SESSION_ID)).thenReturn(Optional.of(legacyTurn));
+
+        // 예전 클라이언트가 캐시한 SCRIPT 턴 ID(chat_turns.id)는 그 턴의 스크립트 라인으로 이어진다
+        ProximityResponse.ChatTurnDto turn = chatSessionService.getLegacyScriptTurn(userId, SESSION_ID, 9001L);
+        assertEquals(502L, turn.scriptLineId());
+        assertEquals(2, cursor.get());
+
+        // turnId/lastTurnId로 받은 값(scriptLineId)은 그대로 라인 ID로 쓴다
+        turn = chatSessionService.getLegacyScriptTurn(userId, SESSION_ID, 503L);
+        assertEquals(503L, turn.scriptLineId());
+        assertEquals(3, cursor.get());
+    }
+
+    @Test
+    void getChatTurns_replaysScriptInSessionLanguageWithSeparateIds() {
+        when(session.getLanguage()).thenReturn("en");
+        when(guideScriptCache.get(10L, "en")).thenReturn(script("en", 601L, 602L));
+        when(chatTurnRepository.findBySession_IdOrderByCreatedAtAsc(SESSION_ID)).thenReturn(List.of(savedUserTurn));
+        when(savedUserTurn.getSource()).thenReturn(ChatSource.USER);
+        when(savedUserTurn.getRole()).thenReturn(ChatRole.USER);
+        when(savedUserTurn.getContextJson()).thenReturn(Map.of("scriptCursor", 1));
+        when(scriptTurnActionResolver.resolve(any(), any(), any(), anyInt(), any()))
+                .thenReturn(new ProximityResponse.ActionDto("AUTO_NEXT", null, null, null));
+        cursor.set(1);
+
+        ChatTurnsResponse response = chatSessionService.getChatTurns(userId, SESSION_ID);
+
+        // 세션이 시작한 언어(en)의 스크립트로 재생하고, 스크립트 라인 id와 chat_turns id를 다른 필드로 구분한다
+        verify(guideScriptCache, never()).get(10L, "ko");
+        assertEquals(2, response.turns().size());
+        assertEquals(601L, response.turns().get(0).scriptLineId());
+        assertEquals(601L, response.turns().get(0).turnId());
+        assertEquals(100L, response.turns().get(1).turnId());
+        assertNull(response.turns().get(1).scriptLineId());
+        assertEquals("ACTIVE", response.status());
+    }
+
+    @Test
+    void cursorAndQuestionPlacementFollowScriptLineAfterGuideEdit() {
+        when(guideScriptCache.get(10L, "ko")).thenReturn(script("ko", 501L, 502L, 503L));
+        chatSessionService.getNextScriptTurn(userId, SESSION_ID, 501L);
+        when(savedUserTurn.getSource()).thenReturn(ChatSource.USER);
+        when(savedUserTurn.getRole()).thenReturn(ChatRole.USER);
+        when(savedUserTurn.getContextJson()).thenReturn(Map.of("scriptCursor", 1, "scriptLineId", 501L));
+        when(chatTurnRepository.findBySession_IdOrderByCreatedAtAsc(SESSION_ID)).thenReturn(List.of(savedUserTurn));
+        when(scriptTurnActionResolver.resolve(any(), any(), any(), anyInt(), any()))
+                .thenReturn(new ProximityResponse.ActionDto("AUTO_NEXT", null, null, null));
+
+        // 관리자가 본 라인 앞에 새 라인(500)을 추가: 위치 인덱스는 밀리지만 커서/질문은 501 뒤에 그대로 남는다
+        when(guideScriptCache.get(10L, "ko")).thenReturn(script("ko", 500L, 501L, 502L, 503L));
+        ChatTurnsResponse response = chatSessionService.getChatTurns(userId, SESSION_ID);
+
+        assertEquals(List.of(500L, 501L, 100L), response.turns().stream().map(ChatTurnsResponse.ChatTurnItem::turnId).toList());
+        chatSessionService.getNextScriptTurn(userId, SESSION_ID, 502L);
+        assertEquals(3, cursor.get());
+        assertEquals(502L, cursorLineId.get());
+    }
+
+    private static GuideScript script(String language, Long... lineIds) {
+        List<GuideScript.Line> lines = new ArrayList<>();
+        for (int i = 0; i < lineIds.length; i++) {
+            Long next = i + 1 < lineIds.length ? lineIds[i + 1] : null;
+            lines.add(new GuideScript.Line(lineIds[i], 20L, "line " + lineIds[i], StepNextAction.NEXT, null, List.of(),
+                    new GuideScript.LineAction(next != null ? GuideScript.ActionType.AUTO_NEXT : GuideScript.ActionType.NEXT,
+                            next, null)));
+        }
+        return new GuideScript(10L, language, 0L,
+                List.of(new GuideScript.Step(20L, 0, "guide", StepNextAction.NEXT, null, lines)), lines, List.of());
+    }
+
+    /** 트랜잭션 경계만 기록하는 TransactionTemplate */
+    private static class TrackingTransactionTemplate extends TransactionTemplate {
+        private volatile boolean active;
+        private volatile int executions;
+
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            active = true;
+            try {
+                return action.doInTransaction(new SimpleTransactionStatus());
+            } finally {
+                active = false;
+                executions++;
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.config.EmbeddingCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class EmbeddingCacheTest {
+
+    @Test
+    void get_reusesEmbeddingForNormalizedTextWithinNamespace() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmbeddingCache cache = new EmbeddingCache(jdbcTemplate,
+                new EmbeddingCacheProperties(true, 10, null, false), meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+
+        float[] first = cache.get("model:1536", "  Gwanghwamun   Gate ", t -> new float[]{loads.incrementAndGet()});
+        float[] second = cache.get("model:1536", "gwanghwamun gate", t -> new float[]{loads.incrementAndGet()});
+        cache.get("other-model:1536", "gwanghwamun gate", t -> new float[]{loads.incrementAndGet()});
+
+        assertArrayEquals(first, second);
+        assertEquals(2, loads.get());
+        assertEquals(1.0, meterRegistry.counter("embedding.cache", "result", "hit", "tier", "memory").count());
+        assertEquals(2.0, meterRegistry.counter("embedding.cache", "result", "miss", "tier", "none").count());
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,130 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.entity.MediaAsset;
+import com.app.questofseoul.domain.entity.Mission;
+import com.app.questofseoul.domain.entity.ScriptLineAsset;
+import com.app.questofseoul.domain.entity.SpotContentStep;
+import com.app.questofseoul.domain.entity.SpotScriptLine;
+import com.app.questofseoul.domain.enums.AssetType;
+import com.app.questofseoul.domain.enums.LineAssetUsage;
+import com.app.questofseoul.domain.enums.StepKind;
+import com.app.questofseoul.domain.enums.StepNextAction;
+import com.app.questofseoul.repository.ScriptLineAssetRepository;
+import com.app.questofseoul.repository.SpotContentStepRepository;
+import com.app.questofseoul.repository.SpotScriptLineRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GuideScriptCacheTest {
+
+    private static final Long SPOT_ID = 10L;
+
+    private SpotContentStepRepository spotContentStepRepository;
+    private GuideScriptCache cache;
+
+    @BeforeEach
+    void setUp() {
+        spotContentStepRepository = mock(SpotContentStepRepository.class);
+        SpotScriptLineRepository spotScriptLineRepository = mock(SpotScriptLineRepository.class);
+        ScriptLineAssetRepository scriptLineAssetRepository = mock(ScriptLineAssetRepository.class);
+        cache = new GuideScriptCache(spotContentStepRepository, spotScriptLineRepository, scriptLineAssetRepository);
+
+        SpotContentStep intro = step(1L, 0, StepNextAction.NEXT, null);
+        SpotContentStep outro = step(2L, 1, StepNextAction.MISSION_CHOICE, 77L);
+        SpotContentStep quiz = step(3L, 2, null, 77L);
+        when(spotContentStepRepository.findBySpot_IdAndKindAndLanguageOrderByStepIndexAsc(SPOT_ID, StepKind.GUIDE, "ko"))
+                .thenReturn(List.of(intro, outro));
+        when(spotContentStepRepository.findBySpot_IdAndKindAndLanguageOrderByStepIndexAsc(SPOT_ID, StepKind.MISSION, "ko"))
+                .thenReturn(List.of(quiz));
+
+        SpotScriptLine l1 = line(101L, intro, "안녕하세요");
+        SpotScriptLine l2 = line(102L, intro, "광화문입니다");
+        SpotScriptLine l3 = line(201L, outro, "퀴즈를 풀어볼까요?");
+        // seq 정렬 결과는 스텝이 섞여서 올 수 있다
+        when(spotScriptLineRepository.findByStepIdsOrderBySeqAsc(anyCollection())).thenReturn(List.of(l1, l3, l2));
+
+        ScriptLineAsset asset = mock(ScriptLineAsset.class);
+        MediaAsset media = mock(MediaAsset.class);
+        when(media.getId()).thenReturn(900L);
+        when(media.getAssetType()).thenReturn(AssetType.IMAGE);
+        when(media.getUrl()).thenReturn("https://cdn/gate.png");
+        when(asset.getScriptLine()).thenReturn(l2);
+        when(asset.getAsset()).thenReturn(media);
+        when(asset.getUsage()).thenReturn(LineAssetUsage.ILLUSTRATION);
+        when(scriptLineAssetRepository.findWithAssetByScriptLineIds(anyCollection())).thenReturn(List.of(asset));
+    }
+
+    @Test
+    void get_compilesLinesInStepOrderWithAssetsAndMissionSteps() {
+        GuideScript script = cache.get(SPOT_ID, "ko");
+
+        assertEquals(List.of(101L, 102L, 201L), script.lines().stream().map(GuideScript.Line::scriptLineId).toList());
+        assertEquals(1, script.line(1).assets().size());
+        assertEquals("https://cdn/gate.png", script.line(1).assets().get(0).url());
+        assertFalse(script.isStepBoundary(0));
+        assertTrue(script.isStepBoundary(1));
+        assertEquals(StepNextAction.MISSION_CHOICE, script.lastNextAction());
+        assertEquals(3L, script.missionStepIdFor(77L));
+        assertEquals(2, script.indexOf(201L));
+    }
+
+    @Test
+    void get_precomputesLineActions() {
+        GuideScript script = cache.get(SPOT_ID, "ko");
+
+        assertEquals(new GuideScript.LineAction(GuideScript.ActionType.AUTO_NEXT, 102L, null), script.line(0).action());
+        assertEquals(new GuideScript.LineAction(GuideScript.ActionType.NEXT, 201L, null), script.line(1).action());
+        // 마지막 라인: 연결 미션(77) 스텝으로 MISSION_CHOICE
+        assertEquals(new GuideScript.LineAction(GuideScript.ActionType.MISSION_CHOICE, null, 3L), script.line(2).action());
+        assertEquals(3L, script.nextMissionStepId(Set.of()));
+    }
+
+    @Test
+    void get_cachesUntilSpotEvictedAndBumpsVersion() {
+        GuideScript first = cache.get(SPOT_ID, "ko");
+        assertSame(first, cache.get(SPOT_ID, "ko"));
+
+        cache.evict(SPOT_ID);
+        GuideScript second = cache.get(SPOT_ID, "ko");
+
+        assertNotSame(first, second);
+        assertEquals(first.version() + 1, second.version());
+        verify(spotContentStepRepository, times(2))
+                .findBySpot_IdAndKindAndLanguageOrderByStepIndexAsc(SPOT_ID, StepKind.GUIDE, "ko");
+    }
+
+    private static SpotContentStep step(Long id, int stepIndex, StepNextAction nextAction, Long missionId) {
+        SpotContentStep step = mock(SpotContentStep.class);
+        when(step.getId()).thenReturn(id);
+        when(step.getStepIndex()).thenReturn(stepIndex);
+        when(step.getNextAction()).thenReturn(nextAction);
+        if (missionId != null) {
+            Mission mission = mock(Mission.class);
+            when(mission.getId()).thenReturn(missionId);
+            when(step.getMission()).thenReturn(mission);
+        }
+        return step;
+    }
+
+    private static SpotScriptLine line(Long id, SpotContentStep step, String text) {
+        SpotScriptLine line = mock(SpotScriptLine.class);
+        when(line.getId()).thenReturn(id);
+        when(line.getStep()).thenReturn(step);
+        when(line.getText()).thenReturn(text);
+        return line;
+    }
+}
@@ -0,0 +1,49 @@
+package com.app.questofseoul.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashingEmbeddingProviderTest {
+
+    private final HashingEmbeddingProvider provider = new HashingEmbeddingProvider(256);
+
+    @Test
+    void embed_isDeterministicUnitVectorOfConfiguredDimension() {
+        float[] first = provider.embed("경복궁 광화문 역사");
+        float[] second = new HashingEmbeddingProvider(256).embed("경복궁 광화문 역사");
+
+        assertEquals(256, first.length);
+        assertArrayEquals(first, second);
+        assertEquals(1.0, dot(first, first), 1e-5);
+    }
+
+    @Test
+    void embed_scoresRelatedTextCloserThanUnrelatedText() {
+        float[] query = provider.embed("경복궁 근정전은 언제 지어졌나요?");
+        float[] related = provider.embed("근정전은 경복궁의 정전으로 1395년에 지어졌다.");
+        float[] unrelated = provider.embed("Namsan Tower offers a night view of Seoul.");
+
+        assertTrue(dot(query, related) > dot(query, unrelated));
+    }
+
+    @Test
+    void embedBatch_returnsEmptyVectorForBlankInput() {
+        List<float[]> result = provider.embedBatch(Arrays.asList("남산", "", null));
+
+        assertEquals(256, result.get(0).length);
+        assertEquals(0, result.get(1).length);
+        assertEquals(0, result.get(2).length);
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) sum += a[i] * b[i];
+        return sum;
+    }
+}
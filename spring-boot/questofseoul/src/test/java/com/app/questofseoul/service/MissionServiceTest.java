@@ -16,6 +16,7 @@ import com.app.questofseoul.repository.SpotContentStepRepository;
 import com.app.questofseoul.repository.TourRunRepository;
 import com.app.questofseoul.repository.UserMissionAttemptRepository;
 import com.app.questofseoul.repository.UserSpotProgressRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -68,7 +69,8 @@ class MissionServiceTest {
                 tourRunRepository,
                 spotContentStepRepository,
                 userMissionAttemptRepository,
-                userSpotProgressRepository
+                userSpotProgressRepository,
+                new ServiceMetrics(new SimpleMeterRegistry())
         );
 
         when(tourRunRepository.findById(runId)).thenReturn(Optional.of(run));
@@ -0,0 +1,73 @@
+package com.app.questofseoul.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OpenAiEmbeddingProviderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+    private OpenAiEmbeddingProvider provider;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v1/embeddings", exchange -> {
+            // 첫 요청은 rate limit, 이후에는 입력 길이를 1차원 벡터로 돌려준다 (순서를 뒤집어 index 정렬 확인)
+            if (requests.incrementAndGet() == 1) {
+                exchange.getResponseHeaders().add("Retry-After", "0");
+                exchange.sendResponseHeaders(429, -1);
+                exchange.close();
+                return;
+            }
+            JsonNode inputs = objectMapper.readTree(exchange.getRequestBody()).path("input");
+            StringBuilder data = new StringBuilder();
+            for (int i = inputs.size() - 1; i >= 0; i--) {
+                if (!data.isEmpty()) data.append(",");
+                data.append("{\"index\":").append(i).append(",\"embedding\":[")
+                        .append(inputs.get(i).asText().length()).append("]}");
+            }
+            byte[] body = ("{\"data\":[" + data + "]}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        provider = new OpenAiEmbeddingProvider("test-key",
+                "http://localhost:" + server.getAddress().getPort() + "/v1/embeddings", 1536);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void embedBatch_packsInputsIntoOneRequestAndRetriesRateLimit() {
+        List<float[]> result = provider.embedBatch(Arrays.asList("a", "", "abc", null, "ab"));
+
+        assertEquals(2, requests.get());
+        assertArrayEquals(new float[]{1f}, result.get(0));
+        assertArrayEquals(new float[0], result.get(1));
+        assertArrayEquals(new float[]{3f}, result.get(2));
+        assertArrayEquals(new float[0], result.get(3));
+        assertArrayEquals(new float[]{2f}, result.get(4));
+    }
+}
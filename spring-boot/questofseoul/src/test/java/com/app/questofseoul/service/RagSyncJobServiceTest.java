@@ -0,0 +1,190 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.entity.RagSyncJob;
+import com.app.questofseoul.domain.enums.RagSyncJobStatus;
+import com.app.questofseoul.repository.RagSyncJobRepository;
+import com.app.questofseoul.repository.TourRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RagSyncJobServiceTest {
+
+    private TourKnowledgeSyncService syncService;
+    private TourRepository tourRepository;
+    private RagSyncJobRepository jobRepository;
+    private RagSyncJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        syncService = mock(TourKnowledgeSyncService.class);
+        tourRepository = mock(TourRepository.class);
+        jobRepository = mock(RagSyncJobRepository.class);
+        jobService = newJobService(Duration.ofMinutes(5));
+        when(jobRepository.claim(anyLong(), eq(RagSyncJobStatus.RUNNING), anyString(), any(), any())).thenReturn(1);
+        when(jobRepository.renew(anyLong(), eq(RagSyncJobStatus.RUNNING), anyString(), any())).thenReturn(1);
+    }
+
+    private RagSyncJobService newJobService(Duration lease) {
+        return new RagSyncJobService(syncService, tourRepository, jobRepository,
+                new DirectTransactionTemplate(), mock(JdbcTemplate.class), Runnable::run, 2, lease);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+    }
+
+    @Test
+    void run_resumesAfterCheckpointAndRecordsFailures() {
+        RagSyncJob job = RagSyncJob.create(5);
+        job.checkpoint(2L, 2, 0, 10, null);
+        when(jobRepository.findById(7L)).thenReturn(Optional.of(job));
+        when(tourRepository.findIdsAfter(eq(2L), any(Pageable.class))).thenReturn(List.of(3L, 4L));
+        when(tourRepository.findIdsAfter(eq(4L), any(Pageable.class))).thenReturn(List.of(5L));
+        when(tourRepository.findIdsAfter(eq(5L), any(Pageable.class))).thenReturn(List.of());
+        when(syncService.syncTour(3L)).thenReturn(4);
+        when(syncService.syncTour(4L)).thenThrow(new IllegalStateException("embedding quota exceeded"));
+        when(syncService.syncTour(5L)).thenReturn(6);
+
+        jobService.run(7L);
+
+        verify(syncService, never()).syncTour(1L);
+        verify(syncService, never()).syncTour(2L);
+        assertEquals(RagSyncJobStatus.COMPLETED, job.getStatus());
+        assertEquals(5, job.getProcessedTours());
+        assertEquals(1, job.getFailedTours());
+        assertEquals(20, job.getEmbeddingsCount());
+        assertEquals(5L, job.getLastTourId());
+        assertEquals("tour 4: embedding quota exceeded", job.getLastError());
+    }
+
+    @Test
+    void run_skipsJobLeasedByAnotherInstance() {
+        RagSyncJob job = RagSyncJob.create(5);
+        when(jobRepository.findById(7L)).thenReturn(Optional.of(job));
+        when(jobRepository.claim(eq(7L), eq(RagSyncJobStatus.RUNNING), anyString(), any(), any())).thenReturn(0);
+
+        jobService.run(7L);
+
+        verify(tourRepository, never()).findIdsAfter(any(), any(Pageable.class));
+        verify(syncService, never()).syncTour(any());
+        assertEquals(RagSyncJobStatus.RUNNING, job.getStatus());
+    }
+
+    @Test
+    void run_leavesJobResumableAndReleasesLeaseWhenShuttingDown() {
+        RagSyncJob job = RagSyncJob.create(5);
+        when(jobRepository.findById(7L)).thenReturn(Optional.of(job));
+        when(tourRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        jobService.shutdown();
+
+        jobService.run(7L);
+        Thread.interrupted();
+
+        verify(syncService, never()).syncTour(any());
+        verify(jobRepository).release(eq(7L), anyString());
+        assertEquals(RagSyncJobStatus.RUNNING, job.getStatus());
+        assertNull(job.getLastTourId());
+    }
+
+    @Test
+    void run_renewsLeaseWhileChunkIsRunning() throws Exception {
+        jobService.shutdown();
+        jobService = newJobService(Duration.ofMillis(150));
+        RagSyncJob job = RagSyncJob.create(1);
+        when(jobRepository.findById(7L)).thenReturn(Optional.of(job));
+        when(tourRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L));
+        when(tourRepository.findIdsAfter(eq(1L), any(Pageable.class))).thenReturn(List.of());
+        CountDownLatch renewed = new CountDownLatch(3);
+        when(jobRepository.renew(eq(7L), eq(RagSyncJobStatus.RUNNING), anyString(), any())).thenAnswer(inv -> {
+            renewed.countDown();
+            return 1;
+        });
+        // 임대 기간보다 오래 걸리는 투어: heartbeat가 임대를 갱신해야 끝난다
+        when(syncService.syncTour(1L)).thenAnswer(inv -> renewed.await(5, TimeUnit.SECONDS) ? 2 : 0);
+
+        jobService.run(7L);
+
+        assertEquals(0, renewed.getCount());
+        assertEquals(RagSyncJobStatus.COMPLETED, job.getStatus());
+        assertEquals(1L, job.getLastTourId());
+        assertEquals(2, job.getEmbeddingsCount());
+    }
+
+    @Test
+    void run_cancelsChunkWithoutCheckpointWhenLeaseIsLostMidChunk() throws Exception {
+        jobService.shutdown();
+        jobService = newJobService(Duration.ofMillis(150));
+        RagSyncJob job = RagSyncJob.create(2);
+        when(jobRepository.findById(7L)).thenReturn(Optional.of(job));
+        when(tourRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        // 다른 인스턴스가 만료된 임대를 가져갔다
+        when(jobRepository.renew(eq(7L), eq(RagSyncJobStatus.RUNNING), anyString(), any())).thenReturn(0);
+        CountDownLatch interrupted = new CountDownLatch(2);
+        when(syncService.syncTour(any())).thenAnswer(inv -> {
+            try {
+                new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return 1;
+        });
+
+        jobService.run(7L);
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "in-flight tours must be cancelled");
+        verify(tourRepository, times(1)).findIdsAfter(any(), any(Pageable.class));
+        assertEquals(RagSyncJobStatus.RUNNING, job.getStatus());
+        assertNull(job.getLastTourId());
+        assertEquals(0, job.getProcessedTours());
+    }
+
+    @Test
+    void run_skipsCheckpointWhenLeaseWasTakenOverBeforeWrite() {
+        RagSyncJob job = RagSyncJob.create(5);
+        when(jobRepository.findById(7L)).thenReturn(Optional.of(job));
+        when(tourRepository.findIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(syncService.syncTour(any())).thenReturn(3);
+        when(jobRepository.renew(eq(7L), eq(RagSyncJobStatus.RUNNING), anyString(), any())).thenReturn(0);
+
+        jobService.run(7L);
+
+        verify(tourRepository, times(1)).findIdsAfter(any(), any(Pageable.class));
+        assertNull(job.getLastTourId());
+        assertEquals(0, job.getProcessedTours());
+        assertEquals(RagSyncJobStatus.RUNNING, job.getStatus());
+    }
+
+    /** 콜백을 바로 실행하는 TransactionTemplate */
+    private static class DirectTransactionTemplate extends TransactionTemplate {
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            return action.doInTransaction(new SimpleTransactionStatus());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.app.questofseoul.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ServiceMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ServiceMetrics serviceMetrics = new ServiceMetrics(meterRegistry);
+
+    @Test
+    void time_tagsOutcomeSetByCallAndExceptionType() {
+        serviceMetrics.time("qos.proximity.check", "checkProximity", outcome -> {
+            outcome.set("GUIDE");
+            return "ok";
+        });
+        assertThrows(IllegalStateException.class, () -> serviceMetrics.time("qos.proximity.check", "checkProximity",
+                outcome -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        assertEquals(1, meterRegistry.get("qos.proximity.check")
+                .tags("method", "checkProximity", "outcome", "GUIDE", "exception", "none").timer().count());
+        assertEquals(1, meterRegistry.get("qos.proximity.check")
+                .tags("outcome", "error", "exception", "IllegalStateException").timer().count());
+    }
+
+    @Test
+    void timeAsync_recordsWhenFutureCompletes() {
+        CompletableFuture<String> answer = new CompletableFuture<>();
+
+        CompletableFuture<String> timed = serviceMetrics.timeAsync("qos.chat", "sendMessage", outcome -> {
+            outcome.set("miss");
+            return answer;
+        });
+
+        assertEquals(0, meterRegistry.find("qos.chat").timers().size());
+        answer.complete("1395년에 지어졌어요.");
+        timed.join();
+        assertEquals(1, meterRegistry.get("qos.chat").tags("method", "sendMessage", "outcome", "miss").timer().count());
+    }
+}
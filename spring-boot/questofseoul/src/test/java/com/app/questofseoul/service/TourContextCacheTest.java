@@ -0,0 +1,61 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.entity.Tour;
+import com.app.questofseoul.event.TourSpotsChangedEvent;
+import com.app.questofseoul.repository.TourRepository;
+import com.app.questofseoul.repository.TourSpotRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TourContextCacheTest {
+
+    private final TourContextCache.TourContext context = new TourContextCache.TourContext("투어: 경복궁\n", List.of(
+            new TourContextCache.SpotLine(1L, "- 스팟 1: 광화문\n"),
+            new TourContextCache.SpotLine(2L, "- 스팟 2: 근정전\n"),
+            new TourContextCache.SpotLine(3L, "- 스팟 3: 경회루\n")
+    ));
+
+    @Test
+    void render_putsCurrentSpotFirstThenRouteOrder() {
+        String rendered = context.render(2L, 1000);
+
+        assertEquals("투어: 경복궁\n- [현재 위치] 스팟 2: 근정전\n- 스팟 1: 광화문\n- 스팟 3: 경회루\n", rendered);
+    }
+
+    @Test
+    void render_stopsAtTokenBudgetButKeepsHeader() {
+        int header = TourContextCache.estimateTokens("투어: 경복궁\n");
+        int current = TourContextCache.estimateTokens("- [현재 위치] 스팟 3: 경회루\n");
+
+        assertEquals("투어: 경복궁\n- [현재 위치] 스팟 3: 경회루\n", context.render(3L, header + current));
+        assertEquals("투어: 경복궁\n", context.render(3L, 0));
+    }
+
+    @Test
+    void get_cachesUntilTourSpotsChangedCommitted() {
+        TourRepository tourRepository = mock(TourRepository.class);
+        TourSpotRepository tourSpotRepository = mock(TourSpotRepository.class);
+        Tour tour = mock(Tour.class);
+        when(tour.getDisplayTitle()).thenReturn("경복궁");
+        when(tourRepository.findById(1L)).thenReturn(Optional.of(tour));
+        when(tourSpotRepository.findByTourIdOrderByOrderIndexAsc(1L)).thenReturn(List.of());
+        TourContextCache cache = new TourContextCache(tourRepository, tourSpotRepository);
+
+        TourContextCache.TourContext first = cache.get(1L, "ko");
+        assertSame(first, cache.get(1L, "ko"));
+
+        cache.onTourSpotsChanged(new TourSpotsChangedEvent(1L));
+        cache.get(1L, "ko");
+
+        verify(tourRepository, times(2)).findById(1L);
+    }
+}
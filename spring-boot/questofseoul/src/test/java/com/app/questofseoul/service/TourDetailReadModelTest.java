@@ -0,0 +1,94 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.entity.Tour;
+import com.app.questofseoul.domain.entity.TourSpot;
+import com.app.questofseoul.domain.enums.SpotType;
+import com.app.questofseoul.domain.enums.StepKind;
+import com.app.questofseoul.event.GuideContentChangedEvent;
+import com.app.questofseoul.repository.SpotAssetRepository;
+import com.app.questofseoul.repository.SpotContentStepRepository;
+import com.app.questofseoul.repository.TourAssetRepository;
+import com.app.questofseoul.repository.TourRepository;
+import com.app.questofseoul.repository.TourSpotRepository;
+import com.app.questofseoul.repository.TourTagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TourDetailReadModelTest {
+
+    private static final Long TOUR_ID = 1L;
+
+    private TourSpotRepository tourSpotRepository;
+    private TourDetailReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        TourRepository tourRepository = mock(TourRepository.class);
+        tourSpotRepository = mock(TourSpotRepository.class);
+        SpotContentStepRepository spotContentStepRepository = mock(SpotContentStepRepository.class);
+        readModel = new TourDetailReadModel(tourRepository, tourSpotRepository, mock(TourTagRepository.class),
+                spotContentStepRepository, mock(SpotAssetRepository.class), mock(TourAssetRepository.class));
+
+        Tour tour = mock(Tour.class);
+        when(tour.getId()).thenReturn(TOUR_ID);
+        when(tour.getDisplayTitle()).thenReturn("경복궁 투어");
+        when(tourRepository.findById(TOUR_ID)).thenReturn(Optional.of(tour));
+        when(tourSpotRepository.findByTourIdOrderByOrderIndexAsc(TOUR_ID)).thenReturn(List.of(
+                spot(11L, SpotType.MAIN, 37.5759, 126.9768),
+                spot(12L, SpotType.SUB, null, null),
+                spot(13L, SpotType.MAIN, 37.5770, 126.9770),
+                spot(14L, SpotType.TREASURE, 37.5765, 126.9769)
+        ));
+        when(spotContentStepRepository.countMissionsByTourId(TOUR_ID, StepKind.MISSION)).thenReturn(3L);
+    }
+
+    @Test
+    void get_buildsCountsMapSpotsAndMissionPathFromOneSpotLoad() {
+        TourDetailReadModel.View view = readModel.get(TOUR_ID);
+
+        assertEquals(2, view.counts().getMain());
+        assertEquals(1, view.counts().getSub());
+        assertEquals(1, view.counts().getTreasure());
+        assertEquals(3, view.counts().getMissions());
+        assertEquals(3, view.progressSpotCount());
+        // 좌표 없는 SUB 스팟은 지도에서 제외, MAIN → SUB → PHOTO → TREASURE 순
+        assertEquals(List.of(11L, 13L, 14L), view.mapSpots().stream().map(m -> m.getSpotId()).toList());
+        assertEquals(List.of(11L, 13L), view.mainMissionPath().stream().map(p -> p.getSpotId()).toList());
+        assertEquals(11L, view.startSpot().getSpotId());
+    }
+
+    @Test
+    void get_cachesUntilSpotOfTourChanges() {
+        TourDetailReadModel.View first = readModel.get(TOUR_ID);
+        assertSame(first, readModel.get(TOUR_ID));
+
+        // 다른 투어의 스팟 변경은 무시
+        readModel.onGuideContentChanged(new GuideContentChangedEvent(99L));
+        assertSame(first, readModel.get(TOUR_ID));
+
+        readModel.onGuideContentChanged(new GuideContentChangedEvent(13L));
+        readModel.get(TOUR_ID);
+
+        verify(tourSpotRepository, times(2)).findByTourIdOrderByOrderIndexAsc(TOUR_ID);
+    }
+
+    private static TourSpot spot(Long id, SpotType type, Double lat, Double lng) {
+        TourSpot spot = mock(TourSpot.class);
+        when(spot.getId()).thenReturn(id);
+        when(spot.getType()).thenReturn(type);
+        when(spot.getTitle()).thenReturn("spot-" + id);
+        when(spot.getLatitude()).thenReturn(lat);
+        when(spot.getLongitude()).thenReturn(lng);
+        return spot;
+    }
+}
@@ -0,0 +1,96 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.config.AiServerProperties;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TourGuideAiServiceTest {
+
+    private HttpServer server;
+    private TourGuideAiService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/tour-guide/chat/stream", exchange -> {
+            byte[] body = ("""
+                    data: {"delta": "광화문은 "}
+
+                    data: {"delta": "경복궁의 정문이에요."}
+
+                    event: done
+                    data: {"text": "광화문은 경복궁의 정문이에요.", "model": "gpt-4o-mini", "promptTokens": 812, "completionTokens": 21}
+
+                    """).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        AiServerProperties properties = new AiServerProperties(
+                "http://localhost:" + server.getAddress().getPort(), true, null, null, null, null);
+        service = new TourGuideAiService(properties, HttpClient.newHttpClient());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void streamResponseAsync_relaysDeltasAndCompletesWithFullText() {
+        List<String> deltas = new CopyOnWriteArrayList<>();
+
+        String text = service.streamResponseAsync("투어: 경복궁", List.of(), deltas::add).join();
+
+        assertEquals(List.of("광화문은 ", "경복궁의 정문이에요."), deltas);
+        assertEquals("광화문은 경복궁의 정문이에요.", text);
+    }
+
+    @Test
+    void streamResponseAsync_reportsModelAndTokenUsageFromDoneEvent() {
+        AtomicReference<AiCallResult> result = new AtomicReference<>();
+
+        service.streamResponseAsync("투어: 경복궁", List.of(), delta -> {}, result::set).join();
+
+        assertEquals("gpt-4o-mini", result.get().model());
+        assertEquals(812, result.get().tokenIn());
+        assertEquals(21, result.get().tokenOut());
+        assertNull(result.get().errorCode());
+    }
+
+    @Test
+    void streamResponseAsync_emitsFallbackOnServerError() {
+        server.createContext("/broken/tour-guide/chat/stream", exchange -> {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        AiServerProperties properties = new AiServerProperties(
+                "http://localhost:" + server.getAddress().getPort() + "/broken", true, null, null, null, null);
+        TourGuideAiService broken = new TourGuideAiService(properties, HttpClient.newHttpClient());
+        List<String> deltas = new CopyOnWriteArrayList<>();
+        AtomicReference<AiCallResult> result = new AtomicReference<>();
+
+        String text = broken.streamResponseAsync("", List.of(), deltas::add, result::set).join();
+
+        assertEquals(List.of(text), deltas);
+        assertEquals("HTTP_500", result.get().errorCode());
+        assertEquals("죄송합니다. 잠시 후 다시 질문해 주세요.", text);
+    }
+}
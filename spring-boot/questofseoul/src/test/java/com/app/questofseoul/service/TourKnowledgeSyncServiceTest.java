@@ -0,0 +1,59 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.repository.TourKnowledgeEmbeddingRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TourKnowledgeSyncServiceTest {
+
+    private static final String NAMESPACE = "openai:text-embedding-3-small:1536";
+
+    @Test
+    void syncPlan_embedsOnlyNewOrChangedDocsAndDeletesOrphans() {
+        var unchanged = TourKnowledgeSyncService.KnowledgeDoc.of(NAMESPACE, "SPOT", 1L, 1L, "스팟: 광화문", "광화문");
+        var changed = TourKnowledgeSyncService.KnowledgeDoc.of(NAMESPACE, "GUIDE_LINE", 10L, 1L, "[광화문] 수정된 설명", "광화문");
+        var added = TourKnowledgeSyncService.KnowledgeDoc.of(NAMESPACE, "GUIDE_LINE", 11L, 1L, "[광화문] 새 설명", "광화문");
+
+        TourKnowledgeSyncService.SyncPlan plan = TourKnowledgeSyncService.SyncPlan.of(
+                List.of(unchanged, changed, added),
+                List.of(
+                        stored(100L, "SPOT", 1L, unchanged.contentHash()),
+                        stored(101L, "GUIDE_LINE", 10L, TourKnowledgeSyncService.sha256(NAMESPACE + "\n[광화문] 이전 설명")),
+                        stored(102L, "GUIDE_LINE", 12L, TourKnowledgeSyncService.sha256(NAMESPACE + "\n[광화문] 삭제된 라인")),
+                        stored(103L, "SPOT", 1L, unchanged.contentHash())
+                ));
+
+        assertEquals(List.of(changed, added), plan.changed());
+        assertEquals(Map.of(changed.key(), 101L), plan.existingIds());
+        assertEquals(List.of(100L, 102L), plan.orphanIds().stream().sorted().toList());
+        assertEquals(1, plan.unchanged());
+    }
+
+    @Test
+    void syncPlan_reembedsUnchangedContentWhenEmbeddingProviderChanges() {
+        var doc = TourKnowledgeSyncService.KnowledgeDoc.of("hashing:v1:1536", "SPOT", 1L, 1L, "스팟: 광화문", "광화문");
+        var before = TourKnowledgeSyncService.KnowledgeDoc.of(NAMESPACE, "SPOT", 1L, 1L, "스팟: 광화문", "광화문");
+
+        TourKnowledgeSyncService.SyncPlan plan = TourKnowledgeSyncService.SyncPlan.of(
+                List.of(doc), List.of(stored(100L, "SPOT", 1L, before.contentHash())));
+
+        assertEquals(List.of(doc), plan.changed());
+        assertEquals(Map.of(doc.key(), 100L), plan.existingIds());
+        assertEquals(0, plan.unchanged());
+    }
+
+    private static TourKnowledgeEmbeddingRepository.SourceHash stored(Long id, String type, Long sourceId, String hash) {
+        TourKnowledgeEmbeddingRepository.SourceHash row = mock(TourKnowledgeEmbeddingRepository.SourceHash.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getSourceType()).thenReturn(type);
+        when(row.getSourceId()).thenReturn(sourceId);
+        when(row.getContentHash()).thenReturn(hash);
+        return row;
+    }
+}
@@ -0,0 +1,85 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.entity.Tour;
+import com.app.questofseoul.domain.enums.SpotType;
+import com.app.questofseoul.domain.enums.StepKind;
+import com.app.questofseoul.event.TourContentChangedEvent;
+import com.app.questofseoul.repository.SpotContentStepRepository;
+import com.app.questofseoul.repository.TourAssetRepository;
+import com.app.questofseoul.repository.TourRepository;
+import com.app.questofseoul.repository.TourSpotRepository;
+import com.app.questofseoul.repository.TourTagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TourListCacheTest {
+
+    private TourRepository tourRepository;
+    private TourListCache cache;
+
+    @BeforeEach
+    void setUp() {
+        tourRepository = mock(TourRepository.class);
+        TourSpotRepository tourSpotRepository = mock(TourSpotRepository.class);
+        SpotContentStepRepository spotContentStepRepository = mock(SpotContentStepRepository.class);
+        cache = new TourListCache(tourRepository, tourSpotRepository, mock(TourTagRepository.class),
+                spotContentStepRepository, mock(TourAssetRepository.class));
+
+        when(tourRepository.findAll()).thenReturn(List.of(tour(1L), tour(2L)));
+        when(tourSpotRepository.countActiveGroupByTourAndType()).thenReturn(List.of(
+                typeCount(1L, SpotType.MAIN, 3),
+                typeCount(1L, SpotType.TREASURE, 2),
+                typeCount(2L, SpotType.SUB, 1)
+        ));
+        SpotContentStepRepository.TourStepCount missions = mock(SpotContentStepRepository.TourStepCount.class);
+        when(missions.getTourId()).thenReturn(1L);
+        when(missions.getCount()).thenReturn(4L);
+        when(spotContentStepRepository.countGroupByTourId(StepKind.MISSION)).thenReturn(List.of(missions));
+    }
+
+    @Test
+    void get_distributesGroupedCountsPerTour() {
+        List<TourListCache.Entry> entries = cache.get();
+
+        assertEquals(3, entries.get(0).counts().getMain());
+        assertEquals(2, entries.get(0).counts().getTreasure());
+        assertEquals(4, entries.get(0).counts().getMissions());
+        assertEquals(0, entries.get(1).counts().getMain());
+        assertEquals(1, entries.get(1).counts().getSub());
+        assertEquals(0, entries.get(1).counts().getMissions());
+    }
+
+    @Test
+    void get_cachesUntilAdminChangeCommitted() {
+        List<TourListCache.Entry> first = cache.get();
+        assertSame(first, cache.get());
+
+        cache.onTourContentChanged(new TourContentChangedEvent(1L));
+        cache.get();
+
+        verify(tourRepository, times(2)).findAll();
+    }
+
+    private static Tour tour(Long id) {
+        Tour tour = mock(Tour.class);
+        when(tour.getId()).thenReturn(id);
+        return tour;
+    }
+
+    private static TourSpotRepository.TourTypeCount typeCount(Long tourId, SpotType type, long count) {
+        TourSpotRepository.TourTypeCount c = mock(TourSpotRepository.TourTypeCount.class);
+        when(c.getTourId()).thenReturn(tourId);
+        when(c.getType()).thenReturn(type);
+        when(c.getCount()).thenReturn(count);
+        return c;
+    }
+}
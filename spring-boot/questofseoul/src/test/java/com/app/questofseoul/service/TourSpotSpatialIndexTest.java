@@ -0,0 +1,92 @@
+package com.app.questofseoul.service;
+
+import com.app.questofseoul.domain.entity.TourSpot;
+import com.app.questofseoul.domain.enums.SpotType;
+import com.app.questofseoul.repository.TourSpotRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TourSpotSpatialIndexTest {
+
+    // 경복궁 광화문 인근
+    private static final double BASE_LAT = 37.5759;
+    private static final double BASE_LNG = 126.9768;
+
+    @Test
+    void findContaining_returnsSpotsWhoseRadiusContainsPoint_inRouteOrder() {
+        TourSpotSpatialIndex.TourSpotGrid grid = TourSpotSpatialIndex.build(List.of(
+                spot(1L, SpotType.MAIN, BASE_LAT, BASE_LNG, 50, 0),
+                spot(2L, SpotType.TREASURE, BASE_LAT + 0.0002, BASE_LNG, 50, 1),
+                spot(3L, SpotType.PHOTO, BASE_LAT + 0.01, BASE_LNG, 50, 2)
+        ));
+
+        List<TourSpotSpatialIndex.SpotHit> hits = grid.findContaining(BASE_LAT + 0.0001, BASE_LNG);
+
+        assertEquals(List.of(1L, 2L), hits.stream().map(h -> h.spot().spotId()).toList());
+        assertTrue(hits.get(0).distanceM() < 50);
+    }
+
+    @Test
+    void findContaining_matchesLargeRadiusAcrossCellBoundaries() {
+        TourSpotSpatialIndex.TourSpotGrid grid = TourSpotSpatialIndex.build(List.of(
+                spot(1L, SpotType.SUB, BASE_LAT, BASE_LNG, 1000, 0)
+        ));
+
+        // 약 550m 북쪽 (여러 셀 떨어진 위치)
+        List<TourSpotSpatialIndex.SpotHit> hits = grid.findContaining(BASE_LAT + 0.005, BASE_LNG);
+        List<TourSpotSpatialIndex.SpotHit> misses = grid.findContaining(BASE_LAT + 0.02, BASE_LNG);
+
+        assertEquals(1, hits.size());
+        assertTrue(misses.isEmpty());
+    }
+
+    @Test
+    void build_keepsRouteOrderForSpotsWithoutCoordinates() {
+        TourSpotSpatialIndex.TourSpotGrid grid = TourSpotSpatialIndex.build(List.of(
+                spot(1L, SpotType.MAIN, null, null, 50, 0),
+                spot(2L, SpotType.PHOTO, BASE_LAT, BASE_LNG, 50, 1),
+                spot(3L, SpotType.SUB, BASE_LAT, BASE_LNG, 50, 2)
+        ));
+
+        assertEquals(List.of(1L, 3L), grid.routeSpotIds());
+        assertEquals(List.of(2L, 3L), grid.findContaining(BASE_LAT, BASE_LNG).stream()
+                .map(h -> h.spot().spotId()).toList());
+    }
+
+    @Test
+    void get_cachesPerTourUntilEvicted() {
+        TourSpotRepository repository = mock(TourSpotRepository.class);
+        when(repository.findByTourIdOrderByOrderIndexAsc(7L))
+                .thenReturn(List.of(spot(1L, SpotType.MAIN, BASE_LAT, BASE_LNG, 50, 0)));
+        TourSpotSpatialIndex index = new TourSpotSpatialIndex(repository);
+
+        TourSpotSpatialIndex.TourSpotGrid first = index.get(7L);
+        assertSame(first, index.get(7L));
+
+        index.evict(7L);
+        index.get(7L);
+
+        verify(repository, times(2)).findByTourIdOrderByOrderIndexAsc(7L);
+    }
+
+    private static TourSpot spot(Long id, SpotType type, Double lat, Double lng, int radiusM, int orderIndex) {
+        TourSpot spot = mock(TourSpot.class);
+        when(spot.getId()).thenReturn(id);
+        when(spot.getType()).thenReturn(type);
+        when(spot.getTitle()).thenReturn("spot-" + id);
+        when(spot.getLatitude()).thenReturn(lat);
+        when(spot.getLongitude()).thenReturn(lng);
+        when(spot.getRadiusM()).thenReturn(radiusM);
+        when(spot.getOrderIndex()).thenReturn(orderIndex);
+        return spot;
+    }
+}
@@ -0,0 +1,78 @@
+package com.app.questofseoul.service;
+
+import com.pgvector.PGvector;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VectorSearchServiceTest {
+
+    @Test
+    void search_bindsTypedVectorAndAppliesFiltersWithEfSearch() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        EmbeddingService embeddingService = mock(EmbeddingService.class);
+        when(embeddingService.embed("근정전 건립 연도")).thenReturn(new float[]{0.1f, 0.2f});
+        VectorSearchService service = new VectorSearchService(jdbcTemplate, embeddingService,
+                new DirectTransactionTemplate(), 100, "full", 4);
+
+        service.search("근정전 건립 연도", 1L, null, "GUIDE_LINE", 5);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).execute("SET LOCAL hnsw.ef_search = 100");
+        verify(jdbcTemplate).query(sql.capture(), any(RowMapper.class), args.capture());
+        assertTrue(sql.getValue().contains("tour_id = ?"));
+        assertTrue(sql.getValue().contains("source_type = ?"));
+        assertFalse(sql.getValue().contains("spot_id = ?"));
+        assertFalse(sql.getValue().contains("::vector"));
+        Object[] bound = args.getValue();
+        assertInstanceOf(PGvector.class, bound[0]);
+        assertEquals(1L, bound[1]);
+        assertEquals("GUIDE_LINE", bound[2]);
+        assertEquals(5, bound[3]);
+    }
+
+    @Test
+    void search_binaryIndexOverfetchesCandidatesAndReranksWithFullVector() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        EmbeddingService embeddingService = mock(EmbeddingService.class);
+        when(embeddingService.embed("근정전 건립 연도")).thenReturn(new float[]{0.1f, 0.2f});
+        VectorSearchService service = new VectorSearchService(jdbcTemplate, embeddingService,
+                new DirectTransactionTemplate(), 40, "binary", 10);
+
+        service.search("근정전 건립 연도", 1L, null, null, 5);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).execute("SET LOCAL hnsw.ef_search = 50");
+        verify(jdbcTemplate).query(sql.capture(), any(RowMapper.class), args.capture());
+        assertTrue(sql.getValue().contains("ORDER BY binary_quantize(embedding)::bit(1536) <~> binary_quantize(?) LIMIT ?"));
+        Object[] bound = args.getValue();
+        assertInstanceOf(PGvector.class, bound[0]);
+        assertEquals(1L, bound[1]);
+        assertInstanceOf(PGvector.class, bound[2]);
+        assertEquals(50, bound[3]);
+        assertEquals(5, bound[4]);
+    }
+
+    /** 콜백을 바로 실행하는 TransactionTemplate */
+    private static class DirectTransactionTemplate extends TransactionTemplate {
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            return action.doInTransaction(new SimpleTransactionStatus());
+        }
+    }
+}